@@ -11,12 +11,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.QueryResults;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.ObjectifyService;
 import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.util.Closeable;
 
 import teammates.client.connector.DatastoreClient;
 import teammates.client.util.ClientProperties;
@@ -29,11 +39,14 @@ import teammates.test.FileHelper;
  *
  * <ul>
  * <li>Supports full scan of entities without {@code OutOfMemoryError}.</li>
+ * <li>Supports splitting the entities into partitions by key range, which are migrated in parallel
+ * (see {@link #getPartitionQueries()}).</li>
  * <li>Supports automatic continuation from the last failure point (Checkpoint
- * feature).</li>
+ * feature), separately for each partition.</li>
  * <li>Supports transaction between {@link #isMigrationNeeded(BaseEntity)} and
  * {@link #migrateEntity(BaseEntity)}.</li>
- * <li>Supports batch saving if transaction is not used.</li>
+ * <li>Supports batch saving if transaction is not used. A batch is saved while the next one is being read.</li>
+ * <li>Reports the throughput and the lag of saving behind reading periodically.</li>
  * </ul>
  *
  * @param <E> The datastore entity type to be migrated by the script.
@@ -44,17 +57,35 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
         extends DatastoreClient {
 
     /* NOTE
-     * Before running the migration, please enable hibernate.jdbc.batch_size, hibernate.order_updates,
-     * hibernate.batch_versioned_data, hibernate.jdbc.fetch_size in HibernateUtil.java
-     * for optimized batch-insertion, batch-update and batch-fetching. Also, verify that your schema
-     * meets the conditions for them.
+     * Batch-insertion, batch-update and batch-fetching are enabled in HibernateUtil.java.
+     * Before running the migration, consider raising app.postgres.batchsize and app.postgres.fetchsize
+     * in build.properties to match BATCH_SIZE. Also, verify that your schema meets the conditions for them.
+     * Each thread holds its own database connection, so the number of threads should stay below the size
+     * of the connection pool.
     */
 
+    /**
+     * Split points which divide hexadecimal key names, e.g. UUIDs, into 16 partitions of similar size.
+     */
+    protected static final List<String> HEXADECIMAL_SPLIT_POINTS = List.of(
+            "1", "2", "3", "4", "5", "6", "7", "8", "9", "a", "b", "c", "d", "e", "f");
+
+    /**
+     * Split points which divide key names starting with a letter or a digit, e.g. emails and Google IDs,
+     * into 12 partitions.
+     */
+    protected static final List<String> ALPHANUMERIC_SPLIT_POINTS = List.of(
+            "A", "a", "c", "e", "g", "j", "l", "n", "p", "s", "u");
+
     // the folder where the cursor position and console output is saved as a file
     private static final String BASE_LOG_URI = "src/client/java/teammates/client/scripts/log/";
 
     private static final int BATCH_SIZE = 1000;
 
+    private static final int DEFAULT_NUMBER_OF_THREADS = 8;
+
+    private static final long PROGRESS_REPORT_INTERVAL_SECONDS = 30;
+
     // Creates the folder that will contain the stored log.
     static {
         new File(BASE_LOG_URI).mkdir();
@@ -64,16 +95,14 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     AtomicLong numberOfScannedKey;
     AtomicLong numberOfUpdatedEntities;
 
-    // buffer of entities to save
-    private List<T> entitiesSavingBuffer;
+    // buffer of entities to save, kept separately by each thread reading a partition
+    private final ThreadLocal<SavingBuffer> entitiesSavingBuffer = ThreadLocal.withInitial(SavingBuffer::new);
 
     public DataMigrationEntitiesBaseScriptSql() {
         numberOfAffectedEntities = new AtomicLong();
         numberOfScannedKey = new AtomicLong();
         numberOfUpdatedEntities = new AtomicLong();
 
-        entitiesSavingBuffer = new ArrayList<>();
-
         String connectionUrl = ClientProperties.SCRIPT_API_URL;
         String username = ClientProperties.SCRIPT_API_NAME;
         String password = ClientProperties.SCRIPT_API_PASSWORD;
@@ -86,6 +115,53 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
      */
     protected abstract Query<E> getFilterQuery();
 
+    /**
+     * Gets the queries for the partitions of the entities that need data migration, which are migrated in parallel.
+     *
+     * <p>By default, all entities are migrated as a single partition. The partitions must not overlap,
+     * e.g. by covering separate key ranges as done in {@link #partitionByKeyName(Class, List)}.
+     * The partitions must not be changed while there are checkpoints left by an unfinished migration.
+     */
+    protected List<Query<E>> getPartitionQueries() {
+        return List.of(getFilterQuery());
+    }
+
+    /**
+     * Splits {@link #getFilterQuery()} into partitions by the name of the entity key.
+     *
+     * <p>The first partition covers the key names before the first split point, the last partition covers
+     * the key names from the last split point onwards. As a key inequality filter is added to the query,
+     * the query must not have an inequality filter on any other property.
+     */
+    protected List<Query<E>> partitionByKeyName(Class<E> entityClass, List<String> splitPoints) {
+        List<Query<E>> partitionQueries = new ArrayList<>();
+        for (int i = 0; i <= splitPoints.size(); i++) {
+            Query<E> partitionQuery = getFilterQuery();
+            if (i > 0) {
+                partitionQuery = partitionQuery.filterKey(">=", Key.create(entityClass, splitPoints.get(i - 1)));
+            }
+            if (i < splitPoints.size()) {
+                partitionQuery = partitionQuery.filterKey("<", Key.create(entityClass, splitPoints.get(i)));
+            }
+            partitionQueries.add(partitionQuery);
+        }
+        return partitionQueries;
+    }
+
+    /**
+     * Gets the number of partitions which are migrated at the same time.
+     */
+    protected int getNumberOfThreads() {
+        return DEFAULT_NUMBER_OF_THREADS;
+    }
+
+    /**
+     * Gets the number of entities read from a partition before they are saved and the partition is checkpointed.
+     */
+    protected int getBatchSize() {
+        return BATCH_SIZE;
+    }
+
     /**
      * If true, the script will not perform actual data migration.
      */
@@ -100,8 +176,7 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     /**
      * Checks whether data migration is needed.
      *
-     * <p>Causation: this method might be called in multiple threads if using
-     * transaction.
+     * <p>Causation: this method is called in multiple threads, one for each partition being migrated.
      * </p>
      */
     protected abstract boolean isMigrationNeeded(E entity);
@@ -109,8 +184,7 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     /**
      * Migrates the entity.
      *
-     * <p>Causation: this method might be called in multiple threads if using
-     * transaction.
+     * <p>Causation: this method is called in multiple threads, one for each partition being migrated.
      * </p>
      */
     protected abstract void migrateEntity(E oldEntity) throws Exception;
@@ -183,62 +257,148 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void doOperation() {
         log("Running " + getClass().getSimpleName() + "...");
         log("Preview: " + isPreview());
         setMigrationCriteria();
 
-        Cursor cursor = readPositionOfCursorFromFile().orElse(null);
-        if (cursor == null) {
-            log("Start from the beginning");
-        } else {
-            log("Start from cursor position: " + cursor.toUrlSafe());
+        int numberOfPartitions = getPartitionQueries().size();
+        List<Partition> partitions = new ArrayList<>();
+        for (int i = 0; i < numberOfPartitions; i++) {
+            Partition partition = new Partition(i, numberOfPartitions);
+            partitions.add(partition);
+            if (partition.startCursor == null) {
+                log(partition + ": Start from the beginning");
+            } else {
+                log(partition + ": Start from cursor position: " + partition.startCursor.toUrlSafe());
+            }
         }
 
+        int numberOfThreads = Math.min(getNumberOfThreads(), partitions.size());
+        log(String.format("Migrating %d partition(s) with %d thread(s)", partitions.size(), numberOfThreads));
+
+        // partitions are read and saved by separate threads, so that saving a batch does not hold up reading the next
+        ExecutorService readers = Executors.newFixedThreadPool(numberOfThreads);
+        ExecutorService writers = Executors.newFixedThreadPool(numberOfThreads);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        ProgressReport progressReport = new ProgressReport(partitions);
+        reporter.scheduleAtFixedRate(progressReport::log,
+                PROGRESS_REPORT_INTERVAL_SECONDS, PROGRESS_REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        List<Future<?>> partitionResults = new ArrayList<>();
+        for (Partition partition : partitions) {
+            partitionResults.add(readers.submit(() -> migratePartition(partition, writers)));
+        }
+
+        boolean isCompleted = true;
+        for (int i = 0; i < partitions.size(); i++) {
+            try {
+                partitionResults.get(i).get();
+            } catch (ExecutionException e) {
+                isCompleted = false;
+                logError(partitions.get(i) + ": Migration stopped: " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                isCompleted = false;
+                logError(partitions.get(i) + ": Migration interrupted");
+            }
+        }
+        readers.shutdown();
+        writers.shutdown();
+        reporter.shutdownNow();
+        progressReport.log();
+
+        if (!isCompleted) {
+            log("Migration not completed! Run the script again to continue from the last checkpoint of each partition.");
+            return;
+        }
+
+        partitions.forEach(partition -> deleteCursorPositionFile(partition.getCursorFileName()));
+        log(isPreview() ? "Preview Completed!" : "Migration Completed!");
+        log("Total number of entities: " + numberOfScannedKey.get());
+        log("Number of affected entities: " + numberOfAffectedEntities.get());
+        log("Number of updated entities: " + numberOfUpdatedEntities.get());
+    }
+
+    /**
+     * Migrates the entities of a partition batch by batch.
+     *
+     * <p>Each batch is saved by one of the {@code writers} while the next batch is being read.
+     * The cursor after a batch is checkpointed only after the batch has been saved.
+     */
+    @SuppressWarnings("unchecked")
+    private void migratePartition(Partition partition, ExecutorService writers) {
+        // drops entities left behind by a partition which failed earlier in the same thread
+        entitiesSavingBuffer.remove();
+        Cursor cursor = partition.startCursor;
+        Future<?> pendingSave = CompletableFuture.completedFuture(null);
+
         boolean shouldContinue = true;
         while (shouldContinue) {
             shouldContinue = false;
-            Query<E> filterQueryKeys = getFilterQuery().limit(BATCH_SIZE);
-            if (cursor != null) {
-                filterQueryKeys = filterQueryKeys.startAt(cursor);
-            }
-            QueryResults<?> iterator;
-            if (shouldUseTransaction()) {
-                iterator = filterQueryKeys.keys().iterator();
-            } else {
-                iterator = filterQueryKeys.iterator();
-            }
-
-            while (iterator.hasNext()) {
-                shouldContinue = true;
 
-                // migrate
+            // each batch is read in a new Objectify session, so that the session cache does not keep growing
+            try (Closeable ignored = ObjectifyService.begin()) {
+                Query<E> filterQueryKeys = getPartitionQueries().get(partition.index).limit(getBatchSize());
+                if (cursor != null) {
+                    filterQueryKeys = filterQueryKeys.startAt(cursor);
+                }
+                QueryResults<?> iterator;
                 if (shouldUseTransaction()) {
-                    migrateWithTrx((Key<E>) iterator.next());
+                    iterator = filterQueryKeys.keys().iterator();
                 } else {
-                    migrateWithoutTrx((E) iterator.next());
+                    iterator = filterQueryKeys.iterator();
                 }
 
-                numberOfScannedKey.incrementAndGet();
+                while (iterator.hasNext()) {
+                    shouldContinue = true;
+
+                    // migrate
+                    if (shouldUseTransaction()) {
+                        migrateWithTrx((Key<E>) iterator.next());
+                    } else {
+                        migrateWithoutTrx((E) iterator.next());
+                    }
+
+                    numberOfScannedKey.incrementAndGet();
+                    partition.numberOfScannedKey.incrementAndGet();
+                }
+
+                if (shouldContinue) {
+                    cursor = iterator.getCursorAfter();
+                }
             }
 
             if (shouldContinue) {
-                cursor = iterator.getCursorAfter();
-                flushEntitiesSavingBuffer();
-                savePositionOfCursorToFile(cursor);
-                log(String.format("Cursor Position: %s", cursor.toUrlSafe()));
-                log(String.format("Number Of Entity Key Scanned: %d", numberOfScannedKey.get()));
-                log(String.format("Number Of Entity affected: %d", numberOfAffectedEntities.get()));
-                log(String.format("Number Of Entity updated: %d", numberOfUpdatedEntities.get()));
+                SavingBuffer batch = entitiesSavingBuffer.get();
+                entitiesSavingBuffer.remove();
+
+                // at most one batch of the partition is being saved, so that checkpoints are saved in order
+                waitForSave(pendingSave);
+                Cursor checkpoint = cursor;
+                long numberOfScannedKeyAtCheckpoint = partition.numberOfScannedKey.get();
+                pendingSave = writers.submit(() -> {
+                    flushEntitiesSavingBuffer(batch);
+                    savePositionOfCursorToFile(partition.getCursorFileName(), checkpoint);
+                    partition.checkpoint(numberOfScannedKeyAtCheckpoint);
+                });
             }
         }
 
-        deleteCursorPositionFile();
-        log(isPreview() ? "Preview Completed!" : "Migration Completed!");
-        log("Total number of entities: " + numberOfScannedKey.get());
-        log("Number of affected entities: " + numberOfAffectedEntities.get());
-        log("Number of updated entities: " + numberOfUpdatedEntities.get());
+        waitForSave(pendingSave);
+        partition.isCompleted.set(true);
+        log(partition + ": Completed");
+    }
+
+    private static void waitForSave(Future<?> pendingSave) {
+        try {
+            pendingSave.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to save batch", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while saving batch", e);
+        }
     }
 
     /**
@@ -248,38 +408,58 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
         if (shouldUseTransaction()) {
             throw new RuntimeException("Batch saving is not supported for transaction!");
         }
-        entitiesSavingBuffer.add(entity);
+        entitiesSavingBuffer.get().sqlEntities.add(entity);
+    }
+
+    /**
+     * Stores the datastore entity to save in a buffer and saves it after the SQL entities of the same batch,
+     * e.g. to mark the entity as migrated.
+     */
+    protected void saveDatastoreEntityDeferred(E entity) {
+        if (shouldUseTransaction()) {
+            throw new RuntimeException("Batch saving is not supported for transaction!");
+        }
+        entitiesSavingBuffer.get().datastoreEntities.add(entity);
     }
 
     /**
      * Flushes the saving buffer by issuing Cloud SQL save request.
      */
-    private void flushEntitiesSavingBuffer() {
-        if (!entitiesSavingBuffer.isEmpty() && !isPreview()) {
-            log("Saving entities in batch..." + entitiesSavingBuffer.size());
+    private void flushEntitiesSavingBuffer(SavingBuffer buffer) {
+        if (!buffer.sqlEntities.isEmpty() && !isPreview()) {
+            log("Saving entities in batch..." + buffer.sqlEntities.size());
 
             long startTime = System.currentTimeMillis();
             HibernateUtil.beginTransaction();
-            for (T entity : entitiesSavingBuffer) {
-                HibernateUtil.persist(entity);
-            }
+            try {
+                for (T entity : buffer.sqlEntities) {
+                    HibernateUtil.persist(entity);
+                }
 
-            HibernateUtil.flushSession();
-            HibernateUtil.clearSession();
-            HibernateUtil.commitTransaction();
+                HibernateUtil.flushSession();
+                HibernateUtil.clearSession();
+                HibernateUtil.commitTransaction();
+            } catch (RuntimeException e) {
+                HibernateUtil.rollbackTransaction();
+                throw e;
+            }
             long endTime = System.currentTimeMillis();
-            log("Flushing " + entitiesSavingBuffer.size() + " took " + (endTime - startTime) + " milliseconds");
+            log("Flushing " + buffer.sqlEntities.size() + " took " + (endTime - startTime) + " milliseconds");
+        }
+
+        if (!buffer.datastoreEntities.isEmpty() && !isPreview()) {
+            try (Closeable ignored = ObjectifyService.begin()) {
+                ofy().save().entities(buffer.datastoreEntities).now();
+            }
         }
-        entitiesSavingBuffer.clear();
     }
 
     /**
      * Saves the cursor position to a file so it can be used in the next run.
      */
-    private void savePositionOfCursorToFile(Cursor cursor) {
+    private void savePositionOfCursorToFile(String cursorFileName, Cursor cursor) {
         try {
-            FileHelper.saveFile(
-                    BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor", cursor.toUrlSafe());
+            FileHelper.saveFile(BASE_LOG_URI + cursorFileName, cursor.toUrlSafe());
         } catch (IOException e) {
             logError("Fail to save cursor position " + e.getMessage());
         }
@@ -290,9 +470,9 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
      *
      * @return cursor if the file can be properly decoded.
      */
-    private Optional<Cursor> readPositionOfCursorFromFile() {
+    private Optional<Cursor> readPositionOfCursorFromFile(String cursorFileName) {
         try {
-            String cursorPosition = FileHelper.readFile(BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor");
+            String cursorPosition = FileHelper.readFile(BASE_LOG_URI + cursorFileName);
             return Optional.of(Cursor.fromUrlSafe(cursorPosition));
         } catch (IOException | IllegalArgumentException e) {
             return Optional.empty();
@@ -302,14 +482,14 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     /**
      * Deletes the cursor position file.
      */
-    private void deleteCursorPositionFile() {
-        FileHelper.deleteFile(BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor");
+    private void deleteCursorPositionFile(String cursorFileName) {
+        FileHelper.deleteFile(BASE_LOG_URI + cursorFileName);
     }
 
     /**
      * Logs a line and persists it to the disk.
      */
-    protected void log(String logLine) {
+    protected synchronized void log(String logLine) {
         System.out.println(String.format("%s %s", getLogPrefix(), logLine));
 
         Path logPath = Paths.get(BASE_LOG_URI + this.getClass().getSimpleName() + ".log");
@@ -401,4 +581,101 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
                 .replace("&amp;", "&");
     }
 
+
+    /**
+     * Entities read from a partition which are to be saved together.
+     */
+    private final class SavingBuffer {
+
+        private final List<T> sqlEntities = new ArrayList<>();
+        private final List<E> datastoreEntities = new ArrayList<>();
+
+    }
+
+    /**
+     * A range of the entities to migrate, which is read in its own thread and has its own checkpoint.
+     * Its query is created in that thread, as an Objectify query is bound to the session it is created in.
+     */
+    private final class Partition {
+
+        private final int index;
+        private final int numberOfPartitions;
+        private final Cursor startCursor;
+        private final AtomicLong numberOfScannedKey = new AtomicLong();
+        private final AtomicLong numberOfCheckpointedKey = new AtomicLong();
+        private final AtomicLong lastCheckpointTime = new AtomicLong(System.currentTimeMillis());
+        private final AtomicBoolean isCompleted = new AtomicBoolean();
+
+        Partition(int index, int numberOfPartitions) {
+            this.index = index;
+            this.numberOfPartitions = numberOfPartitions;
+            this.startCursor = readPositionOfCursorFromFile(getCursorFileName()).orElse(null);
+        }
+
+        /**
+         * Returns the name of the checkpoint file. A script with a single partition keeps the file name
+         * used before partitioning was supported, so that its old checkpoint can still be used.
+         */
+        String getCursorFileName() {
+            String scriptName = DataMigrationEntitiesBaseScriptSql.this.getClass().getSimpleName();
+            return numberOfPartitions == 1 ? scriptName + ".cursor" : scriptName + "." + index + ".cursor";
+        }
+
+        void checkpoint(long numberOfScannedKeyAtCheckpoint) {
+            numberOfCheckpointedKey.set(numberOfScannedKeyAtCheckpoint);
+            lastCheckpointTime.set(System.currentTimeMillis());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Partition %d/%d", index + 1, numberOfPartitions);
+        }
+
+    }
+
+    /**
+     * Logs the overall throughput and the progress of each partition.
+     *
+     * <p>The lag of a partition is the number of entities which have been read but not checkpointed yet,
+     * and the time since its last checkpoint.
+     */
+    private final class ProgressReport {
+
+        private final List<Partition> partitions;
+        private final long startTime = System.currentTimeMillis();
+        private long lastReportTime = startTime;
+        private long lastReportedNumberOfScannedKey;
+
+        ProgressReport(List<Partition> partitions) {
+            this.partitions = partitions;
+        }
+
+        synchronized void log() {
+            long now = System.currentTimeMillis();
+            long scanned = numberOfScannedKey.get();
+            double recentThroughput =
+                    (scanned - lastReportedNumberOfScannedKey) * 1000.0 / Math.max(1, now - lastReportTime);
+            double overallThroughput = scanned * 1000.0 / Math.max(1, now - startTime);
+            lastReportTime = now;
+            lastReportedNumberOfScannedKey = scanned;
+
+            DataMigrationEntitiesBaseScriptSql.this.log(String.format(
+                    "Progress: %d scanned, %d affected, %d updated, %.1f entities/s recently, %.1f entities/s overall",
+                    scanned, numberOfAffectedEntities.get(), numberOfUpdatedEntities.get(),
+                    recentThroughput, overallThroughput));
+            for (Partition partition : partitions) {
+                long partitionScanned = partition.numberOfScannedKey.get();
+                if (partition.isCompleted.get()) {
+                    DataMigrationEntitiesBaseScriptSql.this.log(
+                            String.format("%s: %d scanned, completed", partition, partitionScanned));
+                    continue;
+                }
+                DataMigrationEntitiesBaseScriptSql.this.log(String.format(
+                        "%s: %d scanned, lag of %d entities and %d s since last checkpoint",
+                        partition, partitionScanned, partitionScanned - partition.numberOfCheckpointedKey.get(),
+                        (now - partition.lastCheckpointTime.get()) / 1000));
+            }
+        }
+
+    }
 }
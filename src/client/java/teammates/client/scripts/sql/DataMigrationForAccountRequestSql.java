@@ -1,6 +1,8 @@
 package teammates.client.scripts.sql;
 
 // CHECKSTYLE.OFF:ImportOrder
+import java.util.List;
+
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AccountRequestStatus;
@@ -27,6 +29,12 @@ public class DataMigrationForAccountRequestSql
         return ofy().load().type(teammates.storage.entity.AccountRequest.class);
     }
 
+    @Override
+    protected List<Query<teammates.storage.entity.AccountRequest>> getPartitionQueries() {
+        // account request IDs start with the email
+        return partitionByKeyName(teammates.storage.entity.AccountRequest.class, ALPHANUMERIC_SPLIT_POINTS);
+    }
+
     /**
      * Set to true to preview the migration without actually performing it.
      */
@@ -1,5 +1,6 @@
 package teammates.client.scripts.sql;
 
+import java.util.List;
 import java.util.UUID;
 
 import com.googlecode.objectify.cmd.Query;
@@ -23,6 +24,12 @@ public class DataMigrationForNotificationSql extends
         return ofy().load().type(teammates.storage.entity.Notification.class);
     }
 
+    @Override
+    protected List<Query<Notification>> getPartitionQueries() {
+        // notification IDs are UUIDs
+        return partitionByKeyName(Notification.class, HEXADECIMAL_SPLIT_POINTS);
+    }
+
     @Override
     protected boolean isPreview() {
         return false;
@@ -1,6 +1,9 @@
 package teammates.client.scripts.statistics;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
@@ -12,6 +15,8 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
@@ -37,6 +42,9 @@ import teammates.test.FileHelper;
 
 /**
  * File storage service that saves stats/cache to encrypted/unencrypted files.
+ *
+ * <p>Stats counted exactly are saved as JSON. Stats counted approximately are saved in a compressed binary format,
+ * as their email sketches have a fixed size and are mostly empty for small institutes.
  */
 public final class FileStore {
 
@@ -49,6 +57,9 @@ public final class FileStore {
 
     private static final String INSTITUTES_STATS_FILEPATH = BASE_URI + "InstitutesStats.encrypted";
     private static final String INSTITUTES_STATS_METADATA_FILEPATH = BASE_URI + "InstitutesStatsMetadata.json";
+    private static final String INSTITUTES_STATS_SKETCHES_FILEPATH = BASE_URI + "InstitutesStatsSketches.encrypted";
+
+    private static final int SKETCHES_FORMAT_VERSION = 1;
 
     private FileStore() {
         // utility class
@@ -69,8 +80,13 @@ public final class FileStore {
 
         // parse institutesStats
         File institutesStatsFile = new File(INSTITUTES_STATS_FILEPATH);
+        File institutesStatsSketchesFile = new File(INSTITUTES_STATS_SKETCHES_FILEPATH);
         Map<String, StatisticsBundle.InstituteStats> institutesStats = new HashMap<>();
-        if (institutesStatsFile.isFile()) {
+        if (metadata.isApproximateCounting()) {
+            if (institutesStatsSketchesFile.isFile()) {
+                institutesStats = parseEncryptedSketchesFile(INSTITUTES_STATS_SKETCHES_FILEPATH);
+            }
+        } else if (institutesStatsFile.isFile()) {
             institutesStats = parseEncryptedJsonFile(INSTITUTES_STATS_FILEPATH,
                     jsonReader -> getSerializer().fromJson(jsonReader,
                         new TypeToken<Map<String, StatisticsBundle.InstituteStats>>(){}.getType()));
@@ -88,13 +104,61 @@ public final class FileStore {
      * Encrypts and persists the statistics bundle to the disk.
      */
     public static void saveStatisticsBundleToFile(StatisticsBundle statisticsBundle) throws Exception {
+        // save institutesStats before the metadata, so that the metadata never refers to stats which are not saved
+        if (statisticsBundle.isApproximateCounting()) {
+            saveEncryptedSketchesToFile(INSTITUTES_STATS_SKETCHES_FILEPATH, statisticsBundle.getInstitutesStats());
+        } else {
+            saveEncryptedJsonToFile(INSTITUTES_STATS_FILEPATH, statisticsBundle.getInstitutesStats(),
+                    new TypeToken<Map<String, StatisticsBundle.InstituteStats>>(){}.getType());
+        }
+
         // save metadata
         FileHelper.saveFile(INSTITUTES_STATS_METADATA_FILEPATH,
                 getSerializer().toJson(statisticsBundle.getInstitutesStatsMetadata()));
 
-        // save institutesStats
-        saveEncryptedJsonToFile(INSTITUTES_STATS_FILEPATH, statisticsBundle.getInstitutesStats(),
-                new TypeToken<Map<String, StatisticsBundle.InstituteStats>>(){}.getType());
+        if (statisticsBundle.isApproximateCounting()) {
+            // the emails counted exactly before have been added to the sketches
+            FileHelper.deleteFile(INSTITUTES_STATS_FILEPATH);
+        }
+    }
+
+    private static void saveEncryptedSketchesToFile(String fileName,
+            Map<String, StatisticsBundle.InstituteStats> institutesStats) throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+
+        try (OutputStream os = Files.newOutputStream(Paths.get(fileName));
+                DataOutputStream out = new DataOutputStream(
+                        new GZIPOutputStream(new CipherOutputStream(os, cipher)))) {
+            out.writeInt(SKETCHES_FORMAT_VERSION);
+            out.writeInt(institutesStats.size());
+            for (StatisticsBundle.InstituteStats instituteStats : institutesStats.values()) {
+                instituteStats.writeSketchesTo(out);
+            }
+        }
+    }
+
+    private static Map<String, StatisticsBundle.InstituteStats> parseEncryptedSketchesFile(String fileName)
+            throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, sks);
+
+        try (InputStream is = Files.newInputStream(Paths.get(fileName));
+                DataInputStream in = new DataInputStream(new GZIPInputStream(new CipherInputStream(is, cipher)))) {
+            int formatVersion = in.readInt();
+            if (formatVersion != SKETCHES_FORMAT_VERSION) {
+                throw new IOException("Unsupported format version of " + fileName + ": " + formatVersion);
+            }
+            int numberOfInstitutes = in.readInt();
+            Map<String, StatisticsBundle.InstituteStats> institutesStats = new HashMap<>();
+            for (int i = 0; i < numberOfInstitutes; i++) {
+                StatisticsBundle.InstituteStats instituteStats = StatisticsBundle.InstituteStats.readSketchesFrom(in);
+                institutesStats.put(instituteStats.getName(), instituteStats);
+            }
+            return institutesStats;
+        }
     }
 
     private static <T> void saveEncryptedJsonToFile(String fileName, T object, Type typeOfObject) throws Exception {
@@ -0,0 +1,146 @@
+package teammates.client.scripts.statistics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct strings added to it using a fixed amount of memory.
+ *
+ * <p>Sketches of the same precision can be merged; the merged sketch estimates the number of distinct strings
+ * added to any of them. The standard error of the estimate is about {@code 1.04 / sqrt(2^precision)}.
+ */
+public final class HyperLogLog {
+
+    /**
+     * Uses 4096 one-byte registers, giving a standard error of about 1.6%.
+     */
+    public static final int DEFAULT_PRECISION = 12;
+
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION
+                    + ", but found: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Adds {@code value} to the sketch.
+     */
+    public void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // the remaining bits are padded with a set bit, so that the rank fits in the register
+        long remainingBits = (hash << precision) | (1L << (precision - 1));
+        int rank = Long.numberOfLeadingZeros(remainingBits) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges {@code other} into this sketch.
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of precision " + other.precision
+                    + " into a sketch of precision " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Estimates the number of distinct strings added to the sketch.
+     */
+    public long estimate() {
+        int numberOfRegisters = registers.length;
+        double sum = 0;
+        int numberOfEmptyRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                numberOfEmptyRegisters++;
+            }
+        }
+
+        double estimate = getBiasCorrection(numberOfRegisters) * numberOfRegisters * numberOfRegisters / sum;
+        if (estimate <= 2.5 * numberOfRegisters && numberOfEmptyRegisters > 0) {
+            // linear counting is more accurate for small cardinalities
+            estimate = numberOfRegisters * Math.log((double) numberOfRegisters / numberOfEmptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Writes the sketch in a binary format which can be read by {@link #readFrom(DataInput)}.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(precision);
+        out.write(registers);
+    }
+
+    /**
+     * Reads a sketch written by {@link #writeTo(DataOutput)}.
+     */
+    public static HyperLogLog readFrom(DataInput in) throws IOException {
+        HyperLogLog sketch = new HyperLogLog(in.readUnsignedByte());
+        in.readFully(sketch.registers);
+        return sketch;
+    }
+
+    private static double getBiasCorrection(int numberOfRegisters) {
+        switch (numberOfRegisters) {
+        case 16:
+            return 0.673;
+        case 32:
+            return 0.697;
+        case 64:
+            return 0.709;
+        default:
+            return 0.7213 / (1 + 1.079 / numberOfRegisters);
+        }
+    }
+
+    /**
+     * Hashes {@code value} into 64 bits with FNV-1a, followed by the finalizer of MurmurHash3
+     * so that all bits of the hash depend on every byte of the value.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -1,5 +1,8 @@
 package teammates.client.scripts.statistics;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -11,6 +14,9 @@ import java.util.Set;
 
 /**
  * A bundle that consists of the usages of the application for each institute.
+ *
+ * <p>Unique emails are either counted exactly, by keeping every email, or approximately,
+ * by keeping a {@link HyperLogLog} sketch of the emails which takes a fixed amount of memory.
  */
 public class StatisticsBundle {
 
@@ -27,10 +33,28 @@ public class StatisticsBundle {
         return institutesStats.computeIfAbsent(institute, instituteName -> {
             InstituteStats instituteStats = new InstituteStats();
             instituteStats.name = instituteName;
+            if (isApproximateCounting()) {
+                instituteStats.useApproximateCounting();
+            }
             return instituteStats;
         });
     }
 
+    /**
+     * Returns true if unique emails are counted approximately.
+     */
+    public boolean isApproximateCounting() {
+        return institutesStatsMetadata.isApproximateCounting;
+    }
+
+    /**
+     * Counts unique emails approximately from now on, including the emails already in the bundle.
+     */
+    public void useApproximateCounting() {
+        institutesStats.values().forEach(InstituteStats::useApproximateCounting);
+        institutesStatsMetadata.isApproximateCounting = true;
+    }
+
     /**
      * Adds a student {@code email} to the stats associated with the {@code institute}.
      *
@@ -42,7 +66,7 @@ public class StatisticsBundle {
         if (isTestingData(institute, email)) {
             return;
         }
-        getInstituteStats(institute).studentEmails.add(email);
+        getInstituteStats(institute).addStudentEmail(email);
     }
 
     /**
@@ -56,7 +80,7 @@ public class StatisticsBundle {
         if (isTestingData(institute, email)) {
             return;
         }
-        getInstituteStats(institute).instructorEmails.add(email);
+        getInstituteStats(institute).addInstructorEmail(email);
     }
 
     /**
@@ -84,6 +108,11 @@ public class StatisticsBundle {
      * Gets number of unique students emails in the bundle.
      */
     public int getNumOfUniqueStudentEmails() {
+        if (isApproximateCounting()) {
+            HyperLogLog sketch = new HyperLogLog();
+            institutesStats.values().forEach(instituteStats -> sketch.merge(instituteStats.studentEmailsSketch));
+            return (int) sketch.estimate();
+        }
         Set<String> emailSet = new HashSet<>();
         institutesStats.values().forEach(instituteStats -> emailSet.addAll(instituteStats.studentEmails));
         return emailSet.size();
@@ -93,6 +122,11 @@ public class StatisticsBundle {
      * Gets number of unique instructor emails in the bundle.
      */
     public int getNumOfUniqueInstructorEmails() {
+        if (isApproximateCounting()) {
+            HyperLogLog sketch = new HyperLogLog();
+            institutesStats.values().forEach(instituteStats -> sketch.merge(instituteStats.instructorEmailsSketch));
+            return (int) sketch.estimate();
+        }
         Set<String> emailSet = new HashSet<>();
         institutesStats.values().forEach(instituteStats -> emailSet.addAll(instituteStats.instructorEmails));
         return emailSet.size();
@@ -132,16 +166,69 @@ public class StatisticsBundle {
         private Set<String> studentEmails = new HashSet<>();
         private Set<String> instructorEmails = new HashSet<>();
 
+        // only used when counting approximately, in place of the emails
+        private transient HyperLogLog studentEmailsSketch;
+        private transient HyperLogLog instructorEmailsSketch;
+
         public String getName() {
             return name;
         }
 
         public int getStudentTotal() {
-            return studentEmails.size();
+            return studentEmailsSketch == null ? studentEmails.size() : (int) studentEmailsSketch.estimate();
         }
 
         public int getInstructorTotal() {
-            return instructorEmails.size();
+            return instructorEmailsSketch == null ? instructorEmails.size() : (int) instructorEmailsSketch.estimate();
+        }
+
+        private void addStudentEmail(String email) {
+            if (studentEmailsSketch == null) {
+                studentEmails.add(email);
+            } else {
+                studentEmailsSketch.add(email);
+            }
+        }
+
+        private void addInstructorEmail(String email) {
+            if (instructorEmailsSketch == null) {
+                instructorEmails.add(email);
+            } else {
+                instructorEmailsSketch.add(email);
+            }
+        }
+
+        private void useApproximateCounting() {
+            if (studentEmailsSketch != null) {
+                return;
+            }
+            studentEmailsSketch = new HyperLogLog();
+            instructorEmailsSketch = new HyperLogLog();
+            studentEmails.forEach(studentEmailsSketch::add);
+            instructorEmails.forEach(instructorEmailsSketch::add);
+            studentEmails = new HashSet<>();
+            instructorEmails = new HashSet<>();
+        }
+
+        /**
+         * Writes the name and the email sketches of the institute in a binary format
+         * which can be read by {@link #readSketchesFrom(DataInput)}.
+         */
+        void writeSketchesTo(DataOutput out) throws IOException {
+            out.writeUTF(name);
+            studentEmailsSketch.writeTo(out);
+            instructorEmailsSketch.writeTo(out);
+        }
+
+        /**
+         * Reads the stats of an institute written by {@link #writeSketchesTo(DataOutput)}.
+         */
+        static InstituteStats readSketchesFrom(DataInput in) throws IOException {
+            InstituteStats instituteStats = new InstituteStats();
+            instituteStats.name = in.readUTF();
+            instituteStats.studentEmailsSketch = HyperLogLog.readFrom(in);
+            instituteStats.instructorEmailsSketch = HyperLogLog.readFrom(in);
+            return instituteStats;
         }
     }
 
@@ -150,10 +237,15 @@ public class StatisticsBundle {
      */
     public static class InstitutesStatsMetadata {
         private Instant statsSince;
+        private boolean isApproximateCounting;
 
         public InstitutesStatsMetadata() {
             // time when TEAMMATES project begins
             statsSince = Instant.parse("2010-01-01T00:00:00.000Z");
         }
+
+        public boolean isApproximateCounting() {
+            return isApproximateCounting;
+        }
     }
 }
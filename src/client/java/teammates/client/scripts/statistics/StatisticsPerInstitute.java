@@ -2,8 +2,14 @@ package teammates.client.scripts.statistics;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import com.googlecode.objectify.cmd.Query;
 
@@ -19,11 +25,24 @@ import teammates.storage.entity.Instructor;
  */
 public class StatisticsPerInstitute extends DatastoreClient {
 
+    // Counts unique emails approximately, in a fixed amount of memory per institute. Suitable for large runs;
+    // saved stats which were counted exactly are converted on the next run.
+    private static final boolean IS_APPROXIMATE_COUNTING = false;
+
+    // Number of entities whose course institutes are looked up together.
+    private static final int COURSE_LOOKUP_BATCH_SIZE = 500;
+
     private final StatisticsBundle bundle;
     private final Map<String, String> courseToInstituteCache = new HashMap<>();
 
     StatisticsPerInstitute() throws Exception {
         bundle = FileStore.getStatisticsBundleFromFileIfPossible();
+        if (IS_APPROXIMATE_COUNTING) {
+            bundle.useApproximateCounting();
+        } else if (bundle.isApproximateCounting()) {
+            throw new IllegalStateException("The saved stats were counted approximately and cannot be counted exactly. "
+                    + "Remove the saved stats to count exactly from the beginning.");
+        }
     }
 
     public static void main(String[] args) throws Exception {
@@ -31,9 +50,48 @@ public class StatisticsPerInstitute extends DatastoreClient {
         statistics.doOperationRemotely();
     }
 
-    private String getCourseInstitute(String courseId) {
-        Course course = ofy().load().type(Course.class).id(courseId).now();
-        return course == null || course.getInstitute() == null ? Const.UNKNOWN_INSTITUTION : course.getInstitute();
+    /**
+     * Loads the institutes of the courses which are not cached yet in a single lookup.
+     */
+    private void cacheCourseInstitutes(Set<String> courseIds) {
+        courseIds.removeAll(courseToInstituteCache.keySet());
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        Map<String, Course> courses = ofy().load().type(Course.class).ids(courseIds);
+        for (String courseId : courseIds) {
+            Course course = courses.get(courseId);
+            courseToInstituteCache.put(courseId,
+                    course == null || course.getInstitute() == null ? Const.UNKNOWN_INSTITUTION : course.getInstitute());
+        }
+    }
+
+    /**
+     * Adds the emails of {@code entities} to the stats of the institutes of their courses.
+     * The entities are processed in batches, so that the institutes of their courses can be looked up together.
+     */
+    private <E> void addEmailsToInstitutes(Iterable<E> entities, Function<E, String> courseIdGetter,
+            Function<E, String> emailGetter, BiConsumer<String, String> emailAdder, LoopHelper loopHelper) {
+        List<E> batch = new ArrayList<>();
+        for (E entity : entities) {
+            batch.add(entity);
+            if (batch.size() == COURSE_LOOKUP_BATCH_SIZE) {
+                addEmailsToInstitutes(batch, courseIdGetter, emailGetter, emailAdder);
+                batch.clear();
+            }
+            loopHelper.recordLoop();
+        }
+        addEmailsToInstitutes(batch, courseIdGetter, emailGetter, emailAdder);
+    }
+
+    private <E> void addEmailsToInstitutes(List<E> batch, Function<E, String> courseIdGetter,
+            Function<E, String> emailGetter, BiConsumer<String, String> emailAdder) {
+        Set<String> courseIds = new LinkedHashSet<>();
+        batch.forEach(entity -> courseIds.add(courseIdGetter.apply(entity)));
+        cacheCourseInstitutes(courseIds);
+        for (E entity : batch) {
+            emailAdder.accept(courseToInstituteCache.get(courseIdGetter.apply(entity)), emailGetter.apply(entity));
+        }
     }
 
     @Override
@@ -63,23 +121,15 @@ public class StatisticsPerInstitute extends DatastoreClient {
             LoopHelper loopHelper = new LoopHelper(100,
                     "Counting institutions stats by scanning student entities...");
             Iterable<CourseStudent> students = CursorIterator.iterate(studentQuery);
-            for (CourseStudent student : students) {
-                String instituteOfTheStudent = courseToInstituteCache.computeIfAbsent(student.getCourseId(),
-                        k -> getCourseInstitute(student.getCourseId()));
-                bundle.addStudentEmailToInstitute(instituteOfTheStudent, student.getEmail());
-                loopHelper.recordLoop();
-            }
+            addEmailsToInstitutes(students, CourseStudent::getCourseId, CourseStudent::getEmail,
+                    bundle::addStudentEmailToInstitute, loopHelper);
 
             // generate institute stats by scanning account (instructor) entities
             loopHelper = new LoopHelper(100,
                     "Counting institutions stats by scanning instructor entities...");
             Iterable<Instructor> instructors = CursorIterator.iterate(instructorQuery);
-            for (Instructor instructor : instructors) {
-                String instituteOfTheInstructor = courseToInstituteCache.computeIfAbsent(instructor.getCourseId(),
-                        k -> getCourseInstitute(instructor.getCourseId()));
-                bundle.addInstructorEmailToInstitute(instituteOfTheInstructor, instructor.getEmail());
-                loopHelper.recordLoop();
-            }
+            addEmailsToInstitutes(instructors, Instructor::getCourseId, Instructor::getEmail,
+                    bundle::addInstructorEmailToInstitute, loopHelper);
 
             saveCheckpointOfData(queryEntitiesFrom, queryEntitiesTo);
             queryEntitiesFrom = queryEntitiesTo;
@@ -91,6 +141,11 @@ public class StatisticsPerInstitute extends DatastoreClient {
     }
 
     private void printStatsPerInstitute() {
+        if (bundle.isApproximateCounting()) {
+            System.out.println(String.format(
+                    "Unique emails are counted approximately, with a standard error of about %.1f%%",
+                    104 / Math.sqrt(1 << HyperLogLog.DEFAULT_PRECISION)));
+        }
         System.out.println("===============Stats Per Institute=================");
         System.out.println("Format=> Instructors + Students = Total [Institute]");
         System.out.println("===================================================");
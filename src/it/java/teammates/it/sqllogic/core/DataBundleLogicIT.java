@@ -238,6 +238,33 @@ public class DataBundleLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         // TODO: incomplete
     }
 
+    @Test
+    public void testPersistDataBundleInBulk_typicalValues_persistedToDbCorrectly() throws Exception {
+        SqlDataBundle dataBundle = loadSqlDataBundle("/DataBundleLogicIT.json");
+        dataBundleLogic.persistDataBundleInBulk(dataBundle);
+
+        ______TS("verify entities of each type persisted correctly");
+
+        verifyPresentInDatabase(dataBundle.accountRequests.get("instructor1"));
+        verifyPresentInDatabase(dataBundle.notifications.get("notification1"));
+        verifyPresentInDatabase(dataBundle.courses.get("typicalCourse"));
+        verifyPresentInDatabase(dataBundle.sections.get("section1InTypicalCourse"));
+        verifyPresentInDatabase(dataBundle.teams.get("team1InTypicalCourse"));
+        verifyPresentInDatabase(dataBundle.feedbackSessions.get("session1InTypicalCourse"));
+        verifyPresentInDatabase(dataBundle.feedbackQuestions.get("qn1InSession1InCourse1"));
+        verifyPresentInDatabase(dataBundle.feedbackResponses.get("response1ForQ1S1C1"));
+        verifyPresentInDatabase(dataBundle.feedbackResponseComments.get("comment1ToResponse1ForQ1"));
+        verifyPresentInDatabase(dataBundle.accounts.get("instructor1"));
+        verifyPresentInDatabase(dataBundle.instructors.get("instructor1OfTypicalCourse"));
+        verifyPresentInDatabase(dataBundle.students.get("student1InTypicalCourse"));
+        verifyPresentInDatabase(dataBundle.readNotifications.get("notification1Student1"));
+        verifyPresentInDatabase(dataBundle.deadlineExtensions.get("student1InTypicalCourseSession1"));
+
+        ______TS("failure: null data bundle");
+
+        assertThrows(InvalidParametersException.class, () -> dataBundleLogic.persistDataBundleInBulk(null));
+    }
+
     @Test
     public void testRemoveDataBundle_typicalValues_removedCorrectly()
                 throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
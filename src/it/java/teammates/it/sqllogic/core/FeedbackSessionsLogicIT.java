@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -16,9 +17,11 @@ import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackSessionsLogic;
+import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
 
 /**
  * SUT: {@link FeedbackSessionsLogic}.
@@ -27,6 +30,7 @@ public class FeedbackSessionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private UsersLogic usersLogic = UsersLogic.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -60,6 +64,33 @@ public class FeedbackSessionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedGivers, givers);
     }
 
+    @Test
+    public void testGetUsersYetToAttemptFeedbackSession_typicalCase_sameAsCheckingEachUser() {
+        FeedbackSession fs = fsLogic.getFeedbackSession(
+                typicalDataBundle.feedbackSessions.get("session1InCourse1").getId());
+        List<Student> students = usersLogic.getStudentsForCourse(fs.getCourse().getId());
+        List<Instructor> instructors = usersLogic.getInstructorsForCourse(fs.getCourse().getId());
+
+        List<Student> expectedStudents = students.stream()
+                .filter(student -> !fsLogic.isFeedbackSessionAttemptedByStudent(
+                        fs, student.getEmail(), student.getTeamName()))
+                .collect(Collectors.toList());
+        List<Instructor> expectedInstructors = instructors.stream()
+                .filter(instructor -> !fsLogic.isFeedbackSessionAttemptedByInstructor(fs, instructor.getEmail()))
+                .collect(Collectors.toList());
+
+        List<Student> actualStudents = fsLogic.getStudentsYetToAttemptFeedbackSession(fs, students);
+        List<Instructor> actualInstructors = fsLogic.getInstructorsYetToAttemptFeedbackSession(fs, instructors);
+
+        assertEquals(expectedStudents, actualStudents);
+        assertEquals(expectedInstructors, actualInstructors);
+
+        ______TS("no users to check");
+
+        assertTrue(fsLogic.getStudentsYetToAttemptFeedbackSession(fs, List.of()).isEmpty());
+        assertTrue(fsLogic.getInstructorsYetToAttemptFeedbackSession(fs, List.of()).isEmpty());
+    }
+
     @Test
     public void testPublishFeedbackSession()
             throws InvalidParametersException, EntityDoesNotExistException {
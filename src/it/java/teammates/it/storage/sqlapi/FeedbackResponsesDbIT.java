@@ -2,7 +2,9 @@ package teammates.it.storage.sqlapi;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -140,6 +142,23 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(actual);
     }
 
+    @Test
+    public void testGetGiversForSession() {
+        ______TS("success: typical case");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        Set<String> expectedGivers = testDataBundle.feedbackResponses.values().stream()
+                .filter(response -> response.getFeedbackQuestion().getFeedbackSession().getId().equals(fs.getId()))
+                .map(FeedbackResponse::getGiver)
+                .collect(Collectors.toSet());
+
+        Set<String> actualGivers = frDb.getGiversForSession(fs);
+
+        assertFalse(actualGivers.isEmpty());
+        assertEquals(expectedGivers, actualGivers);
+        assertEquals(expectedGivers.size(), frDb.getNumGiversForSession(fs));
+    }
+
     private FeedbackResponse prepareSqlInjectionTest() {
         FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
         assertNotNull(frDb.getFeedbackResponse(fr.getId()));
@@ -264,6 +283,40 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     }
 
+    @Test
+    public void testGetFeedbackResponsesForQuestionsOfParticipants() {
+        FeedbackQuestion qn1 = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestion qn2 = testDataBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+        FeedbackQuestion qn3 = testDataBundle.feedbackQuestions.get("qn3InSession1InCourse1");
+        List<UUID> questionIds = List.of(qn1.getId(), qn2.getId(), qn3.getId());
+        String participant = "student1@teammates.tmt";
+
+        ______TS("No questions");
+        List<FeedbackResponse> actual = frDb.getFeedbackResponsesForQuestionsOfParticipants(
+                List.of(), List.of(participant), List.of(qn2.getId()));
+        assertEquals(0, actual.size());
+
+        ______TS("Responses given by or to participants only");
+        List<FeedbackResponse> expected = List.of(
+                testDataBundle.feedbackResponses.get("response1ForQ1"),
+                testDataBundle.feedbackResponses.get("response1ForQ2"),
+                testDataBundle.feedbackResponses.get("response1ForQ3")
+        );
+        actual = frDb.getFeedbackResponsesForQuestionsOfParticipants(questionIds, List.of(participant), List.of());
+        assertListResponsesEqual(expected, actual);
+
+        ______TS("Responses given by or to participants, and all responses to some questions");
+        expected = List.of(
+                testDataBundle.feedbackResponses.get("response1ForQ1"),
+                testDataBundle.feedbackResponses.get("response1ForQ2"),
+                testDataBundle.feedbackResponses.get("response2ForQ2"),
+                testDataBundle.feedbackResponses.get("response1ForQ3")
+        );
+        actual = frDb.getFeedbackResponsesForQuestionsOfParticipants(
+                questionIds, List.of(participant), List.of(qn2.getId()));
+        assertListResponsesEqual(expected, actual);
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection_matchNotFound_shouldReturnEmptyList() {
         String section3 = testDataBundle.sections.get("section3InCourse1").getName();
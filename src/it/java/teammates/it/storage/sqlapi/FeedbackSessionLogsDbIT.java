@@ -125,4 +125,32 @@ public class FeedbackSessionLogsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
         assertEquals(expectedLogs, actualLogs);
     }
+
+    @Test
+    public void test_getOrderedFeedbackSessionLogsPage_success() {
+        Instant startTime = Instant.parse("2012-01-01T12:00:00Z");
+        Instant endTime = Instant.parse("2012-01-01T23:59:59Z");
+        Course course = typicalDataBundle.courses.get("course1");
+
+        List<FeedbackSessionLog> allLogs = fslDb.getOrderedFeedbackSessionLogs(course.getId(), null, null,
+                startTime, endTime);
+
+        ______TS("Pages continue from the timestamp and ID of the last log of the previous page");
+        List<FeedbackSessionLog> pagedLogs = new ArrayList<>();
+        List<FeedbackSessionLog> page = fslDb.getOrderedFeedbackSessionLogsPage(course.getId(), null, null,
+                startTime, endTime, null, null, 2);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 2);
+            pagedLogs.addAll(page);
+            FeedbackSessionLog lastLog = page.get(page.size() - 1);
+            page = fslDb.getOrderedFeedbackSessionLogsPage(course.getId(), null, null,
+                    startTime, endTime, lastLog.getTimestamp(), lastLog.getId(), 2);
+        }
+
+        assertEquals(allLogs.size(), pagedLogs.size());
+        assertTrue(pagedLogs.containsAll(allLogs));
+        for (int i = 1; i < pagedLogs.size(); i++) {
+            assertFalse(pagedLogs.get(i).getTimestamp().isBefore(pagedLogs.get(i - 1).getTimestamp()));
+        }
+    }
 }
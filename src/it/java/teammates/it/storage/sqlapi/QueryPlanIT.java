@@ -0,0 +1,304 @@
+package teammates.it.storage.sqlapi;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.it.test.SqlStatementRecorder;
+import teammates.storage.sqlapi.FeedbackQuestionsDb;
+import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
+import teammates.storage.sqlapi.FeedbackResponsesDb;
+import teammates.storage.sqlapi.FeedbackSessionLogsDb;
+import teammates.storage.sqlapi.UsersDb;
+
+/**
+ * Checks that the main queries of the storage layer do not scan the whole of any large table.
+ *
+ * <p>The tables are seeded through a separate connection, in a transaction which is rolled back after the tests.
+ * Each query is run through its {@code sqlapi} method to get the SQL generated by Hibernate, which is then planned
+ * against the seeded tables as a generic plan, i.e. regardless of the values of its parameters.
+ */
+public class QueryPlanIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private static final int NUM_COURSES = 200;
+    private static final int NUM_SESSIONS = 1_000;
+    private static final int NUM_QUESTIONS = 10_000;
+    private static final int NUM_SECTIONS = 1_000;
+    private static final int NUM_TEAMS = 2_000;
+    private static final int NUM_ACCOUNTS = 10_000;
+    private static final int NUM_STUDENTS = 20_000;
+    private static final int NUM_RESPONSES = 100_000;
+    private static final int NUM_COMMENTS = 50_000;
+    private static final int NUM_SESSION_LOGS = 100_000;
+
+    private static final Pattern SEQUENTIAL_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
+    private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+    private final FeedbackResponseCommentsDb frcDb = FeedbackResponseCommentsDb.inst();
+    private final FeedbackSessionLogsDb fslDb = FeedbackSessionLogsDb.inst();
+    private final UsersDb usersDb = UsersDb.inst();
+
+    private Connection connection;
+
+    @BeforeClass
+    public void seedTables() throws SQLException {
+        connection = openConnection();
+        connection.setAutoCommit(false);
+
+        seed("courses", NUM_COURSES, Map.of(
+                "id", courseId("g")));
+        seed("feedback_sessions", NUM_SESSIONS, Map.of(
+                "id", seededId("session", "g"),
+                "course_id", courseId(parentOf(NUM_COURSES)),
+                "name", "'session-' || g"));
+        seed("feedback_questions", NUM_QUESTIONS, Map.of(
+                "id", seededId("question", "g"),
+                "session_id", seededId("session", parentOf(NUM_SESSIONS)),
+                "dtype", "'FeedbackTextQuestion'",
+                "giver_type", "'STUDENTS'",
+                "recipient_type", "'STUDENTS'"));
+        seed("sections", NUM_SECTIONS, Map.of(
+                "id", seededId("section", "g"),
+                "course_id", courseId(parentOf(NUM_COURSES)),
+                "name", "'section-' || g"));
+        seed("teams", NUM_TEAMS, Map.of(
+                "id", seededId("team", "g"),
+                "section_id", seededId("section", parentOf(NUM_SECTIONS)),
+                "name", "'team-' || g"));
+        seed("accounts", NUM_ACCOUNTS, Map.of(
+                "id", seededId("account", "g"),
+                "google_id", "'query-plan-account-' || g",
+                "email", "'account-' || g || '@teammates.tmt'"));
+        seed("users", NUM_STUDENTS, Map.of(
+                "id", seededId("student", "g"),
+                "course_id", courseId(parentOf(NUM_COURSES)),
+                "account_id", seededId("account", parentOf(NUM_ACCOUNTS)),
+                "team_id", seededId("team", parentOf(NUM_TEAMS)),
+                "email", "'student-' || g || '@teammates.tmt'"));
+        seed("students", NUM_STUDENTS, Map.of(
+                "id", seededId("student", "g")));
+        seed("feedback_responses", NUM_RESPONSES, Map.of(
+                "id", seededId("response", "g"),
+                "question_id", seededId("question", parentOf(NUM_QUESTIONS)),
+                "dtype", "'FeedbackTextResponse'",
+                "giver", "'student-' || (" + parentOf(NUM_STUDENTS) + ") || '@teammates.tmt'",
+                "recipient", "'student-' || ((g + 1) % " + NUM_STUDENTS + " + 1) || '@teammates.tmt'",
+                "giver_section_id", seededId("section", parentOf(NUM_SECTIONS)),
+                "recipient_section_id", seededId("section", parentOf(NUM_SECTIONS))));
+        seed("feedback_response_comments", NUM_COMMENTS, Map.of(
+                "id", "g",
+                "response_id", seededId("response", "g")));
+        seed("feedback_session_logs", NUM_SESSION_LOGS, Map.of(
+                "id", seededId("session-log", "g"),
+                "student_id", seededId("student", parentOf(NUM_STUDENTS)),
+                "session_id", seededId("session", parentOf(NUM_SESSIONS)),
+                "feedback_session_log_type", "'ACCESS'",
+                "timestamp", "now() - g * interval '1 minute'"));
+
+        execute("SET plan_cache_mode = force_generic_plan");
+    }
+
+    @AfterClass
+    public void rollBackSeededTables() throws SQLException {
+        connection.rollback();
+        connection.close();
+    }
+
+    @Test
+    public void testFeedbackResponsesQueries_indexesUsed() throws SQLException {
+        UUID questionId = UUID.randomUUID();
+
+        ______TS("responses from giver for question");
+        verifyNoSequentialScan("feedback_responses",
+                () -> frDb.getFeedbackResponsesFromGiverForQuestion(questionId, "giver@teammates.tmt"));
+
+        ______TS("responses for recipient for question");
+        verifyNoSequentialScan("feedback_responses",
+                () -> frDb.getFeedbackResponsesForRecipientForQuestion(questionId, "recipient@teammates.tmt"));
+
+        ______TS("responses for question in section");
+        verifyNoSequentialScan("feedback_responses",
+                () -> frDb.getFeedbackResponsesForQuestionInSection(questionId, "section", FeedbackResultFetchType.BOTH));
+    }
+
+    @Test
+    public void testFeedbackResponseCommentsQueries_indexesUsed() throws SQLException {
+        ______TS("comments for response");
+        verifyNoSequentialScan("feedback_response_comments",
+                () -> frcDb.getFeedbackResponseCommentsForResponse(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testFeedbackQuestionsQueries_indexesUsed() throws SQLException {
+        ______TS("questions for session");
+        verifyNoSequentialScan("feedback_questions", () -> fqDb.getFeedbackQuestionsForSession(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testUsersQueries_indexesUsed() throws SQLException {
+        ______TS("student for email");
+        verifyNoSequentialScan("users", () -> usersDb.getStudentForEmail("course-id", "student@teammates.tmt"));
+
+        ______TS("students for course");
+        verifyNoSequentialScan("users", () -> usersDb.getStudentsForCourse("course-id"));
+
+        ______TS("users for Google ID");
+        verifyNoSequentialScan("users", () -> usersDb.getAllUsersByGoogleId("google-id"));
+    }
+
+    @Test
+    public void testFeedbackSessionLogsQueries_indexesUsed() throws SQLException {
+        Instant endTime = Instant.now();
+        Instant startTime = endTime.minusSeconds(60 * 60);
+
+        ______TS("logs of student in session");
+        verifyNoSequentialScan("feedback_session_logs", () -> fslDb.getOrderedFeedbackSessionLogs(
+                "course-id", UUID.randomUUID(), UUID.randomUUID(), startTime, endTime));
+    }
+
+    /**
+     * Verifies that the query run by {@code query} is not planned with a sequential scan on {@code table}.
+     */
+    private void verifyNoSequentialScan(String table, Runnable query) throws SQLException {
+        List<String> statements = SqlStatementRecorder.record(query);
+        assertEquals(1, statements.size());
+
+        String plan = explain(statements.get(0));
+        Matcher matcher = SEQUENTIAL_SCAN.matcher(plan);
+        while (matcher.find()) {
+            assertFalse("Sequential scan on " + table + " in plan:\n" + plan, table.equals(matcher.group(1)));
+        }
+    }
+
+    /**
+     * Gets the generic plan of the given SQL statement, with its {@code ?} parameters left unbound.
+     */
+    private String explain(String sql) throws SQLException {
+        StringBuilder preparedSql = new StringBuilder();
+        int numberOfParameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numberOfParameters++;
+                preparedSql.append('$').append(numberOfParameters);
+            } else {
+                preparedSql.append(c);
+            }
+        }
+        String parameters = numberOfParameters == 0
+                ? ""
+                : "(" + String.join(", ", Collections.nCopies(numberOfParameters, "NULL")) + ")";
+
+        execute("PREPARE query_plan_check AS " + preparedSql);
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("EXPLAIN EXECUTE query_plan_check" + parameters)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        } finally {
+            execute("DEALLOCATE query_plan_check");
+        }
+    }
+
+    /**
+     * Inserts {@code numberOfRows} rows into {@code table}, then refreshes the statistics of the table.
+     *
+     * <p>{@code columnValues} are SQL expressions of the row number {@code g}. Other columns are left null
+     * if possible, or filled with a placeholder value of their type otherwise.
+     */
+    private void seed(String table, int numberOfRows, Map<String, String> columnValues) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT column_name, data_type, is_nullable, column_default FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = ?")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String column = rs.getString("column_name");
+                    String value = columnValues.get(column);
+                    if (value == null && "NO".equals(rs.getString("is_nullable"))
+                            && rs.getString("column_default") == null) {
+                        value = getPlaceholderValue(rs.getString("data_type"));
+                    }
+                    if (value != null) {
+                        columns.add(column);
+                        values.add(value);
+                    }
+                }
+            }
+        }
+        assertTrue("Unknown columns in " + table + ": " + columnValues.keySet(),
+                columns.containsAll(columnValues.keySet()));
+
+        execute("INSERT INTO " + table + " (" + String.join(", ", columns) + ") SELECT " + String.join(", ", values)
+                + " FROM generate_series(1, " + numberOfRows + ") AS g");
+        execute("ANALYZE " + table);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String getPlaceholderValue(String dataType) {
+        switch (dataType) {
+        case "uuid":
+            return "gen_random_uuid()";
+        case "character varying":
+        case "text":
+            return "''";
+        case "boolean":
+            return "false";
+        case "smallint":
+        case "integer":
+        case "bigint":
+        case "real":
+        case "double precision":
+        case "numeric":
+            return "0";
+        case "interval":
+            return "interval '0'";
+        case "timestamp with time zone":
+        case "timestamp without time zone":
+            return "now()";
+        default:
+            throw new AssertionError("No placeholder value for columns of type " + dataType);
+        }
+    }
+
+    private static String seededId(String entityType, String rowNumber) {
+        return "md5('query-plan-" + entityType + "-' || (" + rowNumber + "))::uuid";
+    }
+
+    private static String courseId(String rowNumber) {
+        return "'query-plan-course-' || (" + rowNumber + ")";
+    }
+
+    /**
+     * Gets the row number of the parent of row {@code g}, spreading the rows evenly over {@code numberOfParents}.
+     */
+    private static String parentOf(int numberOfParents) {
+        return "g % " + numberOfParents + " + 1";
+    }
+
+}
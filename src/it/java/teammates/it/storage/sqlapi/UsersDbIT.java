@@ -2,11 +2,15 @@ package teammates.it.storage.sqlapi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRosterSnapshot.InstructorInfo;
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -286,6 +290,139 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedStudents.containsAll(actualStudents));
     }
 
+    @Test
+    public void testGetStudentsForEmails_multipleCourses_fetchedTogether()
+            throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course2 = new Course("course-id-2", "course-name", Const.DEFAULT_TIME_ZONE, "institute");
+        coursesDb.createCourse(course2);
+        Student student2 = getTypicalStudent();
+        student2.setEmail("valid-student-2@email.tmt");
+        student2.setCourse(course2);
+        usersDb.createStudent(student2);
+
+        ______TS("success: students in different courses");
+        List<Student> actualStudents = usersDb.getStudentsForEmails(Map.of(
+                course.getId(), Set.of(student.getEmail(), "non-existent@email.tmt"),
+                course2.getId(), Set.of(student2.getEmail())));
+
+        assertEquals(2, actualStudents.size());
+        assertTrue(actualStudents.containsAll(List.of(student, student2)));
+
+        ______TS("success: email from another course is not matched");
+        actualStudents = usersDb.getStudentsForEmails(Map.of(course2.getId(), Set.of(student.getEmail())));
+
+        assertTrue(actualStudents.isEmpty());
+
+        ______TS("success: no emails");
+        assertTrue(usersDb.getStudentsForEmails(Map.of()).isEmpty());
+    }
+
+    @Test
+    public void testGetInstructorsForEmails_multipleCourses_fetchedTogether()
+            throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course2 = new Course("course-id-2", "course-name", Const.DEFAULT_TIME_ZONE, "institute");
+        coursesDb.createCourse(course2);
+        Instructor instructor2 = getTypicalInstructor();
+        instructor2.setEmail("valid-instructor-2@email.tmt");
+        instructor2.setCourse(course2);
+        usersDb.createInstructor(instructor2);
+
+        ______TS("success: instructors in different courses");
+        List<Instructor> actualInstructors = usersDb.getInstructorsForEmails(Map.of(
+                course.getId(), Set.of(instructor.getEmail()),
+                course2.getId(), Set.of(instructor2.getEmail(), "non-existent@email.tmt")));
+
+        assertEquals(2, actualInstructors.size());
+        assertTrue(actualInstructors.containsAll(List.of(instructor, instructor2)));
+
+        ______TS("success: email from another course is not matched");
+        actualInstructors = usersDb.getInstructorsForEmails(Map.of(course.getId(), Set.of(instructor2.getEmail())));
+
+        assertTrue(actualInstructors.isEmpty());
+    }
+
+    @Test
+    public void testGetStudentAndInstructorInfos()
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        Section otherSection = new Section(course, "section-name1");
+        course.addSection(otherSection);
+        Team otherTeam = new Team(otherSection, "team-name1");
+        otherSection.addTeam(otherTeam);
+        coursesDb.updateCourse(course);
+
+        Student otherStudent = getTypicalStudent();
+        otherStudent.setEmail("valid-student-1@email.tmt");
+        otherStudent.setTeam(otherTeam);
+        usersDb.createStudent(otherStudent);
+
+        ______TS("success: students of course");
+        List<StudentInfo> studentInfos = usersDb.getStudentInfosForCourse(course.getId());
+
+        assertEquals(2, studentInfos.size());
+        StudentInfo studentInfo = studentInfos.stream()
+                .filter(info -> info.getEmail().equals(student.getEmail()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(student.getName(), studentInfo.getName());
+        assertEquals(student.getTeamName(), studentInfo.getTeamName());
+        assertEquals(student.getSectionName(), studentInfo.getSectionName());
+
+        ______TS("success: students of section and team");
+        studentInfos = usersDb.getStudentInfosForSection(otherSection.getName(), course.getId());
+
+        assertEquals(1, studentInfos.size());
+        assertEquals(otherStudent.getEmail(), studentInfos.get(0).getEmail());
+
+        studentInfos = usersDb.getStudentInfosForTeam(otherTeam.getName(), course.getId());
+
+        assertEquals(1, studentInfos.size());
+        assertEquals(otherStudent.getEmail(), studentInfos.get(0).getEmail());
+
+        ______TS("success: instructors of course");
+        List<InstructorInfo> instructorInfos = usersDb.getInstructorInfosForCourse(course.getId());
+
+        assertEquals(1, instructorInfos.size());
+        assertEquals(instructor.getEmail(), instructorInfos.get(0).getEmail());
+        assertEquals(instructor.getName(), instructorInfos.get(0).getName());
+        assertEquals(instructor.isDisplayedToStudents(), instructorInfos.get(0).isDisplayedToStudents());
+    }
+
+    @Test
+    public void testGetStudentsAndInstructorsPageForCourse()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Team team = section.getTeams().get(0);
+        List<Student> otherStudents = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Student otherStudent = getTypicalStudent();
+            otherStudent.setEmail("valid-student-" + i + "@email.tmt");
+            otherStudent.setCourse(course);
+            otherStudent.setTeam(team);
+            usersDb.createStudent(otherStudent);
+            otherStudents.add(otherStudent);
+        }
+
+        ______TS("success: first page of students ordered by email");
+        List<Student> page = usersDb.getStudentsPageForCourse(course.getId(), null, 2);
+
+        assertEquals(List.of(otherStudents.get(0), otherStudents.get(1)), page);
+
+        ______TS("success: next page continues after the last email of the previous page");
+        page = usersDb.getStudentsPageForCourse(course.getId(), page.get(1).getEmail(), 2);
+
+        assertEquals(List.of(otherStudents.get(2), student), page);
+
+        ______TS("success: no students after the last page");
+        page = usersDb.getStudentsPageForCourse(course.getId(), student.getEmail(), 2);
+
+        assertTrue(page.isEmpty());
+
+        ______TS("success: pages of instructors");
+        List<Instructor> instructorsPage = usersDb.getInstructorsPageForCourse(course.getId(), null, 2);
+
+        assertEquals(List.of(instructor), instructorsPage);
+        assertTrue(usersDb.getInstructorsPageForCourse(course.getId(), instructor.getEmail(), 2).isEmpty());
+    }
+
     @Test
     public void testSqlInjectionInCreateInstructor() throws Exception {
         ______TS("SQL Injection test in createInstructor email field");
@@ -1,5 +1,8 @@
 package teammates.it.test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.UUID;
 
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -132,6 +135,13 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
         HibernateUtil.rollbackTransaction();
     }
 
+    /**
+     * Opens a JDBC connection to the test database which is separate from the Hibernate session.
+     */
+    protected static Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(PGSQL.getJdbcUrl(), PGSQL.getUsername(), PGSQL.getPassword());
+    }
+
     @Override
     protected String getTestDataFolder() {
         return TestProperties.TEST_DATA_FOLDER;
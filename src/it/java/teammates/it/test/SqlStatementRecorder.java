@@ -0,0 +1,43 @@
+package teammates.it.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements which Hibernate prepares in the current thread, e.g. to inspect their query plans.
+ *
+ * <p>Registered for all sessions through {@code hibernate.properties}; statements are only recorded
+ * while {@link #record(Runnable)} is running.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<List<String>> RECORDED_STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recordedStatements = RECORDED_STATEMENTS.get();
+        if (recordedStatements != null) {
+            recordedStatements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Runs the given database operation and returns the SQL statements prepared by it, in order.
+     */
+    public static List<String> record(Runnable operation) {
+        List<String> recordedStatements = new ArrayList<>();
+        RECORDED_STATEMENTS.set(recordedStatements);
+        try {
+            operation.run();
+        } finally {
+            RECORDED_STATEMENTS.remove();
+        }
+        return recordedStatements;
+    }
+
+}
@@ -0,0 +1,219 @@
+package teammates.it.ui.webapi;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.TimeHelper;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.FeedbackResponseData;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.Intent;
+import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.SubmitFeedbackSessionResponsesAction;
+import teammates.ui.webapi.UnauthorizedAccessException;
+
+/**
+ * SUT: {@link SubmitFeedbackSessionResponsesAction}.
+ */
+public class SubmitFeedbackSessionResponsesActionIT extends BaseActionIT<SubmitFeedbackSessionResponsesAction> {
+    @Override
+    @BeforeMethod
+    protected void setUp() throws Exception {
+        super.setUp();
+        persistDataBundle(typicalBundle);
+        HibernateUtil.flushSession();
+    }
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.SESSION_RESPONSES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return PUT;
+    }
+
+    private FeedbackQuestion getQuestion(FeedbackSession session, int questionNumber) {
+        return logic.getFeedbackQuestionForSessionQuestionNumber(session.getId(), questionNumber);
+    }
+
+    private void setSessionOpen(FeedbackSession session, boolean isOpen)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Instant startTime = TimeHelper.getInstantDaysOffsetFromNow(isOpen ? -1 : 2);
+        Instant endTime = TimeHelper.getInstantDaysOffsetFromNow(3);
+
+        session.setStartTime(startTime);
+        session.setEndTime(endTime);
+
+        logic.updateFeedbackSession(session);
+        HibernateUtil.flushSession();
+    }
+
+    private String[] buildSubmissionParams(FeedbackSession session, Intent intent) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.INTENT, intent.toString(),
+        };
+    }
+
+    private FeedbackResponsesRequest buildResponsesRequest(List<String> recipients) {
+        List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
+        for (String recipient : recipients) {
+            responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
+                    recipient, new FeedbackTextResponseDetails("Response for " + recipient)));
+        }
+
+        FeedbackResponsesRequest responsesRequest = new FeedbackResponsesRequest();
+        responsesRequest.setResponses(responses);
+        return responsesRequest;
+    }
+
+    private FeedbackSessionResponsesRequest buildRequestBody(Map<FeedbackQuestion, List<String>> recipientsPerQuestion) {
+        FeedbackSessionResponsesRequest requestBody = new FeedbackSessionResponsesRequest();
+        recipientsPerQuestion.forEach((question, recipients) ->
+                requestBody.getQuestionResponses().put(question.getId().toString(), buildResponsesRequest(recipients)));
+        return requestBody;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSession session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        Instructor instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+        Student student = typicalBundle.students.get("student1InCourse1");
+        FeedbackQuestion instructorQuestion = getQuestion(session, 4);
+        FeedbackQuestion studentQuestion = getQuestion(session, 2);
+
+        ______TS("Typical case: instructor answers questions of an open session");
+        loginAsInstructor(instructor.getGoogleId());
+        setSessionOpen(session, true);
+
+        String[] submissionParams = buildSubmissionParams(session, Intent.INSTRUCTOR_SUBMISSION);
+        FeedbackSessionResponsesRequest requestBody =
+                buildRequestBody(Map.of(instructorQuestion, List.of(instructor.getEmail())));
+
+        getAction(requestBody, submissionParams).checkAccessControl();
+
+        ______TS("Failure: instructor answers question meant for students");
+        FeedbackSessionResponsesRequest invalidRequestBody =
+                buildRequestBody(Map.of(studentQuestion, List.of(student.getEmail())));
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> getAction(invalidRequestBody, submissionParams).checkAccessControl());
+
+        ______TS("Failure: session is not open");
+        setSessionOpen(session, false);
+
+        verifyCannotAccess(submissionParams);
+
+        ______TS("Failure: invalid intent");
+        setSessionOpen(session, true);
+
+        verifyHttpParameterFailureAcl(buildSubmissionParams(session, Intent.INSTRUCTOR_RESULT));
+
+        ______TS("Typical case: student answers questions of an open session");
+        loginAsStudent(student.getGoogleId());
+
+        String[] studentParams = buildSubmissionParams(session, Intent.STUDENT_SUBMISSION);
+        getAction(invalidRequestBody, studentParams).checkAccessControl();
+
+        ______TS("Failure: student answers question meant for instructors");
+        assertThrows(UnauthorizedAccessException.class,
+                () -> getAction(requestBody, studentParams).checkAccessControl());
+
+        ______TS("Failure: student logged out");
+        logoutUser();
+
+        verifyCannotAccess(studentParams);
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        FeedbackSession session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        Instructor instructor = typicalBundle.instructors.get("instructor1OfCourse1");
+        Student student2 = typicalBundle.students.get("student2InCourse1");
+        Student student4 = typicalBundle.students.get("student4InCourse1");
+        FeedbackQuestion selfQuestion = getQuestion(session, 7);
+        FeedbackQuestion teamsQuestion = getQuestion(session, 8);
+        loginAsInstructor(instructor.getGoogleId());
+
+        ______TS("Failure: invalid http parameters");
+        verifyHttpParameterFailure(new String[] {});
+
+        ______TS("Failure: no request body");
+        String[] submissionParams = buildSubmissionParams(session, Intent.INSTRUCTOR_SUBMISSION);
+        verifyHttpRequestBodyFailure(null, submissionParams);
+
+        ______TS("Failure: question does not belong to the session");
+        FeedbackQuestion otherSessionQuestion =
+                getQuestion(typicalBundle.feedbackSessions.get("session2InTypicalCourse"), 1);
+        FeedbackSessionResponsesRequest requestBody =
+                buildRequestBody(Map.of(otherSessionQuestion, List.of(instructor.getEmail())));
+        verifyEntityNotFound(requestBody, submissionParams);
+
+        ______TS("Failure: invalid recipient for one of the questions, nothing is saved");
+        List<String> teams = List.of(student2.getTeamName(), student4.getTeamName());
+        int numResponsesBefore = logic.getFeedbackResponsesFromInstructorForQuestion(teamsQuestion, instructor).size();
+
+        requestBody = buildRequestBody(Map.of(
+                teamsQuestion, teams,
+                selfQuestion, List.of("non-existent@email.tmt")));
+        verifyInvalidOperation(requestBody, submissionParams);
+
+        assertEquals(numResponsesBefore,
+                logic.getFeedbackResponsesFromInstructorForQuestion(teamsQuestion, instructor).size());
+
+        ______TS("Success: responses to multiple questions are saved");
+        requestBody = buildRequestBody(Map.of(
+                teamsQuestion, teams,
+                selfQuestion, List.of(instructor.getEmail())));
+
+        JsonResult result = getJsonResult(getAction(requestBody, submissionParams));
+        List<FeedbackResponseData> outputResponses = ((FeedbackResponsesData) result.getOutput()).getResponses();
+        assertEquals(3, outputResponses.size());
+
+        List<FeedbackResponse> selfResponses =
+                logic.getFeedbackResponsesFromInstructorForQuestion(selfQuestion, instructor);
+        assertEquals(1, selfResponses.size());
+        assertEquals(instructor.getEmail(), selfResponses.get(0).getRecipient());
+
+        List<FeedbackResponse> teamResponses =
+                logic.getFeedbackResponsesFromInstructorForQuestion(teamsQuestion, instructor);
+        assertEquals(2, teamResponses.size());
+        for (FeedbackResponse response : teamResponses) {
+            assertTrue(teams.contains(response.getRecipient()));
+            assertEquals(instructor.getEmail(), response.getGiver());
+        }
+
+        ______TS("Success: existing responses not in the request are deleted");
+        requestBody = buildRequestBody(Map.of(teamsQuestion, List.of(student2.getTeamName())));
+
+        result = getJsonResult(getAction(requestBody, submissionParams));
+        outputResponses = ((FeedbackResponsesData) result.getOutput()).getResponses();
+        assertEquals(1, outputResponses.size());
+
+        teamResponses = logic.getFeedbackResponsesFromInstructorForQuestion(teamsQuestion, instructor);
+        assertEquals(1, teamResponses.size());
+        assertEquals(student2.getTeamName(), teamResponses.get(0).getRecipient());
+        assertEquals(1, logic.getFeedbackResponsesFromInstructorForQuestion(selfQuestion, instructor).size());
+    }
+}
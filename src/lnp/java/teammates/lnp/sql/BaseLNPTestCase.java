@@ -234,7 +234,7 @@ public abstract class BaseLNPTestCase extends BaseTestCase {
      */
     protected void persistTestData() throws IOException, HttpRequestFailedException {
         SqlDataBundle dataBundle = loadSqlDataBundle(getJsonDataPath());
-        SqlDataBundle responseBody = backdoor.removeAndRestoreSqlDataBundle(dataBundle);
+        SqlDataBundle responseBody = backdoor.removeAndRestoreSqlDataBundle(dataBundle, true);
 
         String pathToResultFile = createFileAndDirectory(TestProperties.LNP_TEST_DATA_FOLDER, getJsonDataPath());
         String jsonValue = JsonUtils.toJson(responseBody, SqlDataBundle.class);
@@ -0,0 +1,204 @@
+package teammates.lnp.sql;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jmeter.protocol.http.control.HeaderManager;
+import org.apache.jorphan.collections.HashTree;
+import org.apache.jorphan.collections.ListedHashTree;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.InstructorPermissionRole;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.exception.HttpRequestFailedException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.lnp.util.JMeterElements;
+import teammates.lnp.util.LNPSpecification;
+import teammates.lnp.util.LNPSqlTestData;
+import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.request.StudentsEnrollRequest;
+
+/**
+ * L&P Test Case for instructor's student enrollment API endpoint on a large course.
+ *
+ * <p>Enrolls {@value #NUM_STUDENTS} students into a single course in one request.
+ * To measure the reduction in database round trips from JDBC batching, run this test against
+ * a server with {@code app.postgres.batchsize} and {@code app.postgres.bulkbatchsize} set to 0,
+ * and then against a server with the default values, and compare the response times.
+ */
+public class InstructorStudentEnrollmentLNPTest extends BaseLNPTestCase {
+    private static final int NUM_INSTRUCTORS = 1;
+    private static final int RAMP_UP_PERIOD = NUM_INSTRUCTORS * 2;
+
+    private static final int NUM_STUDENTS = 1000;
+    private static final int NUM_STUDENTS_PER_SECTION = 100;
+    private static final int NUM_STUDENTS_PER_TEAM = 5;
+
+    private static final String COURSE_ID = "TestData.CS101";
+    private static final String COURSE_NAME = "LnPCourse";
+    private static final String COURSE_TIME_ZONE = "UTC";
+    private static final String COURSE_INSTITUTE = "LnpInstitute";
+
+    private static final String ACCOUNT_NAME = "LnpAccount";
+
+    private static final String INSTRUCTOR_ID = "LnPInstructor_id";
+    private static final String INSTRUCTOR_NAME = "LnPInstructor";
+    private static final String INSTRUCTOR_EMAIL = "tmms.test@gmail.tmt";
+
+    private static final double ERROR_RATE_LIMIT = 0.01;
+    private static final double MEAN_RESP_TIME_LIMIT = 30;
+
+    @Override
+    protected LNPSqlTestData getTestData() {
+        Account instructorAccount = new Account(INSTRUCTOR_ID, ACCOUNT_NAME, INSTRUCTOR_EMAIL);
+        Course instructorCourse = new Course(COURSE_ID, COURSE_NAME, COURSE_TIME_ZONE, COURSE_INSTITUTE);
+        return new LNPSqlTestData() {
+            @Override
+            protected Map<String, Course> generateCourses() {
+                Map<String, Course> courses = new HashMap<>();
+
+                courses.put(COURSE_NAME, instructorCourse);
+
+                return courses;
+            }
+
+            @Override
+            protected Map<String, Account> generateAccounts() {
+                Map<String, Account> accounts = new HashMap<>();
+
+                accounts.put(ACCOUNT_NAME, instructorAccount);
+
+                return accounts;
+            }
+
+            @Override
+            protected Map<String, Instructor> generateInstructors() {
+                Map<String, Instructor> instructors = new HashMap<>();
+
+                Instructor instructor = new Instructor(
+                        instructorCourse, INSTRUCTOR_NAME, INSTRUCTOR_EMAIL,
+                        true, "Co-owner", InstructorPermissionRole.INSTRUCTOR_PERMISSION_ROLE_COOWNER,
+                        new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER));
+
+                instructor.setAccount(instructorAccount);
+                instructors.put(INSTRUCTOR_NAME, instructor);
+
+                return instructors;
+            }
+
+            @Override
+            public List<String> generateCsvHeaders() {
+                List<String> headers = new ArrayList<>();
+
+                headers.add("loginId");
+                headers.add("courseId");
+                headers.add("enrollData");
+
+                return headers;
+            }
+
+            @Override
+            public List<List<String>> generateCsvData() {
+                List<List<String>> csvData = new ArrayList<>();
+                List<String> csvRow = new ArrayList<>();
+
+                csvRow.add(INSTRUCTOR_ID);
+                csvRow.add(COURSE_ID);
+
+                List<StudentsEnrollRequest.StudentEnrollRequest> enrollRequests = new ArrayList<>();
+
+                for (int i = 0; i < NUM_STUDENTS; i++) {
+                    String name = INSTRUCTOR_NAME + ".Student" + i;
+                    String email = INSTRUCTOR_NAME + ".Student" + i + "@gmail.tmt";
+                    String team = "Team " + i / NUM_STUDENTS_PER_TEAM;
+                    String section = "Section " + i / NUM_STUDENTS_PER_SECTION;
+                    String comment = "no comment";
+
+                    enrollRequests.add(
+                            new StudentsEnrollRequest.StudentEnrollRequest(name, email, team, section, comment));
+                }
+                String enrollData = sanitizeForCsv(JsonUtils.toJson(new StudentsEnrollRequest(enrollRequests)));
+                csvRow.add(enrollData);
+
+                csvData.add(csvRow);
+
+                return csvData;
+            }
+        };
+    }
+
+    private Map<String, String> getRequestHeaders() {
+        Map<String, String> headers = new HashMap<>();
+
+        headers.put(Const.HeaderNames.CSRF_TOKEN, "${csrfToken}");
+        headers.put("Content-Type", "application/json");
+
+        return headers;
+    }
+
+    private String getTestEndpoint() {
+        return Const.ResourceURIs.STUDENTS + "?courseid=${courseId}";
+    }
+
+    @Override
+    protected ListedHashTree getLnpTestPlan() {
+        ListedHashTree testPlan = new ListedHashTree(JMeterElements.testPlan());
+        HashTree threadGroup = testPlan.add(
+                JMeterElements.threadGroup(NUM_INSTRUCTORS, RAMP_UP_PERIOD, 1));
+
+        threadGroup.add(JMeterElements.csvDataSet(getPathToTestDataFile(getCsvConfigPath())));
+        threadGroup.add(JMeterElements.cookieManager());
+        threadGroup.add(JMeterElements.defaultSampler());
+
+        threadGroup.add(JMeterElements.onceOnlyController())
+                .add(JMeterElements.loginSampler())
+                .add(JMeterElements.csrfExtractor("csrfToken"));
+
+        // Add HTTP sampler for test endpoint
+        HeaderManager headerManager = JMeterElements.headerManager(getRequestHeaders());
+        threadGroup.add(JMeterElements.httpSampler(getTestEndpoint(), PUT, "${enrollData}"))
+                .add(headerManager);
+
+        return testPlan;
+    }
+
+    @Override
+    protected void setupSpecification() {
+        this.specification = LNPSpecification.builder()
+                .withErrorRateLimit(ERROR_RATE_LIMIT)
+                .withMeanRespTimeLimit(MEAN_RESP_TIME_LIMIT)
+                .build();
+    }
+
+    @BeforeClass
+    public void classSetup() throws IOException, HttpRequestFailedException {
+        generateTimeStamp();
+        createTestData();
+        setupSpecification();
+    }
+
+    @Test
+    public void runLnpTest() throws IOException {
+        runJmeter(false);
+        displayLnpResults();
+    }
+
+    /**
+     * Removes the entities added for the instructor's student enrollment L&P test.
+     */
+    @AfterClass
+    public void classTearDown() throws IOException {
+        // The newly enrolled students, sections and teams are deleted together with the course.
+        deleteTestData();
+        deleteDataFiles();
+        cleanupResults();
+    }
+}
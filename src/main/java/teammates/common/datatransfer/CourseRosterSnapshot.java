@@ -0,0 +1,197 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+
+/**
+ * An immutable snapshot of the students and instructors of a course, indexed by section and team.
+ *
+ * <p>Unlike {@link SqlCourseRoster}, the snapshot only holds the details needed to work out the recipients
+ * of feedback questions and no entity, hence it can be shared across requests.
+ */
+public final class CourseRosterSnapshot {
+
+    private final List<StudentInfo> students;
+    private final List<InstructorInfo> instructors;
+    private final Map<String, List<StudentInfo>> sectionToStudentsTable;
+    private final Map<String, List<StudentInfo>> teamToMembersTable;
+    private final Map<String, Map<String, List<StudentInfo>>> sectionToTeamToMembersTable;
+
+    private CourseRosterSnapshot(List<StudentInfo> students, List<InstructorInfo> instructors) {
+        this.students = Collections.unmodifiableList(students);
+        this.instructors = Collections.unmodifiableList(instructors);
+
+        Map<String, List<StudentInfo>> sectionToStudents = new HashMap<>();
+        for (StudentInfo student : students) {
+            sectionToStudents.computeIfAbsent(student.getSectionName(), key -> new ArrayList<>()).add(student);
+        }
+
+        Map<String, Map<String, List<StudentInfo>>> sectionToTeamToMembers = new HashMap<>();
+        sectionToStudents.forEach((sectionName, studentsInSection) ->
+                sectionToTeamToMembers.put(sectionName, buildTeamToMembersTable(studentsInSection)));
+
+        this.sectionToStudentsTable = toUnmodifiableTable(sectionToStudents);
+        this.teamToMembersTable = buildTeamToMembersTable(students);
+        this.sectionToTeamToMembersTable = Collections.unmodifiableMap(sectionToTeamToMembers);
+    }
+
+    /**
+     * Creates a snapshot of the given students and instructors of a course.
+     */
+    public static CourseRosterSnapshot of(List<Student> students, List<Instructor> instructors) {
+        List<StudentInfo> studentInfos = new ArrayList<>(students.size());
+        for (Student student : students) {
+            studentInfos.add(StudentInfo.of(student));
+        }
+        List<InstructorInfo> instructorInfos = new ArrayList<>(instructors.size());
+        for (Instructor instructor : instructors) {
+            instructorInfos.add(InstructorInfo.of(instructor));
+        }
+        return new CourseRosterSnapshot(studentInfos, instructorInfos);
+    }
+
+    /**
+     * Creates a snapshot of a course from the details of its students and instructors.
+     */
+    public static CourseRosterSnapshot ofInfos(List<StudentInfo> students, List<InstructorInfo> instructors) {
+        return new CourseRosterSnapshot(new ArrayList<>(students), new ArrayList<>(instructors));
+    }
+
+    private static Map<String, List<StudentInfo>> buildTeamToMembersTable(List<StudentInfo> students) {
+        Map<String, List<StudentInfo>> teamToMembers = new HashMap<>();
+        for (StudentInfo student : students) {
+            teamToMembers.computeIfAbsent(student.getTeamName(), key -> new ArrayList<>()).add(student);
+        }
+        return toUnmodifiableTable(teamToMembers);
+    }
+
+    private static Map<String, List<StudentInfo>> toUnmodifiableTable(Map<String, List<StudentInfo>> table) {
+        table.replaceAll((key, value) -> Collections.unmodifiableList(value));
+        return Collections.unmodifiableMap(table);
+    }
+
+    public List<StudentInfo> getStudents() {
+        return students;
+    }
+
+    public List<InstructorInfo> getInstructors() {
+        return instructors;
+    }
+
+    /**
+     * Gets the students in the section with {@code sectionName}.
+     */
+    public List<StudentInfo> getStudentsInSection(String sectionName) {
+        return sectionToStudentsTable.getOrDefault(sectionName, Collections.emptyList());
+    }
+
+    /**
+     * Gets the members of the team with {@code teamName}.
+     */
+    public List<StudentInfo> getTeamMembers(String teamName) {
+        return teamToMembersTable.getOrDefault(teamName, Collections.emptyList());
+    }
+
+    /**
+     * Gets a map from the name of each team in the course to its members.
+     */
+    public Map<String, List<StudentInfo>> getTeamToMembersTable() {
+        return teamToMembersTable;
+    }
+
+    /**
+     * Gets a map from the name of each team in the section with {@code sectionName} to its members.
+     */
+    public Map<String, List<StudentInfo>> getTeamToMembersTableInSection(String sectionName) {
+        return sectionToTeamToMembersTable.getOrDefault(sectionName, Collections.emptyMap());
+    }
+
+    /**
+     * The details of a student in the snapshot.
+     */
+    public static final class StudentInfo {
+
+        private final String email;
+        private final String name;
+        private final String teamName;
+        private final String sectionName;
+
+        /**
+         * Creates the details of a student, e.g. from a query which reads only the details needed.
+         */
+        public StudentInfo(String email, String name, String teamName, String sectionName) {
+            this.email = email;
+            this.name = name;
+            this.teamName = teamName;
+            this.sectionName = sectionName;
+        }
+
+        /**
+         * Gets the details of the given student.
+         */
+        public static StudentInfo of(Student student) {
+            return new StudentInfo(student.getEmail(), student.getName(),
+                    student.getTeamName(), student.getSectionName());
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTeamName() {
+            return teamName;
+        }
+
+        public String getSectionName() {
+            return sectionName;
+        }
+    }
+
+    /**
+     * The details of an instructor in the snapshot.
+     */
+    public static final class InstructorInfo {
+
+        private final String email;
+        private final String name;
+        private final boolean isDisplayedToStudents;
+
+        /**
+         * Creates the details of an instructor, e.g. from a query which reads only the details needed.
+         */
+        public InstructorInfo(String email, String name, boolean isDisplayedToStudents) {
+            this.email = email;
+            this.name = name;
+            this.isDisplayedToStudents = isDisplayedToStudents;
+        }
+
+        /**
+         * Gets the details of the given instructor.
+         */
+        public static InstructorInfo of(Instructor instructor) {
+            return new InstructorInfo(instructor.getEmail(), instructor.getName(), instructor.isDisplayedToStudents());
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isDisplayedToStudents() {
+            return isDisplayedToStudents;
+        }
+    }
+}
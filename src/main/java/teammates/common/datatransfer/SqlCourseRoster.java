@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,20 +19,41 @@ public class SqlCourseRoster {
 
     private final Map<String, Student> studentListByEmail = new HashMap<>();
     private final Map<String, Instructor> instructorListByEmail = new HashMap<>();
+    private final List<Student> students;
+    private final List<Instructor> instructors;
     private final Map<String, List<Student>> teamToMembersTable;
+    private CourseRosterSnapshot snapshot;
 
     public SqlCourseRoster(List<Student> students, List<Instructor> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
-        teamToMembersTable = buildTeamToMembersTable(getStudents());
+        this.students = Collections.unmodifiableList(new ArrayList<>(studentListByEmail.values()));
+        this.instructors = Collections.unmodifiableList(new ArrayList<>(instructorListByEmail.values()));
+        teamToMembersTable = buildTeamToMembersTable(this.students);
     }
 
+    /**
+     * Gets the students in the course. The returned list cannot be modified.
+     */
     public List<Student> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
+    /**
+     * Gets the instructors in the course. The returned list cannot be modified.
+     */
     public List<Instructor> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
+    }
+
+    /**
+     * Gets a snapshot of the roster indexed by section and team, which is created on first use.
+     */
+    public CourseRosterSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = CourseRosterSnapshot.of(students, instructors);
+        }
+        return snapshot;
     }
 
     public Map<String, List<Student>> getTeamToMembersTable() {
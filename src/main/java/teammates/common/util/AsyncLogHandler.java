@@ -0,0 +1,179 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} which publishes log records to another handler in a background thread,
+ * so that the thread serving a request does not wait for its log lines to be written.
+ *
+ * <p>Log records are queued up to a bounded size. When the queue is full, new records are either dropped
+ * or the logging thread waits for the queue to have space, depending on the overflow policy.
+ * The number of dropped records is logged once the queue has been emptied.
+ *
+ * <p>The handler is configured through the logging configuration file:
+ * <ul>
+ * <li>{@code teammates.common.util.AsyncLogHandler.queueSize}: the maximum number of queued records.
+ * If 0 (the default), records are published in the logging thread.</li>
+ * <li>{@code teammates.common.util.AsyncLogHandler.overflow}: {@code DROP} (the default) to drop records
+ * when the queue is full, or {@code BLOCK} to wait for the queue to have space.</li>
+ * </ul>
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+
+    private final Handler target;
+    private final BlockingQueue<LogRecord> queue;
+    private final boolean isBlockingWhenFull;
+    private final LongFunction<String> droppedRecordsMessage;
+    private final AtomicLong numDroppedRecords = new AtomicLong();
+    private final Thread publisher;
+    private final Object droppedRecordsReportLock = new Object();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    private long numReportedDroppedRecords;
+
+    /**
+     * Creates a handler configured through the logging configuration file.
+     *
+     * @param droppedRecordsMessage formats the log message reporting the number of dropped records
+     */
+    public AsyncLogHandler(Handler target, LongFunction<String> droppedRecordsMessage) {
+        this(target, getQueueSize(), isBlockingWhenFull(), droppedRecordsMessage);
+    }
+
+    AsyncLogHandler(Handler target, int queueSize, boolean isBlockingWhenFull,
+                    LongFunction<String> droppedRecordsMessage) {
+        this.target = target;
+        this.isBlockingWhenFull = isBlockingWhenFull;
+        this.droppedRecordsMessage = droppedRecordsMessage;
+        if (queueSize > 0) {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.publisher = new Thread(this::publishQueuedRecords, "async-log");
+            this.publisher.setDaemon(true);
+            this.publisher.start();
+        } else {
+            this.queue = null;
+            this.publisher = null;
+        }
+    }
+
+    private static int getQueueSize() {
+        String queueSize = LogManager.getLogManager().getProperty(AsyncLogHandler.class.getName() + ".queueSize");
+        return queueSize == null ? 0 : Integer.parseInt(queueSize.trim());
+    }
+
+    private static boolean isBlockingWhenFull() {
+        String overflow = LogManager.getLogManager().getProperty(AsyncLogHandler.class.getName() + ".overflow");
+        return overflow != null && "BLOCK".equalsIgnoreCase(overflow.trim());
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (queue == null || isClosed.get()) {
+            target.publish(record);
+            return;
+        }
+
+        if (!isBlockingWhenFull) {
+            if (!queue.offer(record)) {
+                numDroppedRecords.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            target.publish(record);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped so far as the queue was full.
+     */
+    public long getNumDroppedRecords() {
+        return numDroppedRecords.get();
+    }
+
+    /**
+     * Returns the number of records waiting to be published.
+     */
+    public int getNumQueuedRecords() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    private void publishQueuedRecords() {
+        while (!isClosed.get()) {
+            LogRecord record;
+            try {
+                record = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (record != null) {
+                target.publish(record);
+            }
+            if (queue.isEmpty()) {
+                reportDroppedRecords();
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        synchronized (droppedRecordsReportLock) {
+            long numDropped = numDroppedRecords.get();
+            if (numDropped > numReportedDroppedRecords) {
+                target.publish(new LogRecord(Level.WARNING,
+                        droppedRecordsMessage.apply(numDropped - numReportedDroppedRecords)));
+                numReportedDroppedRecords = numDropped;
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        target.flush();
+    }
+
+    /**
+     * Publishes all queued records, then closes the target handler.
+     * Records published afterwards are published in the logging thread.
+     */
+    @Override
+    public void close() {
+        if (!isClosed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (publisher != null) {
+            publisher.interrupt();
+            try {
+                publisher.join(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            List<LogRecord> remainingRecords = new ArrayList<>();
+            queue.drainTo(remainingRecords);
+            remainingRecords.forEach(target::publish);
+            reportDroppedRecords();
+        }
+        target.close();
+    }
+
+}
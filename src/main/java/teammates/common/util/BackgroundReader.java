@@ -0,0 +1,123 @@
+package teammates.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import teammates.common.exception.DeadlineExceededException;
+
+/**
+ * Runs reads in background threads while the current thread carries on with other work,
+ * e.g. reading from the datastore while the current thread reads from Postgres.
+ *
+ * <p>As the Hibernate session is bound to the thread serving the request, reads which use it
+ * must be done in that thread instead. Reads are run with the trace of the current request,
+ * so that they respect the deadline of the request.
+ *
+ * <p>If the reader has no threads, reads are run in the current thread as soon as they are started.
+ */
+public final class BackgroundReader {
+
+    private static final BackgroundReader instance = new BackgroundReader(Config.BACKGROUND_READS_THREADS);
+
+    private final ExecutorService executor;
+    private final List<Supplier<? extends Closeable>> threadContexts = new CopyOnWriteArrayList<>();
+
+    BackgroundReader(int numberOfThreads) {
+        if (numberOfThreads > 0) {
+            this.executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+                Thread thread = new Thread(runnable, "background-read");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public static BackgroundReader inst() {
+        return instance;
+    }
+
+    /**
+     * Returns true if reads are run in background threads, or false if they are run in the current thread.
+     */
+    public boolean isRunningInBackground() {
+        return executor != null;
+    }
+
+    /**
+     * Adds a context which has to be opened in a background thread before each read, and closed after it,
+     * e.g. the datastore session.
+     */
+    public void addThreadContext(Supplier<? extends Closeable> threadContext) {
+        threadContexts.add(threadContext);
+    }
+
+    /**
+     * Starts the given read.
+     *
+     * @return the result of the read, which waits for the read to finish if needed and rethrows
+     *         any exception thrown by the read
+     */
+    public <T> Supplier<T> start(Supplier<T> read) {
+        if (executor == null) {
+            T result = read.get();
+            return () -> result;
+        }
+
+        Future<T> result = executor.submit(RequestTracer.propagate(() -> {
+            RequestTracer.checkRemainingTime();
+            return readInThreadContexts(read);
+        }));
+        return () -> getResult(result);
+    }
+
+    private <T> T readInThreadContexts(Supplier<T> read) throws IOException {
+        Deque<Closeable> openedContexts = new ArrayDeque<>();
+        try {
+            for (Supplier<? extends Closeable> threadContext : threadContexts) {
+                openedContexts.push(threadContext.get());
+            }
+            return read.get();
+        } finally {
+            while (!openedContexts.isEmpty()) {
+                openedContexts.pop().close();
+            }
+        }
+    }
+
+    private static <T> T getResult(Future<T> result) {
+        try {
+            return result.get(RequestTracer.getRemainingTimeMillisOrMax(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UncheckedIOException((IOException) cause);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new DeadlineExceededException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new DeadlineExceededException();
+        }
+    }
+
+}
@@ -40,6 +40,36 @@ public final class Config {
     /** The value of the "app.postgres.password" in build.properties file. */
     public static final String POSTGRES_PASSWORD;
 
+    /** The value of the "app.postgres.cache.enabled" in build.properties file. */
+    public static final boolean POSTGRES_CACHE_ENABLED;
+
+    /** The value of the "app.postgres.cache.maxentries" in build.properties file. */
+    public static final long POSTGRES_CACHE_MAX_ENTRIES;
+
+    /** The value of the "app.postgres.cache.ttlseconds" in build.properties file. */
+    public static final long POSTGRES_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.postgres.batchsize" in build.properties file. */
+    public static final int POSTGRES_BATCH_SIZE;
+
+    /** The value of the "app.postgres.bulkbatchsize" in build.properties file. */
+    public static final int POSTGRES_BULK_BATCH_SIZE;
+
+    /** The value of the "app.postgres.fetchsize" in build.properties file. */
+    public static final int POSTGRES_FETCH_SIZE;
+
+    /** The value of the "app.userroles.cache.ttlseconds" in build.properties file. */
+    public static final long USER_ROLES_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.courseroster.cache.ttlseconds" in build.properties file. */
+    public static final long COURSE_ROSTER_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.backgroundreads.threads" in build.properties file. */
+    public static final int BACKGROUND_READS_THREADS;
+
+    /** The value of the "app.migrationstatus.preload" in build.properties file. */
+    public static final boolean MIGRATION_STATUS_PRELOAD;
+
     /** The value of the "app.production.gcs.bucketname" in build.properties file. */
     public static final String PRODUCTION_GCS_BUCKETNAME;
 
@@ -106,6 +136,9 @@ public final class Config {
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.search.service.commit.immediately" in build.properties file. */
+    public static final boolean SEARCH_SERVICE_COMMIT_IMMEDIATELY;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
@@ -166,6 +199,26 @@ public final class Config {
         POSTGRES_DATABASENAME = getProperty(properties, devProperties, "app.postgres.databasename");
         POSTGRES_USERNAME = getProperty(properties, devProperties, "app.postgres.username");
         POSTGRES_PASSWORD = getProperty(properties, devProperties, "app.postgres.password");
+        POSTGRES_CACHE_ENABLED = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.postgres.cache.enabled", "false"));
+        POSTGRES_CACHE_MAX_ENTRIES = Long.parseLong(
+                getProperty(properties, devProperties, "app.postgres.cache.maxentries", "10000"));
+        POSTGRES_CACHE_TTL_SECONDS = Long.parseLong(
+                getProperty(properties, devProperties, "app.postgres.cache.ttlseconds", "600"));
+        POSTGRES_BATCH_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.batchsize", "50"));
+        POSTGRES_BULK_BATCH_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.bulkbatchsize", "500"));
+        POSTGRES_FETCH_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.fetchsize", "100"));
+        USER_ROLES_CACHE_TTL_SECONDS = Long.parseLong(
+                getProperty(properties, devProperties, "app.userroles.cache.ttlseconds", "0"));
+        COURSE_ROSTER_CACHE_TTL_SECONDS = Long.parseLong(
+                getProperty(properties, devProperties, "app.courseroster.cache.ttlseconds", "0"));
+        BACKGROUND_READS_THREADS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.backgroundreads.threads", "0"));
+        MIGRATION_STATUS_PRELOAD = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.migrationstatus.preload", "false"));
         BACKUP_GCS_BUCKETNAME = getProperty(properties, devProperties, "app.backup.gcs.bucketname");
         ENCRYPTION_KEY = getProperty(properties, devProperties, "app.encryption.key");
         AUTH_TYPE = getProperty(properties, devProperties, "app.auth.type");
@@ -187,6 +240,8 @@ public final class Config {
         MAILJET_APIKEY = getProperty(properties, devProperties, "app.mailjet.apikey");
         MAILJET_SECRETKEY = getProperty(properties, devProperties, "app.mailjet.secretkey");
         SEARCH_SERVICE_HOST = getProperty(properties, devProperties, "app.search.service.host");
+        SEARCH_SERVICE_COMMIT_IMMEDIATELY = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.search.service.commit.immediately", "false"));
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
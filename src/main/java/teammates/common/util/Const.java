@@ -37,6 +37,8 @@ public final class Const {
 
     public static final int SEARCH_QUERY_SIZE_LIMIT = 50;
 
+    public static final int PAGE_SIZE_LIMIT = 1000;
+
     public static final String ERROR_CREATE_ENTITY_ALREADY_EXISTS = "Trying to create an entity that exists: %s";
     public static final String ERROR_UPDATE_NON_EXISTENT = "Trying to update non-existent Entity: ";
 
@@ -124,6 +126,7 @@ public final class Const {
         public static final String INSTRUCTOR_INSTITUTION = "instructorinstitution";
         public static final String IS_CREATING_ACCOUNT = "iscreatingaccount";
         public static final String IS_INSTRUCTOR = "isinstructor";
+        public static final String IS_BULK_LOAD = "isbulkload";
 
         public static final String FEEDBACK_SESSION_ID = "fsid";
 
@@ -198,6 +201,7 @@ public final class Const {
         public static final String QUERY_LOGS_ORDER = "order";
 
         public static final String LIMIT = "limit";
+        public static final String CURSOR = "cursor";
 
         public static final String NOTIFICATION_ID = "notificationid";
         public static final String NOTIFICATION_TARGET_USER = "usertype";
@@ -214,6 +218,7 @@ public final class Const {
         public static final String CSRF_KEY = "CSRF-Key";
         public static final String WEB_VERSION = "X-WEB-VERSION";
         public static final String CSRF_TOKEN = "X-CSRF-TOKEN";
+        public static final String ACCEPT_ENCODING = "Accept-Encoding";
     }
 
     /**
@@ -369,6 +374,7 @@ public final class Const {
         public static final String SESSION_REMIND_SUBMISSION = URI_PREFIX + "/session/remind/submission";
         public static final String SESSION_REMIND_RESULT = URI_PREFIX + "/session/remind/result";
         public static final String SESSION_STATS = URI_PREFIX + "/session/stats";
+        public static final String SESSION_RESPONSES = URI_PREFIX + "/session/responses";
         public static final String SESSION_SUBMITTED_GIVER_SET = URI_PREFIX + "/session/submitted/giverset";
         public static final String SESSIONS = URI_PREFIX + "/sessions";
         public static final String SEARCH_ACCOUNT_REQUESTS = URI_PREFIX + "/search/accountrequests";
@@ -0,0 +1,99 @@
+package teammates.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.CourseRosterSnapshot;
+
+/**
+ * Caches a snapshot of the students and instructors of each course, keyed by course ID.
+ *
+ * <p>Each entry expires {@link Config#COURSE_ROSTER_CACHE_TTL_SECONDS} seconds after it is written.
+ * Entries are also invalidated whenever students or instructors are added to, updated in or removed from a course
+ * on this instance; changes made through other instances are only picked up once the entry expires.
+ */
+public final class CourseRosterCache {
+
+    private static final long MAX_ENTRIES = 1_000;
+
+    private static final Cache<String, CourseRosterSnapshot> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(Duration.ofSeconds(Config.COURSE_ROSTER_CACHE_TTL_SECONDS))
+            .build();
+
+    // Incremented on every invalidation, so that a snapshot loaded concurrently with a roster change is not kept
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private CourseRosterCache() {
+        // utility class
+    }
+
+    /**
+     * Returns the cached snapshot of the course with {@code courseId}, loading it with {@code loader} if it is
+     * not cached yet.
+     *
+     * @return the snapshot, or null if the cache is disabled
+     */
+    public static CourseRosterSnapshot get(String courseId, Supplier<CourseRosterSnapshot> loader) {
+        if (!isEnabled() || courseId == null) {
+            return null;
+        }
+
+        CourseRosterSnapshot snapshot = CACHE.getIfPresent(courseId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = VERSION.get();
+        snapshot = loader.get();
+        CACHE.put(courseId, snapshot);
+        if (VERSION.get() != version) {
+            // the roster may have changed while the snapshot was being loaded
+            CACHE.invalidate(courseId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Invalidates the cached snapshot of the course with {@code courseId}.
+     */
+    public static void invalidate(String courseId) {
+        if (courseId == null) {
+            return;
+        }
+        VERSION.incrementAndGet();
+        CACHE.invalidate(courseId);
+    }
+
+    /**
+     * Invalidates the cached snapshot of the course with {@code courseId}, both now and once the current
+     * database transaction completes.
+     *
+     * <p>Use this when the roster is changed within a transaction, as a snapshot loaded by another request
+     * before the change is committed would otherwise stay cached.
+     */
+    public static void invalidateAfterTransaction(String courseId) {
+        if (courseId == null) {
+            return;
+        }
+        invalidate(courseId);
+        HibernateUtil.runAfterTransaction(() -> invalidate(courseId));
+    }
+
+    /**
+     * Invalidates the cached snapshots of all courses.
+     */
+    public static void invalidateAll() {
+        VERSION.incrementAndGet();
+        CACHE.invalidateAll();
+    }
+
+    private static boolean isEnabled() {
+        return Config.COURSE_ROSTER_CACHE_TTL_SECONDS > 0;
+    }
+
+}
@@ -1,12 +1,21 @@
 package teammates.common.util;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.transaction.Synchronization;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.Cache;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -14,6 +23,11 @@ import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
 
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
@@ -95,6 +109,18 @@ public final class HibernateUtil {
             FeedbackResponseComment.class,
             FeedbackSessionLog.class);
 
+    /**
+     * Root entities which are stored in the second-level cache when it is enabled.
+     * Each of them has its own cache region named after the class.
+     */
+    private static final List<Class<? extends BaseEntity>> CACHED_ENTITY_CLASSES = List.of(
+            Course.class,
+            FeedbackSession.class,
+            FeedbackQuestion.class,
+            Section.class,
+            Team.class,
+            User.class);
+
     private HibernateUtil() {
         // Utility class
         // Intentional private constructor to prevent instantiation.
@@ -125,17 +151,15 @@ public final class HibernateUtil {
                 .setProperty("hibernate.hikari.maximumPoolSize", "30")
                 .setProperty("hibernate.hikari.idleTimeout", "300000")
                 .setProperty("hibernate.hikari.connectionTimeout", "30000")
-                // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
-                // .setProperty("hibernate.jdbc.batch_size", "50")
-                // .setProperty("hibernate.order_updates", "true")
-                // .setProperty("hibernate.batch_versioned_data", "true")
-                // .setProperty("hibernate.jdbc.fetch_size", "50")
                 .addPackage("teammates.storage.sqlentity");
 
         if (Config.IS_DEV_SERVER) {
             config.setProperty("hibernate.hbm2ddl.auto", "update");
         }
 
+        configureJdbcBatching(config);
+        configureSecondLevelCache(config);
+
         for (Class<? extends BaseEntity> cls : ANNOTATED_CLASSES) {
             config = config.addAnnotatedClass(cls);
         }
@@ -144,6 +168,54 @@ public final class HibernateUtil {
         setSessionFactory(config.buildSessionFactory());
     }
 
+    /**
+     * Configures JDBC batching of inserts, updates and deletes, as well as the JDBC fetch size.
+     *
+     * <p>Statements are ordered by entity type so that consecutive writes of the same entity type
+     * can be grouped into a single batch. Entity IDs are either assigned in the constructor or
+     * taken from pooled sequences, so identifier generation does not force any intermediate flush.
+     * The PostgreSQL driver further rewrites each batch of inserts into multi-row inserts.
+     */
+    private static void configureJdbcBatching(Configuration config) {
+        config.setProperty("hibernate.jdbc.batch_size", String.valueOf(Config.POSTGRES_BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .setProperty("hibernate.batch_versioned_data", "true")
+                .setProperty("hibernate.hikari.dataSource.reWriteBatchedInserts", "true")
+                .setProperty("hibernate.jdbc.fetch_size", String.valueOf(Config.POSTGRES_FETCH_SIZE));
+    }
+
+    /**
+     * Configures the in-process second-level cache for {@link #CACHED_ENTITY_CLASSES} if it is enabled.
+     *
+     * <p>Each cache region holds at most {@link Config#POSTGRES_CACHE_MAX_ENTRIES} entries,
+     * which expire {@link Config#POSTGRES_CACHE_TTL_SECONDS} seconds after they are written.
+     */
+    private static void configureSecondLevelCache(Configuration config) {
+        if (!Config.POSTGRES_CACHE_ENABLED) {
+            config.setProperty("hibernate.cache.use_second_level_cache", "false");
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> regionConfig = new CaffeineConfiguration<>();
+        regionConfig.setMaximumSize(OptionalLong.of(Config.POSTGRES_CACHE_MAX_ENTRIES));
+        regionConfig.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(Config.POSTGRES_CACHE_TTL_SECONDS)));
+        regionConfig.setStatisticsEnabled(true);
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (Class<? extends BaseEntity> cls : CACHED_ENTITY_CLASSES) {
+            if (cacheManager.getCache(cls.getName()) == null) {
+                cacheManager.createCache(cls.getName(), regionConfig);
+            }
+        }
+
+        config.setProperty("hibernate.cache.use_second_level_cache", "true")
+                .setProperty("hibernate.cache.region.factory_class", "jcache")
+                .setProperty("hibernate.generate_statistics", "true");
+        config.getProperties().put("hibernate.javax.cache.cache_manager", cacheManager);
+    }
+
     /**
      * Returns the SessionFactory.
      */
@@ -219,6 +291,34 @@ public final class HibernateUtil {
         transaction.commit();
     }
 
+    /**
+     * Runs {@code task} once the current resource transaction completes, whether it is committed or rolled back.
+     * Runs {@code task} immediately if there is no active transaction.
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static void runAfterTransaction(Runnable task) {
+        if (sessionFactory == null) {
+            task.run();
+            return;
+        }
+        Transaction transaction = getCurrentSession().getTransaction();
+        if (!transaction.isActive()) {
+            task.run();
+            return;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+
     /**
      * Force this session to flush. Must be called at the end of a unit of work, before the transaction is committed.
      * @see Session#flush()
@@ -227,6 +327,15 @@ public final class HibernateUtil {
         getCurrentSession().flush();
     }
 
+    /**
+     * Sets the JDBC batch size of the current session, overriding the default batch size
+     * for the rest of the unit of work. Used for bulk write workloads.
+     * @see Session#setJdbcBatchSize(Integer)
+     */
+    public static void setJdbcBatchSize(int batchSize) {
+        getCurrentSession().setJdbcBatchSize(batchSize);
+    }
+
     /**
      * Force this session to clear. Usually called together with flush.
      * @see Session#clear()
@@ -294,6 +403,37 @@ public final class HibernateUtil {
         return getCurrentSession().getReference(entityType, id);
     }
 
+    /**
+     * Evicts all instances of the given entity types from the second-level cache.
+     *
+     * <p>This is necessary after deletions which cascade in the database itself,
+     * as Hibernate is not aware of the rows deleted that way.
+     * @see Cache#evictEntityData(Class)
+     */
+    public static void evictFromSecondLevelCache(Class<?>... entityTypes) {
+        Cache cache = getSessionFactory().getCache();
+        for (Class<?> entityType : entityTypes) {
+            cache.evictEntityData(entityType);
+        }
+    }
+
+    /**
+     * Returns the statistics (e.g. hit and miss counts) of each second-level cache region, keyed by region name.
+     * Returns an empty map if the second-level cache is disabled.
+     */
+    public static Map<String, CacheRegionStatistics> getSecondLevelCacheStatistics() {
+        Map<String, CacheRegionStatistics> regionStatistics = new HashMap<>();
+        if (!Config.POSTGRES_CACHE_ENABLED) {
+            return regionStatistics;
+        }
+
+        Statistics statistics = getSessionFactory().getStatistics();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            regionStatistics.put(regionName, statistics.getDomainDataRegionStatistics(regionName));
+        }
+        return regionStatistics;
+    }
+
     /**
      * Flush the current session and evict the given entity from the session.
      * @see Session#evict(Object)
@@ -4,14 +4,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.logging.Handler;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import com.google.common.reflect.TypeToken;
-
 import teammates.common.datatransfer.logs.ExceptionLogDetails;
 import teammates.common.datatransfer.logs.InstanceLogDetails;
 import teammates.common.datatransfer.logs.LogDetails;
@@ -26,6 +23,12 @@ import teammates.common.datatransfer.logs.SourceLocation;
 @SuppressWarnings("PMD.MoreThanOneLogger") // class is designed as a facade for two different loggers
 public final class Logger {
 
+    /**
+     * Handler shared by all standard logs, which writes the log lines in a background thread if so configured.
+     */
+    private static final Handler STANDARD_LOG_HANDLER =
+            new AsyncLogHandler(new StdOutConsoleHandler(), Logger::formatDroppedLogLinesMessage);
+
     private final java.util.logging.Logger standardLog;
     private final java.util.logging.Logger errorLog;
 
@@ -34,7 +37,7 @@ public final class Logger {
         String loggerName = logRequester == null ? "null" : logRequester.getClassName();
         this.standardLog = java.util.logging.Logger.getLogger(loggerName + "-out");
         this.standardLog.setUseParentHandlers(false);
-        this.standardLog.addHandler(new StdOutConsoleHandler());
+        this.standardLog.addHandler(STANDARD_LOG_HANDLER);
 
         this.errorLog = java.util.logging.Logger.getLogger(loggerName + "-err");
     }
@@ -85,16 +88,8 @@ public final class Logger {
 
         String message = "Instance " + instanceEvent.toLowerCase() + ": " + shortenedInstanceId;
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", LogSeverity.INFO);
-
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
         // Need to use println as the logger is disabled when the instance is shutting down
-        System.out.println(JsonUtils.toCompactJson(payload));
+        System.out.println(StructuredLogEncoder.encode(message, LogSeverity.INFO, null, null, null, details));
     }
 
     /**
@@ -146,12 +141,7 @@ public final class Logger {
             logMessage = formatLogMessageForHumanDisplay(message) + " extra_info: "
                     + JsonUtils.toCompactJson(details);
         } else {
-            Map<String, Object> payload = getBaseCloudLoggingPayload(message, LogSeverity.INFO);
-            Map<String, Object> detailsSpecificPayload =
-                    JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-            payload.putAll(detailsSpecificPayload);
-
-            logMessage = JsonUtils.toCompactJson(payload);
+            logMessage = formatLogMessageForCloudLogging(message, LogSeverity.INFO, getLoggerSourceLocation(), details);
         }
         standardLog.info(logMessage);
     }
@@ -197,8 +187,6 @@ public final class Logger {
                     + System.lineSeparator() + sw.toString();
         }
 
-        Map<String, Object> payload = getBaseCloudLoggingPayload(message, severity);
-
         List<String> exceptionClasses = new ArrayList<>();
         List<List<String>> exceptionStackTraces = new ArrayList<>();
         List<String> exceptionMessages = new ArrayList<>();
@@ -218,23 +206,16 @@ public final class Logger {
         details.setExceptionStackTraces(exceptionStackTraces);
         details.setExceptionMessages(exceptionMessages);
 
+        SourceLocation sourceLocation = getLoggerSourceLocation();
         StackTraceElement tSource = getFirstInternalStackTrace(t);
         if (tSource != null) {
-            SourceLocation tSourceLocation = new SourceLocation(
-                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
-
             // Replace the source location with the Throwable's source location instead
-            SourceLocation loggerSourceLocation = (SourceLocation) payload.get("logging.googleapis.com/sourceLocation");
-            payload.put("logging.googleapis.com/sourceLocation", tSourceLocation);
-
-            details.setLoggerSourceLocation(loggerSourceLocation);
+            details.setLoggerSourceLocation(sourceLocation);
+            sourceLocation = new SourceLocation(
+                    tSource.getClassName(), (long) tSource.getLineNumber(), tSource.getMethodName());
         }
 
-        Map<String, Object> detailsSpecificPayload =
-                JsonUtils.fromJson(JsonUtils.toCompactJson(details), new TypeToken<Map<String, Object>>(){}.getType());
-        payload.putAll(detailsSpecificPayload);
-
-        return JsonUtils.toCompactJson(payload);
+        return formatLogMessageForCloudLogging(message, severity, sourceLocation, details);
     }
 
     /**
@@ -294,45 +275,46 @@ public final class Logger {
     }
 
     private String formatLogMessageForCloudLogging(String message, LogSeverity severity) {
-        return JsonUtils.toCompactJson(getBaseCloudLoggingPayload(message, severity));
+        return formatLogMessageForCloudLogging(message, severity, getLoggerSourceLocation(), null);
     }
 
-    private Map<String, Object> getBaseCloudLoggingPayload(String message, LogSeverity severity) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("message", message);
-        payload.put("severity", severity);
-
-        StackTraceElement source = getLoggerSource();
-        if (source != null) {
-            SourceLocation sourceLocation = new SourceLocation(
-                    source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
-            payload.put("logging.googleapis.com/sourceLocation", sourceLocation);
-        }
-
+    private String formatLogMessageForCloudLogging(String message, LogSeverity severity,
+                                                   SourceLocation sourceLocation, LogDetails details) {
+        String trace = null;
         if (RequestTracer.getTraceId() != null) {
-            payload.put("logging.googleapis.com/trace",
-                    "projects/" + Config.APP_ID + "/traces/" + RequestTracer.getTraceId());
+            trace = "projects/" + Config.APP_ID + "/traces/" + RequestTracer.getTraceId();
         }
+        return StructuredLogEncoder.encode(message, severity, sourceLocation, trace, RequestTracer.getSpanId(), details);
+    }
 
-        if (RequestTracer.getSpanId() != null) {
-            payload.put("logging.googleapis.com/spanId", RequestTracer.getSpanId());
+    private static String formatDroppedLogLinesMessage(long numDroppedLogLines) {
+        String message = numDroppedLogLines + " log lines were dropped as the log queue was full";
+        if (Config.IS_DEV_SERVER) {
+            return message;
         }
+        return StructuredLogEncoder.encode(message, LogSeverity.WARNING, null, null, null, null);
+    }
 
-        return payload;
+    private SourceLocation getLoggerSourceLocation() {
+        StackTraceElement source = getLoggerSource();
+        if (source == null) {
+            return null;
+        }
+        return new SourceLocation(source.getClassName(), (long) source.getLineNumber(), source.getMethodName());
     }
 
+    /**
+     * Returns the caller of the logger.
+     *
+     * <p>Only the frames up to the caller are walked, instead of capturing the whole stack trace of the thread.
+     */
     private StackTraceElement getLoggerSource() {
-        StackTraceElement[] stes = Thread.currentThread().getStackTrace();
-        for (int i = 0; i < stes.length; i++) {
-            StackTraceElement ste = stes[i];
-            if (ste.getClassName().equals(Logger.class.getName()) && i + 1 < stes.length) {
-                StackTraceElement nextSte = stes[i + 1];
-                if (!nextSte.getClassName().equals(Logger.class.getName())) {
-                    return nextSte;
-                }
-            }
-        }
-        return null;
+        return StackWalker.getInstance().walk(frames -> frames
+                .dropWhile(frame -> !frame.getClassName().equals(Logger.class.getName()))
+                .dropWhile(frame -> frame.getClassName().equals(Logger.class.getName()))
+                .findFirst()
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null));
     }
 
 }
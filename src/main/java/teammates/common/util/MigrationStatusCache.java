@@ -0,0 +1,58 @@
+package teammates.common.util;
+
+import java.util.Collection;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers which courses and accounts have been migrated from the datastore to the SQL database.
+ *
+ * <p>Migration is one-way, i.e. a course or account that has been migrated stays migrated,
+ * hence entries never need to be invalidated. Courses and accounts which are not known to be migrated
+ * (including those which do not exist in the datastore yet) are not cached.
+ */
+public final class MigrationStatusCache {
+
+    private static final long MAX_ENTRIES = 200_000;
+
+    private static final Cache<String, Boolean> MIGRATED_COURSES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+    private static final Cache<String, Boolean> MIGRATED_ACCOUNTS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .build();
+
+    private MigrationStatusCache() {
+        // utility class
+    }
+
+    /**
+     * Returns true if the course with {@code courseId} is known to be migrated.
+     */
+    public static boolean isCourseMigrated(String courseId) {
+        return courseId != null && MIGRATED_COURSES.getIfPresent(courseId) != null;
+    }
+
+    /**
+     * Records that the courses with {@code courseIds} have been migrated.
+     */
+    public static void markCoursesMigrated(Collection<String> courseIds) {
+        courseIds.forEach(courseId -> MIGRATED_COURSES.put(courseId, Boolean.TRUE));
+    }
+
+    /**
+     * Returns true if the account with {@code googleId} is known to be migrated.
+     */
+    public static boolean isAccountMigrated(String googleId) {
+        return googleId != null && MIGRATED_ACCOUNTS.getIfPresent(googleId) != null;
+    }
+
+    /**
+     * Records that the accounts with {@code googleIds} have been migrated.
+     */
+    public static void markAccountsMigrated(Collection<String> googleIds) {
+        googleIds.forEach(googleId -> MIGRATED_ACCOUNTS.put(googleId, Boolean.TRUE));
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Callable;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -49,6 +50,17 @@ public final class RequestTracer {
         return trace.timeoutTimestamp - Instant.now().toEpochMilli();
     }
 
+    /**
+     * Returns the remaining time (in millis) until the current request times out,
+     * or {@link Long#MAX_VALUE} if the current thread is not serving any request.
+     */
+    static long getRemainingTimeMillisOrMax() {
+        if (THREAD_LOCAL.get() == null) {
+            return Long.MAX_VALUE;
+        }
+        return getRemainingTimeMillis();
+    }
+
     /**
      * Throws {@link DeadlineExceededException} if the current thread has exceeded
      * the limit for serving request.
@@ -78,6 +90,23 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Returns a task which runs the given task with the trace of the current request,
+     * e.g. so that the task respects the deadline of the request when it is run in another thread.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return () -> {
+            RequestTrace previousTrace = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(trace);
+            try {
+                return task.call();
+            } finally {
+                THREAD_LOCAL.set(previousTrace);
+            }
+        };
+    }
+
     private static final class RequestTrace {
         private final String traceId;
         private final String spanId;
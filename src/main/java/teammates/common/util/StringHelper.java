@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +26,18 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+    private static final String CIPHER_ALGORITHM = "AES";
+    private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+
+    // Mac and Cipher instances are not thread-safe and are costly to look up and initialize,
+    // hence each thread keeps its own instances, initialized once with the pre-derived keys.
+    private static final ThreadLocal<Mac> SIGNING_MAC = ThreadLocal.withInitial(StringHelper::createSigningMac);
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
     private StringHelper() {
         // utility class
     }
@@ -85,11 +98,7 @@ public final class StringHelper {
      */
     public static String generateSignature(String data) {
         try {
-            SecretKeySpec signingKey =
-                    new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA1");
-            Mac mac = Mac.getInstance("HmacSHA1");
-            mac.init(signingKey);
-            byte[] value = mac.doFinal(data.getBytes(Const.ENCODING));
+            byte[] value = SIGNING_MAC.get().doFinal(data.getBytes(Const.ENCODING));
             return byteArrayToHexString(value);
         } catch (Exception e) {
             assert false;
@@ -120,10 +129,7 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes(Const.ENCODING));
+            byte[] encrypted = ENCRYPTION_CIPHER.get().doFinal(value.getBytes(Const.ENCODING));
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
             assert false;
@@ -141,12 +147,14 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = DECRYPTION_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted, Const.ENCODING);
-        } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+        } catch (NumberFormatException e) {
+            log.warning("Attempted to decrypt invalid ciphertext: " + message);
+            throw new InvalidParametersException(e);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            // the cipher may be left in an inconsistent state after a failed decryption
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
@@ -155,6 +163,36 @@ public final class StringHelper {
         }
     }
 
+    private static Mac createSigningMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(EncryptionKey.BYTES, HMAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, new SecretKeySpec(EncryptionKey.BYTES, CIPHER_ALGORITHM));
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Holds the encryption key parsed from {@link Config#ENCRYPTION_KEY}.
+     *
+     * <p>The key is only parsed when it is first needed, so that an invalid key does not
+     * prevent the other helper functions from being used.
+     */
+    private static final class EncryptionKey {
+        private static final byte[] BYTES = hexStringToByteArray(Config.ENCRYPTION_KEY);
+    }
+
     /**
      * Converts and concatenates a list of objects to a single string, separated by line breaks.
      * The conversion is done by using the {@link Object#toString()} method.
@@ -239,7 +277,7 @@ public final class StringHelper {
     public static byte[] hexStringToByteArray(String s) {
         byte[] b = new byte[s.length() / 2];
         IntStream.range(0, b.length)
-                .forEach(i -> b[i] = (byte) Integer.parseInt(s.substring(i * 2, i * 2 + 2), 16));
+                .forEach(i -> b[i] = (byte) Integer.parseInt(s, i * 2, i * 2 + 2, 16));
         return b;
     }
 
@@ -0,0 +1,121 @@
+package teammates.common.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.logs.LogDetails;
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.SourceLocation;
+
+/**
+ * Encodes log lines into the structured JSON payload understood by Google Cloud Logging.
+ *
+ * <p>The payload is written in a single pass into a buffer reused by each thread; the fields of the log details
+ * are serialized straight into the payload instead of being serialized, parsed back and merged with it.
+ */
+final class StructuredLogEncoder {
+
+    /**
+     * Buffers which grew beyond this size, e.g. for a log line with a large request body, are not kept for reuse.
+     */
+    private static final int MAX_REUSED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
+    private StructuredLogEncoder() {
+        // utility class
+    }
+
+    /**
+     * Encodes a log line.
+     *
+     * <p>Apart from the message and the severity, all parts of the log line are optional.
+     * If the details have a message of their own, it takes the place of the given message.
+     */
+    static String encode(String message, LogSeverity severity, SourceLocation sourceLocation,
+                         String trace, String spanId, LogDetails details) {
+        StringWriter buffer = BUFFER.get();
+        buffer.getBuffer().setLength(0);
+
+        try {
+            MergingJsonWriter out = new MergingJsonWriter(buffer);
+            out.beginObject();
+            if (details == null || details.getMessage() == null) {
+                out.name("message").value(message);
+            }
+            out.name("severity").value(severity.name());
+            if (sourceLocation != null) {
+                out.name("logging.googleapis.com/sourceLocation").beginObject()
+                        .name("file").value(sourceLocation.getFile())
+                        .name("line").value(sourceLocation.getLine())
+                        .name("function").value(sourceLocation.getFunction())
+                        .endObject();
+            }
+            out.name("logging.googleapis.com/trace").value(trace);
+            out.name("logging.googleapis.com/spanId").value(spanId);
+            if (details != null) {
+                out.mergeObject(details);
+            }
+            out.endObject();
+            out.flush();
+        } catch (IOException e) {
+            // not thrown when writing to a StringWriter
+            throw new UncheckedIOException(e);
+        }
+
+        String payload = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_REUSED_BUFFER_SIZE) {
+            BUFFER.remove();
+        }
+        return payload;
+    }
+
+    /**
+     * {@link JsonWriter} which can write the fields of an object into the object currently being written.
+     * Fields with null values are left out.
+     */
+    private static final class MergingJsonWriter extends JsonWriter {
+
+        /**
+         * Depth of the objects being written within the merged object, or -1 if no object is being merged.
+         */
+        private int mergedObjectDepth = -1;
+
+        MergingJsonWriter(StringWriter out) {
+            super(out);
+            setSerializeNulls(false);
+        }
+
+        void mergeObject(Object src) {
+            mergedObjectDepth = 0;
+            try {
+                // the runtime class is used so that the fields are streamed instead of built into a tree first
+                JsonUtils.toCompactJson(src, src.getClass(), this);
+            } finally {
+                mergedObjectDepth = -1;
+            }
+        }
+
+        @Override
+        public JsonWriter beginObject() throws IOException {
+            if (mergedObjectDepth >= 0 && mergedObjectDepth++ == 0) {
+                // the fields of the merged object go into the current object
+                return this;
+            }
+            return super.beginObject();
+        }
+
+        @Override
+        public JsonWriter endObject() throws IOException {
+            if (mergedObjectDepth >= 0 && --mergedObjectDepth == 0) {
+                return this;
+            }
+            return super.endObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package teammates.common.util;
+
+import java.time.Duration;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches whether users are instructors and/or students in any course, keyed by Google ID.
+ *
+ * <p>Each entry expires {@link Config#USER_ROLES_CACHE_TTL_SECONDS} seconds after it is written.
+ * Entries are also invalidated whenever a user joins, leaves or is removed from a course on this instance;
+ * changes made through other instances are only picked up once the entry expires.
+ */
+public final class UserRolesCache {
+
+    private static final long MAX_ENTRIES = 10_000;
+
+    private static final Cache<String, UserRoles> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(Duration.ofSeconds(Config.USER_ROLES_CACHE_TTL_SECONDS))
+            .build();
+
+    private UserRolesCache() {
+        // utility class
+    }
+
+    /**
+     * Returns the cached roles of the user with {@code googleId}, or null if they are not cached.
+     */
+    public static UserRoles get(String googleId) {
+        if (!isEnabled() || googleId == null) {
+            return null;
+        }
+        return CACHE.getIfPresent(googleId);
+    }
+
+    /**
+     * Caches the roles of the user with {@code googleId}.
+     */
+    public static void put(String googleId, UserRoles roles) {
+        if (!isEnabled() || googleId == null) {
+            return;
+        }
+        CACHE.put(googleId, roles);
+    }
+
+    /**
+     * Invalidates the cached roles of the user with {@code googleId}.
+     */
+    public static void invalidate(String googleId) {
+        if (googleId == null) {
+            return;
+        }
+        CACHE.invalidate(googleId);
+    }
+
+    /**
+     * Invalidates the cached roles of the user with {@code googleId}, both now and once the current
+     * database transaction completes.
+     *
+     * <p>Use this when the roles are changed within a transaction, as roles loaded by another request
+     * before the change is committed would otherwise stay cached.
+     */
+    public static void invalidateAfterTransaction(String googleId) {
+        if (googleId == null) {
+            return;
+        }
+        invalidate(googleId);
+        HibernateUtil.runAfterTransaction(() -> invalidate(googleId));
+    }
+
+    /**
+     * Invalidates the cached roles of all users, e.g. when a whole course is deleted.
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    private static boolean isEnabled() {
+        return Config.USER_ROLES_CACHE_TTL_SECONDS > 0;
+    }
+
+    /**
+     * Represents the cached roles of a user.
+     */
+    public static final class UserRoles {
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        public UserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+        public boolean isInstructor() {
+            return isInstructor;
+        }
+
+        public boolean isStudent() {
+            return isStudent;
+        }
+    }
+
+}
@@ -86,6 +86,13 @@ public class Logic {
         return accountsLogic.getAccount(googleId);
     }
 
+    /**
+     * Gets the Google IDs of all accounts that have been migrated.
+     */
+    public List<String> getMigratedAccountGoogleIds() {
+        return accountsLogic.getMigratedAccountGoogleIds();
+    }
+
     /**
      * Returns a list of accounts with email matching {@code email}.
      *
@@ -452,6 +459,13 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Gets the IDs of all courses that have been migrated.
+     */
+    public List<String> getMigratedCourseIds() {
+        return coursesLogic.getMigratedCourseIds();
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
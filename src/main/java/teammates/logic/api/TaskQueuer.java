@@ -1,6 +1,8 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +54,10 @@ public class TaskQueuer {
         service.addDeferredTask(task, countdownTime);
     }
 
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks, long intervalTime) {
+        return service.addDeferredTasks(tasks, intervalTime);
+    }
+
     // The following methods are the actual API methods to be used by the client classes
 
     /**
@@ -194,14 +200,36 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        long numberOfEmailsSent = 0L;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        Map<TaskWrapper, EmailWrapper> emailsOfTasks = new IdentityHashMap<>();
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            TaskWrapper task = new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    new HashMap<>(), new SendEmailRequest(email));
+            tasks.add(task);
+            emailsOfTasks.put(task, email);
+        }
+
+        try {
+            List<TaskWrapper> failedTasks = addDeferredTasks(tasks, emailIntervalMillis);
+            for (TaskWrapper failedTask : failedTasks) {
+                logEmailNotAdded(emailsOfTasks.get(failedTask), "task could not be created");
+            }
+        } catch (Exception e) {
+            for (EmailWrapper email : emails) {
+                logEmailNotAdded(email, e.getMessage());
+            }
         }
     }
 
+    private void logEmailNotAdded(EmailWrapper email, String errorMessage) {
+        log.severe("Error when adding email to task queue: " + errorMessage + "\n"
+                   + "Email sender: " + email.getSenderEmail() + "\n"
+                   + "Email sender name: " + email.getSenderName() + "\n"
+                   + "Email receiver: " + email.getRecipient() + "\n"
+                   + "Email subject: " + email.getSubject() + "\n"
+                   + "Email reply-to address: " + email.getReplyTo());
+    }
+
     /**
      * Schedules for the search indexing of the instructor identified by {@code courseId} and {@code email}.
      *
@@ -245,26 +273,38 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        try {
-            SendEmailRequest request = new SendEmailRequest(email);
+    /**
+     * Schedules for the search indexing of the students identified by {@code courseId} and {@code emails}.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        addDeferredTasks(createSearchIndexingTasks(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL,
+                ParamsNames.STUDENT_EMAIL, courseId, emails), 0);
+    }
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            new HashMap<>(), request, emailDelayTimer);
-        } catch (Exception e) {
-            String emailSubject = email.getSubject();
-            String emailSenderName = email.getSenderName();
-            String emailSender = email.getSenderEmail();
-            String emailReceiver = email.getRecipient();
-            String emailReplyToAddress = email.getReplyTo();
-
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+    /**
+     * Schedules for the search indexing of the instructors identified by {@code courseId} and {@code emails}.
+     *
+     * @param courseId the course ID of the instructors
+     * @param emails the emails of the instructors
+     */
+    public void scheduleInstructorsForSearchIndexing(String courseId, List<String> emails) {
+        addDeferredTasks(createSearchIndexingTasks(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL,
+                ParamsNames.INSTRUCTOR_EMAIL, courseId, emails), 0);
+    }
+
+    private List<TaskWrapper> createSearchIndexingTasks(String workerUrl, String emailParamName,
+                                                        String courseId, List<String> emails) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String email : emails) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, courseId);
+            paramMap.put(emailParamName, email);
+            tasks.add(new TaskWrapper(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, workerUrl, paramMap, null));
         }
+        return tasks;
     }
 
 }
@@ -1,9 +1,14 @@
 package teammates.logic.api;
 
+import java.util.function.Supplier;
+
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
+import teammates.common.util.BackgroundReader;
 import teammates.common.util.Config;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRolesCache;
+import teammates.common.util.UserRolesCache.UserRoles;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.sqllogic.core.UsersLogic;
@@ -18,6 +23,7 @@ public class UserProvision {
     private final UsersLogic usersLogic = UsersLogic.inst();
     private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final BackgroundReader backgroundReader = BackgroundReader.inst();
 
     @SuppressWarnings("PMD.UnnecessaryConstructor")
     public UserProvision() {
@@ -33,6 +39,19 @@ public class UserProvision {
      * Gets the information of the current logged in user.
      */
     public UserInfo getCurrentUser(UserInfoCookie uic) {
+        return getCurrentUser(uic, false);
+    }
+
+    /**
+     * Gets the information of the current logged in user, with an SQL transaction.
+     *
+     * <p>No transaction is started if the roles of the user are cached.
+     */
+    public UserInfo getCurrentUserWithTransaction(UserInfoCookie uic) {
+        return getCurrentUser(uic, true);
+    }
+
+    private UserInfo getCurrentUser(UserInfoCookie uic, boolean isTransactionNeeded) {
         UserInfo user = getCurrentLoggedInUser(uic);
 
         if (user == null) {
@@ -41,22 +60,51 @@ public class UserProvision {
 
         String userId = user.id;
         user.isAdmin = Config.APP_ADMINS.contains(userId);
-        user.isInstructor = usersLogic.isInstructorInAnyCourse(userId)
-                || instructorsLogic.isInstructorInAnyCourse(userId);
-        user.isStudent = usersLogic.isStudentInAnyCourse(userId)
-                || studentsLogic.isStudentInAnyCourse(userId);
+        UserRoles roles = UserRolesCache.get(userId);
+        if (roles == null) {
+            if (isTransactionNeeded) {
+                HibernateUtil.beginTransaction();
+                roles = loadUserRoles(userId);
+                HibernateUtil.commitTransaction();
+            } else {
+                roles = loadUserRoles(userId);
+            }
+        }
+        user.isInstructor = roles.isInstructor();
+        user.isStudent = roles.isStudent();
         user.isMaintainer = Config.APP_MAINTAINERS.contains(user.getId());
         return user;
     }
 
     /**
-     * Gets the information of the current logged in user, with an SQL transaction.
+     * Looks up the roles of the user with {@code googleId} in both databases and caches them.
      */
-    public UserInfo getCurrentUserWithTransaction(UserInfoCookie uic) {
-        HibernateUtil.beginTransaction();
-        UserInfo userInfo = getCurrentUser(uic);
-        HibernateUtil.commitTransaction();
-        return userInfo;
+    private UserRoles loadUserRoles(String googleId) {
+        UserRoles roles;
+        if (backgroundReader.isRunningInBackground()) {
+            roles = loadUserRolesInParallel(googleId);
+        } else {
+            // the datastore is only read if the role is not found in Postgres
+            boolean isInstructor = usersLogic.isInstructorInAnyCourse(googleId)
+                    || instructorsLogic.isInstructorInAnyCourse(googleId);
+            boolean isStudent = usersLogic.isStudentInAnyCourse(googleId)
+                    || studentsLogic.isStudentInAnyCourse(googleId);
+            roles = new UserRoles(isInstructor, isStudent);
+        }
+        UserRolesCache.put(googleId, roles);
+        return roles;
+    }
+
+    private UserRoles loadUserRolesInParallel(String googleId) {
+        // the datastore is read in the background while Postgres is read in the current thread
+        Supplier<UserRoles> datastoreRolesRead = backgroundReader.start(() -> new UserRoles(
+                instructorsLogic.isInstructorInAnyCourse(googleId), studentsLogic.isStudentInAnyCourse(googleId)));
+        boolean isInstructor = usersLogic.isInstructorInAnyCourse(googleId);
+        boolean isStudent = usersLogic.isStudentInAnyCourse(googleId);
+        UserRoles datastoreRoles = datastoreRolesRead.get();
+
+        return new UserRoles(isInstructor || datastoreRoles.isInstructor(),
+                isStudent || datastoreRoles.isStudent());
     }
 
     // TODO: method visibility to package-private after migration
@@ -76,11 +124,13 @@ public class UserProvision {
      */
     public UserInfo getMasqueradeUser(String googleId) {
         UserInfo userInfo = new UserInfo(googleId);
+        UserRoles roles = UserRolesCache.get(googleId);
+        if (roles == null) {
+            roles = loadUserRoles(googleId);
+        }
         userInfo.isAdmin = false;
-        userInfo.isInstructor = usersLogic.isInstructorInAnyCourse(googleId)
-                || instructorsLogic.isInstructorInAnyCourse(googleId);
-        userInfo.isStudent = usersLogic.isInstructorInAnyCourse(googleId)
-                || studentsLogic.isStudentInAnyCourse(googleId);
+        userInfo.isInstructor = roles.isInstructor();
+        userInfo.isStudent = roles.isStudent();
         userInfo.isMaintainer = Config.APP_MAINTAINERS.contains(googleId);
         return userInfo;
     }
@@ -69,6 +69,13 @@ public final class AccountsLogic {
         return accountsDb.getAccount(googleId);
     }
 
+    /**
+     * Gets the Google IDs of all accounts that have been migrated.
+     */
+    public List<String> getMigratedAccountGoogleIds() {
+        return accountsDb.getMigratedAccountGoogleIds();
+    }
+
     /**
      * Gets a sql account.
      */
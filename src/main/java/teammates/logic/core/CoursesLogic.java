@@ -134,6 +134,13 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the IDs of all courses that have been migrated.
+     */
+    public List<String> getMigratedCourseIds() {
+        return coursesDb.getMigratedCourseIds();
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -18,6 +18,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -85,7 +86,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        UserRolesCache.invalidate(createdInstructor.getGoogleId());
+        return createdInstructor;
     }
 
     /**
@@ -300,7 +303,10 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        UserRolesCache.invalidate(originalInstructor.getGoogleId());
+        UserRolesCache.invalidate(updatedInstructor.getGoogleId());
+        return updatedInstructor;
     }
 
     /**
@@ -308,6 +314,7 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        UserRolesCache.invalidateAll();
     }
 
     /**
@@ -323,6 +330,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        UserRolesCache.invalidate(instructorAttributes.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -359,11 +367,13 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        InstructorAttributes originalInstructor = instructorsDb.getInstructorForEmail(courseId, originalEmail);
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
                             .withGoogleId(null)
                             .build());
+            UserRolesCache.invalidate(originalInstructor.getGoogleId());
         } catch (InvalidParametersException e) {
             assert false : "Unexpected invalid parameter.";
         }
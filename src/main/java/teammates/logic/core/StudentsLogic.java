@@ -16,6 +16,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -66,7 +67,9 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        UserRolesCache.invalidate(createdStudent.getGoogleId());
+        return createdStudent;
     }
 
     /**
@@ -237,6 +240,8 @@ public final class StudentsLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        UserRolesCache.invalidate(originalStudent.getGoogleId());
+        UserRolesCache.invalidate(updatedStudent.getGoogleId());
 
         // cascade email change, if any
         if (!originalStudent.getEmail().equals(updatedStudent.getEmail())) {
@@ -445,6 +450,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        UserRolesCache.invalidate(student.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -473,6 +479,7 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        UserRolesCache.invalidateAll();
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
 
@@ -2,7 +2,11 @@ package teammates.logic.external;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import com.google.api.gax.rpc.ApiException;
 import com.google.cloud.tasks.v2.AppEngineHttpRequest;
 import com.google.cloud.tasks.v2.AppEngineRouting;
 import com.google.cloud.tasks.v2.CloudTasksClient;
@@ -29,39 +33,69 @@ public class GoogleCloudTasksService implements TaskQueueService {
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         try (CloudTasksClient client = CloudTasksClient.create()) {
-            String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
-
-            AppEngineHttpRequest.Builder requestBuilder =
-                    AppEngineHttpRequest.newBuilder()
-                            .setAppEngineRouting(AppEngineRouting.newBuilder()
-                                    .setVersion(Config.APP_VERSION)
-                                    .build())
-                            .setHttpMethod(HttpMethod.POST);
-
-            if (task.getRequestBody() == null) {
-                String relativeUrl = "http://place.holder"; // the value is not important
-                AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
-                task.getParamMap().forEach((key, value) -> url.withParam(key, value));
+            createTask(client, task, countdownTime);
+        } catch (IOException e) {
+            log.severe("Cannot create Cloud Tasks client", e);
+        }
+    }
 
-                requestBuilder.setRelativeUri(url.toString());
-            } else {
-                String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
-                requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
-                        .setRelativeUri(task.getWorkerUrl())
-                        .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
-            }
+    @Override
+    public List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks, long intervalTime) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
-            if (countdownTime > 0) {
-                taskBuilder.setScheduleTime(
-                        Timestamp.newBuilder()
-                                .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
+        // The same client is used for all the tasks as creating a client is relatively expensive
+        try (CloudTasksClient client = CloudTasksClient.create()) {
+            List<TaskWrapper> failedTasks = new ArrayList<>();
+            long countdownTime = 0;
+            for (TaskWrapper task : tasks) {
+                try {
+                    createTask(client, task, countdownTime);
+                } catch (ApiException | IOException e) {
+                    log.severe("Cannot create task for " + task.getWorkerUrl(), e);
+                    failedTasks.add(task);
+                }
+                countdownTime += intervalTime;
             }
-
-            client.createTask(queuePath, taskBuilder.build());
+            return failedTasks;
         } catch (IOException e) {
             log.severe("Cannot create Cloud Tasks client", e);
+            return tasks;
+        }
+    }
+
+    private void createTask(CloudTasksClient client, TaskWrapper task, long countdownTime) throws IOException {
+        String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
+
+        AppEngineHttpRequest.Builder requestBuilder =
+                AppEngineHttpRequest.newBuilder()
+                        .setAppEngineRouting(AppEngineRouting.newBuilder()
+                                .setVersion(Config.APP_VERSION)
+                                .build())
+                        .setHttpMethod(HttpMethod.POST);
+
+        if (task.getRequestBody() == null) {
+            String relativeUrl = "http://place.holder"; // the value is not important
+            AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
+            task.getParamMap().forEach((key, value) -> url.withParam(key, value));
+
+            requestBuilder.setRelativeUri(url.toString());
+        } else {
+            String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
+            requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
+                    .setRelativeUri(task.getWorkerUrl())
+                    .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
         }
+
+        Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
+        if (countdownTime > 0) {
+            taskBuilder.setScheduleTime(
+                    Timestamp.newBuilder()
+                            .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
+        }
+
+        client.createTask(queuePath, taskBuilder.build());
     }
 
 }
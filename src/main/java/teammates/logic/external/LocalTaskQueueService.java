@@ -4,16 +4,22 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -28,6 +34,20 @@ public class LocalTaskQueueService implements TaskQueueService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_CONCURRENT_TASKS = 4;
+
+    // Shared by all tasks so that connections to the dev server are pooled instead of opened per task
+    private static final CloseableHttpClient HTTP_CLIENT = HttpClients.custom()
+            .setMaxConnTotal(MAX_CONCURRENT_TASKS)
+            .setMaxConnPerRoute(MAX_CONCURRENT_TASKS)
+            .build();
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_TASKS, runnable -> {
+        Thread thread = new Thread(runnable, "local-task-queue");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         // In dev server, task queues are either not active (i.e. they will not be executed even if queued)
@@ -36,6 +56,36 @@ public class LocalTaskQueueService implements TaskQueueService {
         if (!Config.TASKQUEUE_ACTIVE) {
             return;
         }
+        executeTask(task);
+    }
+
+    @Override
+    public List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks, long intervalTime) {
+        // As with a single task, the tasks are executed immediately, regardless of the interval
+
+        if (!Config.TASKQUEUE_ACTIVE || tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Callable<Void>> executions = new ArrayList<>();
+        for (TaskWrapper task : tasks) {
+            executions.add(() -> {
+                executeTask(task);
+                return null;
+            });
+        }
+
+        try {
+            EXECUTOR.invokeAll(executions);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.severe("Interrupted while executing tasks", e);
+        }
+        // tasks which fail to be executed are logged when they are executed, as with a single task
+        return Collections.emptyList();
+    }
+
+    private void executeTask(TaskWrapper task) {
         HttpPost post = new HttpPost(createBasicUri(
                 "http://localhost:" + Config.getPort() + task.getWorkerUrl(), task.getParamMap()));
 
@@ -48,8 +98,9 @@ public class LocalTaskQueueService implements TaskQueueService {
         post.addHeader("X-AppEngine-QueueName", task.getQueueName());
         post.addHeader("X-Google-DevAppserver-SkipAdminCheck", "true");
 
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            httpClient.execute(post);
+        try (CloseableHttpResponse response = HTTP_CLIENT.execute(post)) {
+            // the response has to be consumed for the connection to be returned to the pool
+            EntityUtils.consume(response.getEntity());
         } catch (IOException e) {
             log.severe("Error when executing HTTP request", e);
         }
@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -15,4 +17,14 @@ public interface TaskQueueService {
      */
     void addDeferredTask(TaskWrapper task, long countdownTime);
 
+    /**
+     * Adds the given tasks to their respective queues, spread out by the specified interval,
+     * i.e. the {@code i}-th task (zero-based) is to be run after {@code i * intervalTime}.
+     *
+     * @param tasks the task objects containing the details of the tasks to be added
+     * @param intervalTime the time delay between the execution of consecutive tasks
+     * @return the tasks which could not be added
+     */
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks, long intervalTime);
+
 }
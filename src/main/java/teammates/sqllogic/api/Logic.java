@@ -13,6 +13,7 @@ import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
 import teammates.common.exception.EnrollException;
@@ -675,6 +676,25 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByInstructor(session, userEmail);
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted a feedback session.
+     *
+     * @see #isFeedbackSessionAttemptedByStudent(FeedbackSession, String, String)
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        return feedbackSessionsLogic.getStudentsYetToAttemptFeedbackSession(session, students);
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted a feedback session.
+     *
+     * @see #isFeedbackSessionAttemptedByInstructor(FeedbackSession, String)
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        return feedbackSessionsLogic.getInstructorsYetToAttemptFeedbackSession(session, instructors);
+    }
+
     /**
      * Deletes a feedback session cascade to its associated questions, responses, deadline extensions and comments.
      *
@@ -763,6 +783,13 @@ public class Logic {
         return usageStatisticsLogic.getUsageStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Gets the usage statistics with the latest start time, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        return usageStatisticsLogic.getLatestUsageStatistics();
+    }
+
     /**
      * Calculate usage statistics within a time range.
      */
@@ -898,6 +925,15 @@ public class Logic {
         return usersLogic.getInstructorsForCourse(courseId);
     }
 
+    /**
+     * Gets a page of the instructors of a course, ordered by email.
+     *
+     * @param afterEmail the email of the last instructor in the previous page, or null for the first page
+     */
+    public List<Instructor> getInstructorsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        return usersLogic.getInstructorsPageForCourse(courseId, afterEmail, pageSize);
+    }
+
     /**
      * Creates an instructor.
      */
@@ -1059,6 +1095,16 @@ public class Logic {
         return usersLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets a page of the students of a course, ordered by email.
+     *
+     * @param afterEmail the email of the last student in the previous page, or null for the first page
+     */
+    public List<Student> getStudentsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        assert courseId != null;
+        return usersLogic.getStudentsPageForCourse(courseId, afterEmail, pageSize);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1392,6 +1438,15 @@ public class Logic {
         return dataBundleLogic.persistDataBundle(dataBundle);
     }
 
+    /**
+     * Persists the given data bundle to the database in bulk.
+     *
+     * @see DataBundleLogic#persistDataBundleInBulk(SqlDataBundle)
+     */
+    public SqlDataBundle persistDataBundleInBulk(SqlDataBundle dataBundle) throws InvalidParametersException {
+        return dataBundleLogic.persistDataBundleInBulk(dataBundle);
+    }
+
     /**
      * Puts searchable documents from the data bundle to the database.
      *
@@ -1480,6 +1535,21 @@ public class Logic {
         return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, null);
     }
 
+    /**
+     * Gets the recipients of a feedback question for the giver, using the given course roster
+     * instead of fetching the students and instructors of the course.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestion
+     */
+    public Map<String, FeedbackQuestionRecipient> getRecipientsOfQuestion(
+            FeedbackQuestion question,
+            @Nullable Instructor instructorGiver, @Nullable Student studentGiver, SqlCourseRoster courseRoster) {
+        assert question != null;
+        assert courseRoster != null;
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, courseRoster);
+    }
+
     /**
      * Gets a feedbackResponse or null if it does not exist.
      */
@@ -1746,4 +1816,20 @@ public class Logic {
         return feedbackSessionLogsLogic.getOrderedFeedbackSessionLogs(courseId, studentId, feedbackSessionId, startTime,
                 endTime);
     }
+
+    /**
+     * Gets a page of the feedback session logs as filtered by the given parameters ordered by
+     * ascending timestamp. Logs with the same timestamp will be ordered by their ID.
+     *
+     * @param studentId        Can be null
+     * @param feedbackSessionId Can be null
+     * @param afterTimestamp   the timestamp of the last log in the previous page, or null for the first page
+     * @param afterId          the ID of the last log in the previous page, or null for the first page
+     */
+    public List<FeedbackSessionLog> getOrderedFeedbackSessionLogsPage(String courseId, UUID studentId,
+            UUID feedbackSessionId, Instant startTime, Instant endTime,
+            Instant afterTimestamp, UUID afterId, int pageSize) {
+        return feedbackSessionLogsLogic.getOrderedFeedbackSessionLogsPage(courseId, studentId, feedbackSessionId,
+                startTime, endTime, afterTimestamp, afterId, pageSize);
+    }
 }
@@ -717,15 +717,17 @@ public final class SqlEmailGenerator {
             if (instructor == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForInstructors(
-                    course, session, instructor, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                    deLogic.getDeadlineForUser(session, instructor), template, emailType, feedbackAction,
+                    additionalContactInformation);
         } else {
             Student student = usersLogic.getStudentForEmail(course.getId(), userEmail);
             if (student == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForStudents(
-                    course, session, student, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForStudents(course, session, student,
+                    deLogic.getDeadlineForUser(session, student), template, emailType, feedbackAction,
+                    additionalContactInformation);
         }
     }
 
@@ -738,13 +740,19 @@ public final class SqlEmailGenerator {
         studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
         instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
 
+        // the deadline extensions of the session are looked up once instead of once per user
+        Map<UUID, Instant> userIdToDeadlineTable = session.getDeadlineExtensions().stream()
+                .collect(Collectors.toMap(de -> de.getUser().getId(), DeadlineExtension::getEndTime));
+
         List<EmailWrapper> emails = new ArrayList<>();
         for (Student student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
+            Instant deadline = userIdToDeadlineTable.getOrDefault(student.getId(), session.getEndTime());
+            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student, deadline,
                     template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+            Instant deadline = userIdToDeadlineTable.getOrDefault(instructor.getId(), session.getEndTime());
+            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor, deadline,
                     template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
         }
         for (Instructor instructor : instructorsToNotify) {
@@ -755,7 +763,7 @@ public final class SqlEmailGenerator {
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            Course course, FeedbackSession session, Student student, String template,
+            Course course, FeedbackSession session, Student student, Instant deadline, String template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
@@ -769,8 +777,6 @@ public final class SqlEmailGenerator {
                 .withRegistrationKey(student.getRegKey())
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, student);
-
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 deadline, session.getCourse().getTimeZone(), false);
         String emailBody = Templates.populateTemplate(template,
@@ -796,7 +802,7 @@ public final class SqlEmailGenerator {
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
+            Course course, FeedbackSession session, Instructor instructor, Instant deadline,
             String template, EmailType type, String feedbackAction, String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
@@ -812,8 +818,6 @@ public final class SqlEmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, instructor);
-
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 deadline, session.getCourse().getTimeZone(), false);
         String emailBody = Templates.populateTemplate(template,
@@ -1,5 +1,6 @@
 package teammates.sqllogic.core;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -134,6 +135,13 @@ public final class AccountRequestsLogic {
         return accountRequestDb.getAllAccountRequests();
     }
 
+    /**
+     * Gets the number of account requests created within a specified time range.
+     */
+    long getNumAccountRequestsByTimeRange(Instant startTime, Instant endTime) {
+        return accountRequestDb.getNumAccountRequestsByTimeRange(startTime, endTime);
+    }
+
     /**
      * Get a list of account requests associated with email provided.
      */
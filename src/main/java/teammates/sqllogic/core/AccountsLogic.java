@@ -9,6 +9,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
@@ -214,6 +215,7 @@ public final class AccountsLogic {
         if (student.getAccount() == null) {
             student.setAccount(account);
         }
+        UserRolesCache.invalidateAfterTransaction(googleId);
 
         return student;
     }
@@ -236,6 +238,7 @@ public final class AccountsLogic {
         }
 
         instructor.setAccount(account);
+        UserRolesCache.invalidateAfterTransaction(googleId);
 
         // Update the googleId of the student entity for the instructor which was created from sample data.
         Student student = usersLogic.getStudentForEmail(instructor.getCourseId(), instructor.getEmail());
@@ -70,6 +70,13 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the number of courses created within a specified time range.
+     */
+    long getNumCoursesByTimeRange(Instant startTime, Instant endTime) {
+        return coursesDb.getNumCoursesByTimeRange(startTime, endTime);
+    }
+
     /**
      * Returns a list of {@link Course} for all courses a given student is enrolled in.
      *
@@ -11,7 +11,12 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Config;
+import teammates.common.util.CourseRosterCache;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.UserRolesCache;
+import teammates.storage.sqlapi.DataBundleDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.Course;
@@ -38,6 +43,7 @@ public final class DataBundleLogic {
 
     private static final DataBundleLogic instance = new DataBundleLogic();
 
+    private DataBundleDb dataBundleDb;
     private AccountsLogic accountsLogic;
     private AccountRequestsLogic accountRequestsLogic;
     private CoursesLogic coursesLogic;
@@ -58,10 +64,12 @@ public final class DataBundleLogic {
         return instance;
     }
 
-    void initLogicDependencies(AccountsLogic accountsLogic, AccountRequestsLogic accountRequestsLogic,
-            CoursesLogic coursesLogic, DeadlineExtensionsLogic deadlineExtensionsLogic, FeedbackSessionsLogic fsLogic,
+    void initLogicDependencies(DataBundleDb dataBundleDb, AccountsLogic accountsLogic,
+            AccountRequestsLogic accountRequestsLogic, CoursesLogic coursesLogic,
+            DeadlineExtensionsLogic deadlineExtensionsLogic, FeedbackSessionsLogic fsLogic,
             FeedbackSessionLogsLogic fslLogic, FeedbackQuestionsLogic fqLogic, FeedbackResponsesLogic frLogic,
             FeedbackResponseCommentsLogic frcLogic, NotificationsLogic notificationsLogic, UsersLogic usersLogic) {
+        this.dataBundleDb = dataBundleDb;
         this.accountsLogic = accountsLogic;
         this.accountRequestsLogic = accountRequestsLogic;
         this.coursesLogic = coursesLogic;
@@ -267,6 +275,9 @@ public final class DataBundleLogic {
 
         linkEntities(dataBundle);
 
+        // Entities are created type by type, so a larger batch size lets most of them be inserted in a few batches.
+        HibernateUtil.setJdbcBatchSize(Config.POSTGRES_BULK_BATCH_SIZE);
+
         Collection<Account> accounts = dataBundle.accounts.values();
         Collection<AccountRequest> accountRequests = dataBundle.accountRequests.values();
         Collection<Course> courses = dataBundle.courses.values();
@@ -346,6 +357,63 @@ public final class DataBundleLogic {
         return dataBundle;
     }
 
+    /**
+     * Persists data in the given {@link DataBundle} to the database in bulk.
+     *
+     * <p>Unlike {@link #persistDataBundle(SqlDataBundle)}, entities are persisted type by type in dependency order
+     * without going through the logic which creates them one at a time. Hence, it is not checked whether
+     * they already exist in the database, and side effects of creating an entity, e.g. renumbering the other
+     * questions of a session, are skipped. The data bundle is thus expected to be consistent on its own
+     * and to be loaded into a database which does not have any of its entities yet.
+     *
+     * @throws InvalidParametersException if invalid data is encountered.
+     */
+    public SqlDataBundle persistDataBundleInBulk(SqlDataBundle dataBundle) throws InvalidParametersException {
+        if (dataBundle == null) {
+            throw new InvalidParametersException("Null data bundle");
+        }
+
+        linkEntities(dataBundle);
+
+        HibernateUtil.setJdbcBatchSize(Config.POSTGRES_BULK_BATCH_SIZE);
+
+        for (FeedbackResponseComment responseComment : dataBundle.feedbackResponseComments.values()) {
+            responseComment.setId(null);
+        }
+
+        dataBundleDb.persistInBulk(dataBundle.accountRequests.values());
+        dataBundleDb.persistInBulk(dataBundle.notifications.values());
+        dataBundleDb.persistInBulk(dataBundle.courses.values());
+        dataBundleDb.persistInBulk(dataBundle.sections.values());
+        dataBundleDb.persistInBulk(dataBundle.teams.values());
+        dataBundleDb.persistInBulk(dataBundle.feedbackSessions.values());
+        dataBundleDb.persistInBulk(dataBundle.feedbackQuestions.values());
+        dataBundleDb.persistInBulk(dataBundle.feedbackResponses.values());
+        dataBundleDb.persistInBulk(dataBundle.feedbackResponseComments.values());
+        dataBundleDb.persistInBulk(dataBundle.accounts.values());
+        dataBundleDb.persistInBulk(dataBundle.instructors.values());
+        dataBundleDb.persistInBulk(dataBundle.students.values());
+        dataBundleDb.persistInBulk(dataBundle.feedbackSessionLogs.values());
+        dataBundleDb.persistInBulk(dataBundle.readNotifications.values());
+        dataBundleDb.persistInBulk(dataBundle.deadlineExtensions.values());
+
+        // Sends the inserts in as few batches as possible, and surfaces constraint violations here.
+        HibernateUtil.flushSession();
+
+        // The users are not created through UsersLogic, which would otherwise invalidate these caches
+        invalidateCachesOfUsers(dataBundle.instructors.values());
+        invalidateCachesOfUsers(dataBundle.students.values());
+
+        return dataBundle;
+    }
+
+    private void invalidateCachesOfUsers(Collection<? extends User> users) {
+        for (User user : users) {
+            UserRolesCache.invalidateAfterTransaction(user.getGoogleId());
+            CourseRosterCache.invalidateAfterTransaction(user.getCourseId());
+        }
+    }
+
     /**
      * Removes the items in the data bundle from the database.
      */
@@ -373,15 +441,8 @@ public final class DataBundleLogic {
      * Creates document for entities that have document, i.e. searchable.
      */
     public void putDocuments(SqlDataBundle dataBundle) throws SearchServiceException {
-        Map<String, Student> students = dataBundle.students;
-        for (Student student : students.values()) {
-            usersLogic.putStudentDocument(student);
-        }
-
-        Map<String, Instructor> instructors = dataBundle.instructors;
-        for (Instructor instructor : instructors.values()) {
-            usersLogic.putInstructorDocument(instructor);
-        }
+        usersLogic.putStudentDocuments(new ArrayList<>(dataBundle.students.values()));
+        usersLogic.putInstructorDocuments(new ArrayList<>(dataBundle.instructors.values()));
 
         Map<String, AccountRequest> accountRequests = dataBundle.accountRequests;
         for (AccountRequest accountRequest : accountRequests.values()) {
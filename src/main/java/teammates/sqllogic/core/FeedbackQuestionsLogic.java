@@ -12,6 +12,9 @@ import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
+import teammates.common.datatransfer.CourseRosterSnapshot;
+import teammates.common.datatransfer.CourseRosterSnapshot.InstructorInfo;
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.SqlCourseRoster;
@@ -23,6 +26,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.CourseRosterCache;
 import teammates.common.util.Logger;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
@@ -458,6 +462,11 @@ public final class FeedbackQuestionsLogic {
             giverSection = Const.DEFAULT_SECTION;
         }
 
+        CourseRosterSnapshot roster = courseRoster == null
+                ? CourseRosterCache.get(courseId, () -> CourseRosterSnapshot.ofInfos(
+                        usersLogic.getStudentInfosForCourse(courseId), usersLogic.getInstructorInfosForCourse(courseId)))
+                : courseRoster.getSnapshot();
+
         FeedbackParticipantType recipientType = question.getRecipientType();
         FeedbackParticipantType generateOptionsFor = recipientType;
 
@@ -474,24 +483,21 @@ public final class FeedbackQuestionsLogic {
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
-            List<Student> studentList;
-            if (courseRoster == null) {
+            List<StudentInfo> studentList;
+            if (roster == null) {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
-                    studentList = usersLogic.getStudentsForSection(giverSection, courseId);
+                    studentList = usersLogic.getStudentInfosForSection(giverSection, courseId);
                 } else {
-                    studentList = usersLogic.getStudentsForCourse(courseId);
+                    studentList = usersLogic.getStudentInfosForCourse(courseId);
                 }
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    studentList = courseRoster.getStudents().stream()
-                            .filter(studentAttributes -> studentAttributes.getSectionName()
-                                    .equals(finalGiverSection)).collect(Collectors.toList());
+                    studentList = roster.getStudentsInSection(giverSection);
                 } else {
-                    studentList = courseRoster.getStudents();
+                    studentList = roster.getStudents();
                 }
             }
-            for (Student student : studentList) {
+            for (StudentInfo student : studentList) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         student.getSectionName(), question.getFeedbackSession().getName(),
                         Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS)) {
@@ -508,13 +514,13 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<Instructor> instructorsInCourse;
-            if (courseRoster == null) {
-                instructorsInCourse = usersLogic.getInstructorsForCourse(courseId);
+            List<InstructorInfo> instructorsInCourse;
+            if (roster == null) {
+                instructorsInCourse = usersLogic.getInstructorInfosForCourse(courseId);
             } else {
-                instructorsInCourse = courseRoster.getInstructors();
+                instructorsInCourse = roster.getInstructors();
             }
-            for (Instructor instr : instructorsInCourse) {
+            for (InstructorInfo instr : instructorsInCourse) {
                 // remove hidden instructors for students
                 if (isStudentGiver && !instr.isDisplayedToStudents()) {
                     continue;
@@ -529,27 +535,24 @@ public final class FeedbackQuestionsLogic {
         case TEAMS:
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
-            Map<String, List<Student>> teamToTeamMembersTable;
-            List<Student> teamStudents;
-            if (courseRoster == null) {
+            Map<String, List<StudentInfo>> teamToTeamMembersTable;
+            if (roster == null) {
+                List<StudentInfo> teamStudents;
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
-                    teamStudents = usersLogic.getStudentsForSection(giverSection, courseId);
+                    teamStudents = usersLogic.getStudentInfosForSection(giverSection, courseId);
                 } else {
-                    teamStudents = usersLogic.getStudentsForCourse(courseId);
+                    teamStudents = usersLogic.getStudentInfosForCourse(courseId);
                 }
-                teamToTeamMembersTable = SqlCourseRoster.buildTeamToMembersTable(teamStudents);
+                teamToTeamMembersTable = CourseRosterSnapshot.ofInfos(teamStudents, Collections.emptyList())
+                        .getTeamToMembersTable();
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    teamStudents = courseRoster.getStudents().stream()
-                            .filter(student -> student.getSectionName().equals(finalGiverSection))
-                            .collect(Collectors.toList());
-                    teamToTeamMembersTable = SqlCourseRoster.buildTeamToMembersTable(teamStudents);
+                    teamToTeamMembersTable = roster.getTeamToMembersTableInSection(giverSection);
                 } else {
-                    teamToTeamMembersTable = courseRoster.getTeamToMembersTable();
+                    teamToTeamMembersTable = roster.getTeamToMembersTable();
                 }
             }
-            for (Map.Entry<String, List<Student>> team : teamToTeamMembersTable.entrySet()) {
+            for (Map.Entry<String, List<StudentInfo>> team : teamToTeamMembersTable.entrySet()) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         team.getValue().iterator().next().getSectionName(),
                         question.getFeedbackSession().getName(),
@@ -570,13 +573,13 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, new FeedbackQuestionRecipient(giverTeam, giverTeam));
             break;
         case OWN_TEAM_MEMBERS:
-            List<Student> students;
-            if (courseRoster == null) {
-                students = usersLogic.getStudentsForTeam(giverTeam, courseId);
+            List<StudentInfo> students;
+            if (roster == null) {
+                students = usersLogic.getStudentInfosForTeam(giverTeam, courseId);
             } else {
-                students = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
+                students = roster.getTeamMembers(giverTeam);
             }
-            for (Student student : students) {
+            for (StudentInfo student : students) {
                 if (!student.getEmail().equals(giverEmail)) {
                     recipients.put(student.getEmail(), new FeedbackQuestionRecipient(student.getName(), student.getEmail(),
                             student.getSectionName(), student.getTeamName()));
@@ -584,13 +587,13 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<Student> teamMembers;
-            if (courseRoster == null) {
-                teamMembers = usersLogic.getStudentsForTeam(giverTeam, courseId);
+            List<StudentInfo> teamMembers;
+            if (roster == null) {
+                teamMembers = usersLogic.getStudentInfosForTeam(giverTeam, courseId);
             } else {
-                teamMembers = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
+                teamMembers = roster.getTeamMembers(giverTeam);
             }
-            for (Student student : teamMembers) {
+            for (StudentInfo student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.getEmail(), new FeedbackQuestionRecipient(student.getName(), student.getEmail(),
                         student.getSectionName(), student.getTeamName()));
@@ -1,8 +1,10 @@
 package teammates.sqllogic.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
@@ -136,12 +138,16 @@ public final class FeedbackResponseCommentsLogic {
     }
 
     /**
-     * Updates all feedback response comments with new sections.
+     * Updates all feedback response comments of the given responses with the new sections of their responses.
+     *
+     * <p>The comments are fetched in a single query so that the updates can be written in JDBC batches.
      */
-    public void updateFeedbackResponseCommentsForResponse(FeedbackResponse response)
+    public void updateFeedbackResponseCommentsForResponses(Collection<FeedbackResponse> responses)
             throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseComment> comments = getFeedbackResponseCommentForResponse(response.getId());
+        Set<UUID> responseIds = responses.stream().map(FeedbackResponse::getId).collect(Collectors.toSet());
+        List<FeedbackResponseComment> comments = frcDb.getFeedbackResponseCommentsForResponses(responseIds);
         for (FeedbackResponseComment comment : comments) {
+            FeedbackResponse response = comment.getFeedbackResponse();
             comment.setGiverSection(response.getGiverSection());
             comment.setRecipientSection(response.getRecipientSection());
             frcDb.updateFeedbackResponseComment(comment);
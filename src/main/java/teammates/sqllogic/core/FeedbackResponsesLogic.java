@@ -1,13 +1,16 @@
 package teammates.sqllogic.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
@@ -110,25 +113,6 @@ public final class FeedbackResponsesLogic {
         return question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS);
     }
 
-    /**
-     * Checks whether a giver has responded a session.
-     */
-    public boolean hasGiverRespondedForSession(String giverIdentifier, List<FeedbackQuestion> questions) {
-        assert questions != null;
-
-        for (FeedbackQuestion question : questions) {
-            boolean hasResponse = question
-                    .getFeedbackResponses()
-                    .stream()
-                    .anyMatch(response -> response.getGiver().equals(giverIdentifier));
-            if (hasResponse) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Checks whether a giver has responded a session.
      */
@@ -250,6 +234,27 @@ public final class FeedbackResponsesLogic {
 
     }
 
+    /**
+     * Gets the number of feedback responses created within a specified time range.
+     */
+    long getNumFeedbackResponsesByTimeRange(Instant startTime, Instant endTime) {
+        return frDb.getNumFeedbackResponsesByTimeRange(startTime, endTime);
+    }
+
+    /**
+     * Gets a set of giver identifiers that has at least one response under a feedback session.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        return frDb.getGiversForSession(feedbackSession);
+    }
+
+    /**
+     * Gets the number of givers that has at least one response under a feedback session.
+     */
+    public long getNumGiversThatAnsweredFeedbackSession(FeedbackSession feedbackSession) {
+        return frDb.getNumGiversForSession(feedbackSession);
+    }
+
     /**
      * Deletes all feedback responses involved an entity, cascade its associated comments.
      * Deletion will automatically be cascaded to each feedback response's comments,
@@ -490,7 +495,7 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        boolean isOldTeamEmpty = usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId()).isEmpty();
+        boolean isOldTeamEmpty = usersLogic.getStudentCountForTeam(oldTeam.getName(), course.getId()) == 0;
 
         if (isOldTeamEmpty) {
             deleteFeedbackResponsesForCourseCascade(course.getId(), oldTeam.getName());
@@ -506,20 +511,23 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponse> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
 
+        List<FeedbackResponse> responsesToUser =
+                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
+
+        // no queries are issued between the updates so that they can be flushed in JDBC batches
         for (FeedbackResponse response : responsesFromUser) {
             response.setGiverSection(newSection);
             frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
         }
 
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
         for (FeedbackResponse response : responsesToUser) {
             response.setRecipientSection(newSection);
             frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
         }
+
+        List<FeedbackResponse> updatedResponses = new ArrayList<>(responsesFromUser);
+        updatedResponses.addAll(responsesToUser);
+        frcLogic.updateFeedbackResponseCommentsForResponses(updatedResponses);
     }
 
     /**
@@ -530,15 +538,15 @@ public final class FeedbackResponsesLogic {
 
         List<FeedbackResponse> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+        List<FeedbackResponse> responsesToUser =
+                getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
 
+        // no queries are issued between the updates so that they can be flushed in JDBC batches
         for (FeedbackResponse response : responsesFromUser) {
             response.setGiver(newEmail);
             frDb.updateFeedbackResponse(response);
         }
 
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
-
         for (FeedbackResponse response : responsesToUser) {
             response.setRecipient(newEmail);
             frDb.updateFeedbackResponse(response);
@@ -600,9 +608,12 @@ public final class FeedbackResponsesLogic {
             }
         }
 
+        ResultsVisibilityChecker visibilityChecker = new ResultsVisibilityChecker(
+                userEmail, isInstructor, student, studentsEmailInTeam, instructor, roster, feedbackSession.getName());
+
         // visibility table for each response and comment
-        Map<FeedbackResponse, Boolean> responseGiverVisibilityTable = new HashMap<>();
-        Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable = new HashMap<>();
+        Map<FeedbackResponse, Boolean> responseGiverVisibilityTable = new IdentityHashMap<>();
+        Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable = new IdentityHashMap<>();
         Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
 
         // build response
@@ -618,8 +629,7 @@ public final class FeedbackResponsesLogic {
                 continue;
             }
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            boolean isVisibleResponse = visibilityChecker.isResponseVisible(response, correspondingQuestion);
             if (!isVisibleResponse) {
                 continue;
             }
@@ -637,9 +647,9 @@ public final class FeedbackResponsesLogic {
 
             // generate giver/recipient name visibility table
             responseGiverVisibilityTable.put(response,
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
+                    visibilityChecker.isNameVisible(response, correspondingQuestion, true));
             responseRecipientVisibilityTable.put(response,
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+                    visibilityChecker.isNameVisible(response, correspondingQuestion, false));
         }
         RequestTracer.checkRemainingTime();
 
@@ -679,7 +689,7 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponse> missingResponses = Collections.emptyList();
         if (isCourseWide) {
             missingResponses = buildMissingResponses(
-                    instructor, responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedQuestions,
+                    visibilityChecker, responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedQuestions,
                     existingResponses, roster, sectionName);
         }
         RequestTracer.checkRemainingTime();
@@ -755,16 +765,22 @@ public final class FeedbackResponsesLogic {
         // load response(s)
         Student student = isInstructor ? null : usersLogic.getStudentForEmail(courseId, userEmail);
         Instructor instructor = isInstructor ? usersLogic.getInstructorForEmail(courseId, userEmail) : null;
+        // load viewable responses for students/instructors proactively
+        // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
+        Map<UUID, List<FeedbackResponse>> candidateResponsesByQuestion = isInstructor
+                ? getCandidateFeedbackResponsesForInstructor(allQuestions, instructor)
+                : getCandidateFeedbackResponsesForStudent(allQuestions, student, roster);
+        RequestTracer.checkRemainingTime();
+
         List<FeedbackResponse> allResponses = new ArrayList<>();
         for (FeedbackQuestion question : allQuestions) {
-            // load viewable responses for students/instructors proactively
-            // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
+            List<FeedbackResponse> candidateResponses =
+                    candidateResponsesByQuestion.getOrDefault(question.getId(), Collections.emptyList());
             List<FeedbackResponse> viewableResponses = isInstructor
-                    ? getFeedbackResponsesToOrFromInstructorForQuestion(question, instructor)
-                    : getViewableFeedbackResponsesForStudentForQuestion(question, student, roster);
+                    ? getFeedbackResponsesToOrFromInstructorForQuestion(question, candidateResponses, instructor)
+                    : getViewableFeedbackResponsesForStudentForQuestion(question, candidateResponses, student, roster);
             allResponses.addAll(viewableResponses);
         }
-        RequestTracer.checkRemainingTime();
 
         return buildResultsBundle(false, feedbackSession, courseId, null, questionId, isInstructor, userEmail,
                 instructor, student, roster, allQuestions, allResponses, isPreviewResults);
@@ -773,7 +789,7 @@ public final class FeedbackResponsesLogic {
     /**
      * Builds viewable missing responses for the session for instructor.
      *
-     * @param instructor the instructor
+     * @param visibilityChecker the visibility checker for the instructor
      * @param responseGiverVisibilityTable
      *         the giver visibility table which will be updated with the visibility of missing responses
      * @param responseRecipientVisibilityTable
@@ -785,7 +801,7 @@ public final class FeedbackResponsesLogic {
      * @return a list of missing responses for the session.
      */
     private List<FeedbackResponse> buildMissingResponses(
-            Instructor instructor, Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
+            ResultsVisibilityChecker visibilityChecker, Map<FeedbackResponse, Boolean> responseGiverVisibilityTable,
             Map<FeedbackResponse, Boolean> responseRecipientVisibilityTable, List<FeedbackQuestion> relatedQuestions,
             List<FeedbackResponse> existingResponses, SqlCourseRoster courseRoster, @Nullable String sectionName) {
 
@@ -839,20 +855,17 @@ public final class FeedbackResponsesLogic {
                             recipientIdentifier, recipientInfo.getSectionName());
 
                     // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
+                    boolean isVisibleResponse =
+                            visibilityChecker.isResponseVisible(missingResponse, correspondingQuestion);
                     if (!isVisibleResponse) {
                         continue;
                     }
 
                     // generate giver/recipient name visibility table
                     responseGiverVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
+                            visibilityChecker.isNameVisible(missingResponse, correspondingQuestion, true));
                     responseRecipientVisibilityTable.put(missingResponse,
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
+                            visibilityChecker.isNameVisible(missingResponse, correspondingQuestion, false));
                     missingResponses.add(missingResponse);
                 }
             }
@@ -861,148 +874,6 @@ public final class FeedbackResponsesLogic {
         return missingResponses;
     }
 
-    /**
-     * Checks whether the giver name of a response is visible to an user.
-     */
-    public boolean isNameVisibleToUser(
-            FeedbackQuestion question,
-            FeedbackResponse response,
-            String userEmail,
-            boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
-
-        if (question == null) {
-            return false;
-        }
-
-        // Early return if user is giver
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
-            // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
-                return true;
-            }
-        } else {
-            if (response.getGiver().equals(userEmail)) {
-                return true;
-            }
-        }
-
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, isInstructor, isGiverName, roster);
-    }
-
-    private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestion question, FeedbackResponse response,
-            String userEmail, boolean isInstructor, boolean isGiverName, SqlCourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.getShowGiverNameTo()
-                                                 : question.getShowRecipientNameTo();
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && isInstructor) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                assert false : "Invalid FeedbackParticipantType for showNameTo in "
-                        + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()";
-                break;
-            }
-        }
-        return false;
-    }
-
-    private boolean isResponseVisibleForUser(
-            String userEmail, boolean isInstructor, Student student,
-            Set<String> studentsEmailInTeam, FeedbackResponse response,
-            FeedbackQuestion relatedQuestion, Instructor instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
-                && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.getGiver().equals(userEmail)
-                || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && !isInstructor) {
-            if ((relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeamName())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                    && response.getGiver().equals(student.getTeamName())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getGiver())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getRecipient())) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSectionName(),
-                            response.getFeedbackQuestion().getFeedbackSession().getName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSectionName(),
-                            response.getFeedbackQuestion().getFeedbackSession().getName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
-
     /**
      * Gets all responses for a session.
      */
@@ -1045,94 +916,127 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Returns feedback responses given/received by an instructor.
+     * Returns the responses to the questions that are possibly viewable by an instructor, grouped by question.
+     *
+     * <p>All the responses are fetched in a single query, and are to be filtered further
+     * by {@link #getFeedbackResponsesToOrFromInstructorForQuestion}.
      */
-    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestion(
-            FeedbackQuestion question, Instructor instructor) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
-
-        // Add responses that the instructor submitted him/herself
-        if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), instructor.getEmail())
-            );
+    private Map<UUID, List<FeedbackResponse>> getCandidateFeedbackResponsesForInstructor(
+            List<FeedbackQuestion> questions, Instructor instructor) {
+        if (questions.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // Add responses that user is a receiver of when response is visible to receiver or instructors
-        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS))) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), instructor.getEmail())
-            );
-        }
+        List<UUID> questionIds = questions.stream().map(FeedbackQuestion::getId).collect(Collectors.toList());
+        List<FeedbackResponse> responses = frDb.getFeedbackResponsesForQuestionsOfParticipants(
+                questionIds, Collections.singleton(instructor.getEmail()), Collections.emptyList());
 
-        return new ArrayList<>(viewableResponses);
+        return responses.stream().collect(Collectors.groupingBy(response -> response.getFeedbackQuestion().getId()));
     }
 
     /**
-     * Returns viewable feedback responses for a student.
+     * Returns the responses to the questions that are possibly viewable by a student, grouped by question.
+     *
+     * <p>All the responses are fetched in a single query, and are to be filtered further
+     * by {@link #getViewableFeedbackResponsesForStudentForQuestion}.
      */
-    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestion(
-            FeedbackQuestion question, Student student, SqlCourseRoster courseRoster) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
-
-        // Add responses that the student submitted him/herself
-        if (question.getGiverType() != FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail())
-            );
+    private Map<UUID, List<FeedbackResponse>> getCandidateFeedbackResponsesForStudent(
+            List<FeedbackQuestion> questions, Student student, SqlCourseRoster courseRoster) {
+        if (questions.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // Add responses that user is a receiver of when response is visible to receiver
-        if (question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getEmail())
-            );
-        }
+        List<UUID> questionIds = questions.stream().map(FeedbackQuestion::getId).collect(Collectors.toList());
+        List<UUID> questionIdsVisibleToStudents = questions.stream()
+                .filter(question -> question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS))
+                .map(FeedbackQuestion::getId)
+                .collect(Collectors.toList());
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            viewableResponses.addAll(getFeedbackResponsesForQuestion(question.getId()));
+        Set<String> participants = getTeamMemberEmails(student, courseRoster);
+        participants.add(student.getEmail());
+        participants.add(student.getTeamName());
 
-            // Early return as STUDENTS covers all cases below.
-            return new ArrayList<>(viewableResponses);
-        }
+        List<FeedbackResponse> responses = frDb.getFeedbackResponsesForQuestionsOfParticipants(
+                questionIds, participants, questionIdsVisibleToStudents);
 
-        if (question.getRecipientType().isTeam()
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getTeamName())
-            );
-        }
+        return responses.stream().collect(Collectors.groupingBy(response -> response.getFeedbackQuestion().getId()));
+    }
 
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS
-                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromTeamForQuestion(
-                            question.getId(), question.getCourseId(), student.getTeamName(), courseRoster));
-        }
+    private Set<String> getTeamMemberEmails(Student student, SqlCourseRoster courseRoster) {
+        return courseRoster.getTeamToMembersTable()
+                .getOrDefault(student.getTeamName(), Collections.emptyList())
+                .stream()
+                .map(Student::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
-            for (Student studentInTeam : courseRoster.getTeamToMembersTable().get(student.getTeamName())) {
-                if (studentInTeam.getEmail().equals(student.getEmail())) {
-                    continue;
-                }
-                List<FeedbackResponse> responses =
-                        getFeedbackResponsesForRecipientForQuestion(question.getId(), studentInTeam.getEmail());
-                viewableResponses.addAll(responses);
-            }
-        }
+    /**
+     * Returns feedback responses given/received by an instructor.
+     *
+     * @param responses the responses to the question that are possibly viewable by the instructor
+     */
+    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestion(
+            FeedbackQuestion question, List<FeedbackResponse> responses, Instructor instructor) {
+        // Add responses that the instructor submitted him/herself
+        boolean isGivenResponseViewable = question.getGiverType() == FeedbackParticipantType.INSTRUCTORS;
+
+        // Add responses that user is a receiver of when response is visible to receiver or instructors
+        boolean isReceivedResponseViewable = question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS));
 
-        return new ArrayList<>(viewableResponses);
+        return responses.stream()
+                .filter(response -> isGivenResponseViewable && response.getGiver().equals(instructor.getEmail())
+                        || isReceivedResponseViewable && response.getRecipient().equals(instructor.getEmail()))
+                .collect(Collectors.toList());
     }
 
     /**
-     * Gets all responses received by a user for a question.
+     * Returns viewable feedback responses for a student.
+     *
+     * @param responses the responses to the question that are possibly viewable by the student
      */
-    private List<FeedbackResponse> getFeedbackResponsesForRecipientForQuestion(
-            UUID feedbackQuestionId, String userEmail) {
-        return frDb.getFeedbackResponsesForRecipientForQuestion(feedbackQuestionId, userEmail);
+    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestion(
+            FeedbackQuestion question, List<FeedbackResponse> responses, Student student,
+            SqlCourseRoster courseRoster) {
+        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            // STUDENTS covers all cases below.
+            return new ArrayList<>(responses);
+        }
+
+        String studentEmail = student.getEmail();
+        String teamName = student.getTeamName();
+        Set<String> teamMemberEmails = getTeamMemberEmails(student, courseRoster);
+
+        // Add responses that the student submitted him/herself
+        boolean isGivenResponseViewable = question.getGiverType() != FeedbackParticipantType.INSTRUCTORS;
+
+        // Add responses that user is a receiver of when response is visible to receiver
+        boolean isReceivedResponseViewable = question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+
+        boolean isTeamReceivedResponseViewable = question.getRecipientType().isTeam()
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER);
+
+        boolean isTeamGivenResponseViewable = question.getGiverType() == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS);
+
+        boolean isTeamMemberReceivedResponseViewable =
+                question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+
+        return responses.stream()
+                .filter(response -> {
+                    String giver = response.getGiver();
+                    String recipient = response.getRecipient();
+                    return isGivenResponseViewable && giver.equals(studentEmail)
+                            || isReceivedResponseViewable && recipient.equals(studentEmail)
+                            || isTeamReceivedResponseViewable && recipient.equals(teamName)
+                            || isTeamGivenResponseViewable
+                                    && (teamMemberEmails.contains(giver) || giver.equals(teamName))
+                            || isTeamMemberReceivedResponseViewable
+                                    && !recipient.equals(studentEmail) && teamMemberEmails.contains(recipient);
+                })
+                .collect(Collectors.toList());
     }
 
     /**
@@ -1159,4 +1063,181 @@ public final class FeedbackResponsesLogic {
         return isCommentVisibleToInstructor && isGiverVisibleToInstructor;
     }
 
+    /**
+     * Checks the visibility of responses, and of their giver and recipient names, to the user viewing the results.
+     *
+     * <p>The visibility settings of each question are compiled once per question, and the section privileges
+     * of the instructor are looked up once per section, instead of once per response.
+     */
+    private static final class ResultsVisibilityChecker {
+        private final String userEmail;
+        private final boolean isInstructor;
+        private final Student student;
+        private final Set<String> studentsEmailInTeam;
+        private final Instructor instructor;
+        private final SqlCourseRoster roster;
+        private final String feedbackSessionName;
+        private final boolean isInstructorOfCourse;
+        private final Map<FeedbackQuestion, QuestionVisibility> questionVisibilities = new IdentityHashMap<>();
+        private final Map<String, Boolean> canViewSessionInSectionTable = new HashMap<>();
+
+        ResultsVisibilityChecker(String userEmail, boolean isInstructor, Student student,
+                Set<String> studentsEmailInTeam, Instructor instructor, SqlCourseRoster roster,
+                String feedbackSessionName) {
+            this.userEmail = userEmail;
+            this.isInstructor = isInstructor;
+            this.student = student;
+            this.studentsEmailInTeam = studentsEmailInTeam;
+            this.instructor = instructor;
+            this.roster = roster;
+            this.feedbackSessionName = feedbackSessionName;
+            this.isInstructorOfCourse = isInstructor && roster.getInstructorForEmail(userEmail) != null;
+        }
+
+        private QuestionVisibility getQuestionVisibility(FeedbackQuestion question) {
+            return questionVisibilities.computeIfAbsent(question, QuestionVisibility::new);
+        }
+
+        /**
+         * Checks whether the response is visible to the user.
+         */
+        boolean isResponseVisible(FeedbackResponse response, FeedbackQuestion relatedQuestion) {
+            QuestionVisibility visibility = getQuestionVisibility(relatedQuestion);
+
+            boolean isVisibleResponse = false;
+            if (isInstructor && visibility.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || response.getRecipient().equals(userEmail)
+                    && visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    || response.getGiver().equals(userEmail)
+                    || !isInstructor && visibility.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                isVisibleResponse = true;
+            } else if (studentsEmailInTeam != null && !isInstructor) {
+                if ((relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
+                        || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
+                        || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
+                        && visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                        && response.getRecipient().equals(student.getTeamName())) {
+                    isVisibleResponse = true;
+                } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                        && response.getGiver().equals(student.getTeamName())) {
+                    isVisibleResponse = true;
+                } else if (visibility.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                        && studentsEmailInTeam.contains(response.getGiver())) {
+                    isVisibleResponse = true;
+                } else if (visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                        && studentsEmailInTeam.contains(response.getRecipient())) {
+                    isVisibleResponse = true;
+                }
+            }
+            if (isVisibleResponse && instructor != null) {
+                boolean isGiverSectionRestricted = !canViewSessionInSection(response.getGiverSectionName());
+                // If instructors are not restricted to view the giver's section,
+                // they are allowed to view responses to GENERAL, subject to visibility options
+                boolean isRecipientSectionRestricted =
+                        relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
+                                && !canViewSessionInSection(response.getRecipientSectionName());
+
+                boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
+                if (isNotAllowedForInstructor) {
+                    isVisibleResponse = false;
+                }
+            }
+            return isVisibleResponse;
+        }
+
+        private boolean canViewSessionInSection(String sectionName) {
+            return canViewSessionInSectionTable.computeIfAbsent(sectionName,
+                    name -> instructor.isAllowedForPrivilege(name, feedbackSessionName,
+                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+        }
+
+        /**
+         * Checks whether the giver or recipient name of a response is visible to the user.
+         */
+        boolean isNameVisible(FeedbackResponse response, FeedbackQuestion question, boolean isGiverName) {
+            if (question == null) {
+                return false;
+            }
+
+            // Early return if user is giver
+            if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
+                // if response is given by team, then anyone in the team can see the response
+                if (roster.isStudentInTeam(userEmail, response.getGiver())) {
+                    return true;
+                }
+            } else {
+                if (response.getGiver().equals(userEmail)) {
+                    return true;
+                }
+            }
+
+            QuestionVisibility visibility = getQuestionVisibility(question);
+            int showNameTo = isGiverName ? visibility.showGiverNameTo : visibility.showRecipientNameTo;
+
+            if (QuestionVisibility.contains(showNameTo, FeedbackParticipantType.INSTRUCTORS) && isInstructorOfCourse) {
+                return true;
+            }
+            if ((QuestionVisibility.contains(showNameTo, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    || QuestionVisibility.contains(showNameTo, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                    // Refers to Giver's Team Members
+                    && roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
+                return true;
+            }
+            // for responses to a team, the recipient is the team name
+            boolean isRecipientTeam = question.getRecipientType().isTeam();
+            if (QuestionVisibility.contains(showNameTo, FeedbackParticipantType.RECEIVER)
+                    && (isRecipientTeam
+                            ? roster.isStudentInTeam(userEmail, response.getRecipient())
+                            : response.getRecipient().equals(userEmail))) {
+                return true;
+            }
+            if (QuestionVisibility.contains(showNameTo, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                    && (isRecipientTeam
+                            ? roster.isStudentInTeam(userEmail, response.getRecipient())
+                            : roster.isStudentsInSameTeam(response.getRecipient(), userEmail))) {
+                return true;
+            }
+            return QuestionVisibility.contains(showNameTo, FeedbackParticipantType.STUDENTS)
+                    && roster.isStudentInCourse(userEmail);
+        }
+    }
+
+    /**
+     * Visibility settings of a question, compiled into bitmasks indexed by {@link FeedbackParticipantType} ordinal.
+     */
+    private static final class QuestionVisibility {
+        private static final int SHOW_NAME_TO_TYPES = toBitmask(List.of(
+                FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF, FeedbackParticipantType.RECEIVER,
+                FeedbackParticipantType.RECEIVER_TEAM_MEMBERS, FeedbackParticipantType.STUDENTS));
+
+        private final int showResponsesTo;
+        private final int showGiverNameTo;
+        private final int showRecipientNameTo;
+
+        QuestionVisibility(FeedbackQuestion question) {
+            this.showResponsesTo = toBitmask(question.getShowResponsesTo());
+            this.showGiverNameTo = toBitmask(question.getShowGiverNameTo());
+            this.showRecipientNameTo = toBitmask(question.getShowRecipientNameTo());
+
+            assert (showGiverNameTo & ~SHOW_NAME_TO_TYPES) == 0 && (showRecipientNameTo & ~SHOW_NAME_TO_TYPES) == 0
+                    : "Invalid FeedbackParticipantType for showNameTo in question " + question.getId();
+        }
+
+        private static int toBitmask(List<FeedbackParticipantType> types) {
+            int bitmask = 0;
+            for (FeedbackParticipantType type : types) {
+                bitmask |= 1 << type.ordinal();
+            }
+            return bitmask;
+        }
+
+        static boolean contains(int bitmask, FeedbackParticipantType type) {
+            return (bitmask & 1 << type.ordinal()) != 0;
+        }
+
+        boolean isResponseVisibleTo(FeedbackParticipantType type) {
+            return contains(showResponsesTo, type);
+        }
+    }
 }
@@ -64,4 +64,20 @@ public final class FeedbackSessionLogsLogic {
         return fslDb.getOrderedFeedbackSessionLogs(courseId, studentId, feedbackSessionId, startTime,
                 endTime);
     }
+
+    /**
+     * Gets a page of the feedback session logs as filtered by the given parameters ordered by
+     * ascending timestamp. Logs with the same timestamp will be ordered by their ID.
+     *
+     * @param studentId        Can be null
+     * @param feedbackSessionId Can be null
+     * @param afterTimestamp   the timestamp of the last log in the previous page, or null for the first page
+     * @param afterId          the ID of the last log in the previous page, or null for the first page
+     */
+    public List<FeedbackSessionLog> getOrderedFeedbackSessionLogsPage(String courseId, UUID studentId,
+            UUID feedbackSessionId, Instant startTime, Instant endTime,
+            Instant afterTimestamp, UUID afterId, int pageSize) {
+        return fslDb.getOrderedFeedbackSessionLogsPage(courseId, studentId, feedbackSessionId, startTime, endTime,
+                afterTimestamp, afterId, pageSize);
+    }
 }
@@ -2,7 +2,6 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -19,6 +18,7 @@ import teammates.storage.sqlapi.FeedbackSessionsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
 
 /**
  * Handles operations related to feedback sessions.
@@ -180,15 +180,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(feedbackSession);
     }
 
     /**
@@ -197,15 +189,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(fs);
     }
 
     /**
@@ -363,10 +347,10 @@ public final class FeedbackSessionsLogic {
         } else if (fqLogic.hasFeedbackQuestionsForGiverType(
                 session.getFeedbackQuestions(), FeedbackParticipantType.STUDENTS)) {
             // case where there are some individual questions
-            return frLogic.hasGiverRespondedForSession(userEmail, session.getFeedbackQuestions());
+            return frLogic.hasGiverRespondedForSession(userEmail, session.getName(), session.getCourseId());
         } else {
             // case where all are team questions
-            return frLogic.hasGiverRespondedForSession(userTeam, session.getFeedbackQuestions());
+            return frLogic.hasGiverRespondedForSession(userTeam, session.getName(), session.getCourseId());
         }
     }
 
@@ -379,7 +363,7 @@ public final class FeedbackSessionsLogic {
         assert session != null;
         assert userEmail != null;
 
-        if (frLogic.hasGiverRespondedForSession(userEmail, session.getFeedbackQuestions())) {
+        if (frLogic.hasGiverRespondedForSession(userEmail, session.getName(), session.getCourseId())) {
             return true;
         }
 
@@ -387,6 +371,55 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), session.isCreator(userEmail));
     }
 
+    /**
+     * Gets the students among {@code students} who have not attempted a feedback session.
+     *
+     * <p>This gives the same result as filtering with {@link #isFeedbackSessionAttemptedByStudent}, but
+     * the givers who have responded to the session are retrieved once for all the students.</p>
+     */
+    public List<Student> getStudentsYetToAttemptFeedbackSession(FeedbackSession session, List<Student> students) {
+        assert session != null;
+        assert students != null;
+
+        if (students.isEmpty() || !fqLogic.hasFeedbackQuestionsForStudents(session.getFeedbackQuestions())) {
+            // if there are no questions for student, session is attempted
+            return new ArrayList<>();
+        }
+
+        // if there are some individual questions, the student has to respond individually
+        boolean hasIndividualQuestions = fqLogic.hasFeedbackQuestionsForGiverType(
+                session.getFeedbackQuestions(), FeedbackParticipantType.STUDENTS);
+        Set<String> giverSet = frLogic.getGiverSetThatAnsweredFeedbackSession(session);
+
+        return students.stream()
+                .filter(student -> !giverSet.contains(hasIndividualQuestions ? student.getEmail() : student.getTeamName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the instructors among {@code instructors} who have not attempted a feedback session.
+     *
+     * <p>This gives the same result as filtering with {@link #isFeedbackSessionAttemptedByInstructor}, but
+     * the givers who have responded to the session are retrieved once for all the instructors.</p>
+     */
+    public List<Instructor> getInstructorsYetToAttemptFeedbackSession(
+            FeedbackSession session, List<Instructor> instructors) {
+        assert session != null;
+        assert instructors != null;
+
+        if (instructors.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> giverSet = frLogic.getGiverSetThatAnsweredFeedbackSession(session);
+
+        return instructors.stream()
+                .filter(instructor -> !giverSet.contains(instructor.getEmail())
+                        && fqLogic.hasFeedbackQuestionsForInstructors(
+                                session.getFeedbackQuestions(), session.isCreator(instructor.getEmail())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * After an update to feedback session's fields, may need to adjust the email status of the session.
      * @param session recently updated session.
@@ -561,6 +594,8 @@ public final class FeedbackSessionsLogic {
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSession fs) {
-        return getGiverSetThatAnsweredFeedbackSession(fs).size();
+        assert fs != null;
+
+        return Math.toIntExact(frLogic.getNumGiversThatAnsweredFeedbackSession(fs));
     }
 }
@@ -7,6 +7,7 @@ import teammates.common.util.Logger;
 import teammates.storage.sqlapi.AccountRequestsDb;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlapi.CoursesDb;
+import teammates.storage.sqlapi.DataBundleDb;
 import teammates.storage.sqlapi.DeadlineExtensionsDb;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
@@ -45,7 +46,7 @@ public class LogicStarter implements ServletContextListener {
         accountRequestsLogic.initLogicDependencies(AccountRequestsDb.inst());
         accountsLogic.initLogicDependencies(AccountsDb.inst(), notificationsLogic, usersLogic, coursesLogic);
         coursesLogic.initLogicDependencies(CoursesDb.inst(), fsLogic, usersLogic);
-        dataBundleLogic.initLogicDependencies(accountsLogic, accountRequestsLogic, coursesLogic,
+        dataBundleLogic.initLogicDependencies(DataBundleDb.inst(), accountsLogic, accountRequestsLogic, coursesLogic,
                 deadlineExtensionsLogic, fsLogic, fslLogic, fqLogic, frLogic, frcLogic,
                 notificationsLogic, usersLogic);
         deadlineExtensionsLogic.initLogicDependencies(DeadlineExtensionsDb.inst(), fsLogic);
@@ -55,7 +56,8 @@ public class LogicStarter implements ServletContextListener {
         frcLogic.initLogicDependencies(FeedbackResponseCommentsDb.inst());
         fqLogic.initLogicDependencies(FeedbackQuestionsDb.inst(), coursesLogic, frLogic, usersLogic, fsLogic);
         notificationsLogic.initLogicDependencies(NotificationsDb.inst());
-        usageStatisticsLogic.initLogicDependencies(UsageStatisticsDb.inst());
+        usageStatisticsLogic.initLogicDependencies(UsageStatisticsDb.inst(), accountRequestsLogic, coursesLogic,
+                frLogic, usersLogic);
         usersLogic.initLogicDependencies(UsersDb.inst(), accountsLogic, frLogic, frcLogic, deadlineExtensionsLogic);
         log.info("Initialized dependencies between logic classes");
     }
@@ -17,6 +17,10 @@ public final class UsageStatisticsLogic {
     private static final UsageStatisticsLogic instance = new UsageStatisticsLogic();
 
     private UsageStatisticsDb usageStatisticsDb;
+    private AccountRequestsLogic accountRequestsLogic;
+    private CoursesLogic coursesLogic;
+    private FeedbackResponsesLogic feedbackResponsesLogic;
+    private UsersLogic usersLogic;
 
     private UsageStatisticsLogic() {
         // prevent initialization
@@ -26,8 +30,13 @@ public final class UsageStatisticsLogic {
         return instance;
     }
 
-    void initLogicDependencies(UsageStatisticsDb usageStatisticsDb) {
+    void initLogicDependencies(UsageStatisticsDb usageStatisticsDb, AccountRequestsLogic accountRequestsLogic,
+            CoursesLogic coursesLogic, FeedbackResponsesLogic feedbackResponsesLogic, UsersLogic usersLogic) {
         this.usageStatisticsDb = usageStatisticsDb;
+        this.accountRequestsLogic = accountRequestsLogic;
+        this.coursesLogic = coursesLogic;
+        this.feedbackResponsesLogic = feedbackResponsesLogic;
+        this.usersLogic = usersLogic;
     }
 
     /**
@@ -41,19 +50,29 @@ public final class UsageStatisticsLogic {
         return usageStatisticsDb.getUsageStatisticsForTimeRange(startTime, endTime);
     }
 
+    /**
+     * Gets the statistics object with the latest start time, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        return usageStatisticsDb.getLatestUsageStatistics();
+    }
+
     /**
      * Calculates the usage statistics of created entities for the given time range.
+     *
+     * <p>Each count is a range query on the indexed creation timestamps, so only the entities
+     * created within the time range are read.
      */
     public UsageStatistics calculateEntitiesStatisticsForTimeRange(Instant startTime, Instant endTime) {
         assert startTime != null;
         assert endTime != null;
         assert startTime.isBefore(endTime);
 
-        int numResponses = 0; //feedbackResponsesLogic.getNumFeedbackResponsesByTimeRange(startTime, endTime);
-        int numCourses = 0; //coursesLogic.getNumCoursesByTimeRange(startTime, endTime);
-        int numStudents = 0; //studentsLogic.getNumStudentsByTimeRange(startTime, endTime);
-        int numInstructors = 0; //instructorsLogic.getNumInstructorsByTimeRange(startTime, endTime);
-        int numAccountRequests = 0; //accountRequestsLogic.getNumAccountRequestsByTimeRange(startTime, endTime);
+        int numResponses = Math.toIntExact(feedbackResponsesLogic.getNumFeedbackResponsesByTimeRange(startTime, endTime));
+        int numCourses = Math.toIntExact(coursesLogic.getNumCoursesByTimeRange(startTime, endTime));
+        int numStudents = Math.toIntExact(usersLogic.getNumStudentsByTimeRange(startTime, endTime));
+        int numInstructors = Math.toIntExact(usersLogic.getNumInstructorsByTimeRange(startTime, endTime));
+        int numAccountRequests = Math.toIntExact(accountRequestsLogic.getNumAccountRequestsByTimeRange(startTime, endTime));
 
         return new UsageStatistics(
                 startTime, 1, numResponses, numCourses,
@@ -3,6 +3,7 @@ package teammates.sqllogic.core;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -11,6 +12,8 @@ import java.util.Map;
 import java.util.StringJoiner;
 import java.util.UUID;
 
+import teammates.common.datatransfer.CourseRosterSnapshot.InstructorInfo;
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.InstructorPermissionRole;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -22,8 +25,10 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
+import teammates.common.util.CourseRosterCache;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.UserRolesCache;
 import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.FeedbackQuestion;
@@ -108,6 +113,20 @@ public final class UsersLogic {
         getStudentSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given instructors.
+     */
+    public void putInstructorDocuments(List<Instructor> instructors) throws SearchServiceException {
+        getInstructorSearchManager().putDocuments(instructors);
+    }
+
+    /**
+     * Creates or updates search documents for the given students.
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        getStudentSearchManager().putDocuments(students);
+    }
+
     /**
      * Create an instructor.
      *
@@ -121,7 +140,10 @@ public final class UsersLogic {
         if (getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()) != null) {
             throw new EntityAlreadyExistsException("Instructor already exists.");
         }
-        return usersDb.createInstructor(instructor);
+        Instructor createdInstructor = usersDb.createInstructor(instructor);
+        UserRolesCache.invalidateAfterTransaction(createdInstructor.getGoogleId());
+        CourseRosterCache.invalidateAfterTransaction(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -199,6 +221,7 @@ public final class UsersLogic {
             feedbackResponseCommentsLogic.updateFeedbackResponseCommentsEmails(courseId, originalEmail, newEmail);
         }
 
+        CourseRosterCache.invalidateAfterTransaction(courseId);
         return instructor;
     }
 
@@ -228,7 +251,10 @@ public final class UsersLogic {
      *                                      database.
      */
     public Student createStudent(Student student) throws InvalidParametersException, EntityAlreadyExistsException {
-        return usersDb.createStudent(student);
+        Student createdStudent = usersDb.createStudent(student);
+        UserRolesCache.invalidateAfterTransaction(createdStudent.getGoogleId());
+        CourseRosterCache.invalidateAfterTransaction(createdStudent.getCourseId());
+        return createdStudent;
     }
 
     /**
@@ -291,6 +317,10 @@ public final class UsersLogic {
      */
     public <T extends User> void deleteUser(T user) {
         usersDb.deleteUser(user);
+        if (user != null) {
+            UserRolesCache.invalidateAfterTransaction(user.getGoogleId());
+            CourseRosterCache.invalidateAfterTransaction(user.getCourseId());
+        }
     }
 
     /**
@@ -325,6 +355,20 @@ public final class UsersLogic {
         return instructorsWithCoOwnerPrivileges;
     }
 
+    /**
+     * Gets the number of instructors created within a specified time range.
+     */
+    long getNumInstructorsByTimeRange(Instant startTime, Instant endTime) {
+        return usersDb.getNumInstructorsByTimeRange(startTime, endTime);
+    }
+
+    /**
+     * Gets the number of students created within a specified time range.
+     */
+    long getNumStudentsByTimeRange(Instant startTime, Instant endTime) {
+        return usersDb.getNumStudentsByTimeRange(startTime, endTime);
+    }
+
     /**
      * Gets a list of instructors for the specified course.
      */
@@ -335,6 +379,22 @@ public final class UsersLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Gets a page of the instructors for the specified course, ordered by email.
+     *
+     * @param afterEmail the email of the last instructor in the previous page, or null for the first page
+     */
+    public List<Instructor> getInstructorsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        return usersDb.getInstructorsPageForCourse(courseId, afterEmail, pageSize);
+    }
+
+    /**
+     * Gets the roster details of the instructors for the specified course.
+     */
+    public List<InstructorInfo> getInstructorInfosForCourse(String courseId) {
+        return usersDb.getInstructorInfosForCourse(courseId);
+    }
+
     /**
      * Check if the instructors with the provided emails exist in the course.
      */
@@ -401,6 +461,7 @@ public final class UsersLogic {
             }
             usersDb.updateUser(student);
         }
+        UserRolesCache.invalidateAfterTransaction(googleId);
 
         return instructor;
     }
@@ -467,7 +528,7 @@ public final class UsersLogic {
      * Returns true if the user associated with the googleId is an instructor in any course in the system.
      */
     public boolean isInstructorInAnyCourse(String googleId) {
-        return !usersDb.getAllInstructorsByGoogleId(googleId).isEmpty();
+        return usersDb.hasInstructorsByGoogleId(googleId);
     }
 
     /**
@@ -540,6 +601,22 @@ public final class UsersLogic {
         return studentReturnList;
     }
 
+    /**
+     * Gets a page of the students for the specified course, ordered by email.
+     *
+     * @param afterEmail the email of the last student in the previous page, or null for the first page
+     */
+    public List<Student> getStudentsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        return usersDb.getStudentsPageForCourse(courseId, afterEmail, pageSize);
+    }
+
+    /**
+     * Gets the roster details of the students for the specified course.
+     */
+    public List<StudentInfo> getStudentInfosForCourse(String courseId) {
+        return usersDb.getStudentInfosForCourse(courseId);
+    }
+
     /**
      * Gets a list of unregistered students for the specified course.
      */
@@ -591,6 +668,27 @@ public final class UsersLogic {
         return usersDb.getStudentsForTeam(teamName, courseId);
     }
 
+    /**
+     * Gets the roster details of the students of a section.
+     */
+    public List<StudentInfo> getStudentInfosForSection(String sectionName, String courseId) {
+        return usersDb.getStudentInfosForSection(sectionName, courseId);
+    }
+
+    /**
+     * Gets the roster details of the students of a team.
+     */
+    public List<StudentInfo> getStudentInfosForTeam(String teamName, String courseId) {
+        return usersDb.getStudentInfosForTeam(teamName, courseId);
+    }
+
+    /**
+     * Gets the number of students of a team.
+     */
+    public long getStudentCountForTeam(String teamName, String courseId) {
+        return usersDb.getStudentCountForTeam(teamName, courseId);
+    }
+
     /**
      * Gets a student by associated {@code regkey}.
      */
@@ -624,7 +722,7 @@ public final class UsersLogic {
      * course in the system.
      */
     public boolean isStudentInAnyCourse(String googleId) {
-        return !usersDb.getAllStudentsByGoogleId(googleId).isEmpty();
+        return usersDb.hasStudentsByGoogleId(googleId);
     }
 
     /**
@@ -800,6 +898,7 @@ public final class UsersLogic {
                     student.getCourse(), student.getEmail(), student.getSection());
         }
 
+        CourseRosterCache.invalidateAfterTransaction(courseId);
         return originalStudent;
     }
 
@@ -820,6 +919,7 @@ public final class UsersLogic {
         }
 
         instructor.setAccount(null);
+        UserRolesCache.invalidateAfterTransaction(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -959,6 +1059,7 @@ public final class UsersLogic {
         }
 
         student.setAccount(null);
+        UserRolesCache.invalidateAfterTransaction(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
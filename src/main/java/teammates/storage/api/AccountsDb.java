@@ -5,6 +5,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -93,6 +94,15 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return makeAttributes(account);
     }
 
+    /**
+     * Gets the Google IDs of all accounts that have been migrated.
+     */
+    public List<String> getMigratedAccountGoogleIds() {
+        return load().filter("isMigrated =", true).keys().list().stream()
+                .map(Key::getName)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Deletes an account.
      *
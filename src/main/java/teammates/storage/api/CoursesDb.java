@@ -5,6 +5,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -51,6 +52,15 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return makeAttributes(getCourseEntities(courseIds));
     }
 
+    /**
+     * Gets the IDs of all courses that have been migrated.
+     */
+    public List<String> getMigratedCourseIds() {
+        return load().filter("isMigrated =", true).keys().list().stream()
+                .map(Key::getName)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates a course by {@link CourseAttributes.UpdateOptions}.
      *
@@ -8,6 +8,7 @@ import com.google.cloud.datastore.DatastoreOptions;
 import com.googlecode.objectify.ObjectifyFactory;
 import com.googlecode.objectify.ObjectifyService;
 
+import teammates.common.util.BackgroundReader;
 import teammates.common.util.Config;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.AccountRequest;
@@ -62,6 +63,7 @@ public class OfyHelper implements ServletContextListener {
         // Invoked by Jetty at application startup.
         initializeDatastore();
         registerEntityClasses();
+        BackgroundReader.inst().addThreadContext(ObjectifyService::begin);
     }
 
     @Override
@@ -132,6 +132,21 @@ public final class AccountRequestsDb extends EntitiesDb {
         return query.getResultList();
     }
 
+    /**
+     * Gets the number of account requests created within a specified time range.
+     */
+    public long getNumAccountRequestsByTimeRange(Instant startTime, Instant endTime) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<AccountRequest> root = cr.from(AccountRequest.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startTime),
+                cb.lessThan(root.get("createdAt"), endTime)));
+
+        return count(cr);
+    }
+
     /**
      * Updates or creates (if does not exist) the AccountRequest in the database.
      */
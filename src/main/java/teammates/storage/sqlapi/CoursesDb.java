@@ -3,6 +3,7 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -88,9 +89,26 @@ public final class CoursesDb extends EntitiesDb {
     public void deleteCourse(Course course) {
         if (course != null) {
             delete(course);
+            // teams of the deleted sections are deleted by the database, bypassing the second-level cache
+            HibernateUtil.evictFromSecondLevelCache(Team.class);
         }
     }
 
+    /**
+     * Gets the number of courses created within a specified time range.
+     */
+    public long getNumCoursesByTimeRange(Instant startTime, Instant endTime) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Course> root = cr.from(Course.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startTime),
+                cb.lessThan(root.get("createdAt"), endTime)));
+
+        return count(cr);
+    }
+
     /**
      * Creates a section.
      */
@@ -162,6 +180,8 @@ public final class CoursesDb extends EntitiesDb {
         subquery.where(cb.equal(sqJoin.get("id"), courseId));
         cd.where(cb.in(sRoot.get("id")).value(subquery));
         HibernateUtil.createMutationQuery(cd).executeUpdate();
+        // teams of the deleted sections are deleted by the database, bypassing the second-level cache
+        HibernateUtil.evictFromSecondLevelCache(Team.class);
     }
 
     /**
@@ -0,0 +1,54 @@
+package teammates.storage.sqlapi;
+
+import java.util.Collection;
+
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.BaseEntity;
+
+/**
+ * Handles bulk loading of data bundles into the database.
+ *
+ * @see teammates.common.datatransfer.SqlDataBundle
+ */
+public final class DataBundleDb extends EntitiesDb {
+
+    private static final DataBundleDb instance = new DataBundleDb();
+
+    private DataBundleDb() {
+        // prevent initialization
+    }
+
+    public static DataBundleDb inst() {
+        return instance;
+    }
+
+    /**
+     * Persists {@code entities} without checking whether they already exist in the database.
+     *
+     * <p>This is meant for loading entities into a database which does not have them yet, e.g. right after
+     * the same entities have been removed. An entity which already exists is only detected through
+     * a constraint violation when the session is flushed.
+     *
+     * @throws InvalidParametersException if any of the entities is not valid; no entity is persisted then
+     */
+    public void persistInBulk(Collection<? extends BaseEntity> entities) throws InvalidParametersException {
+        assert entities != null;
+
+        for (BaseEntity entity : entities) {
+            if (!entity.isValid()) {
+                throw new InvalidParametersException(entity.getInvalidityInfo());
+            }
+        }
+
+        for (BaseEntity entity : entities) {
+            HibernateUtil.persist(entity);
+        }
+
+        if (!entities.isEmpty()) {
+            log.info("Entities persisted in bulk: " + entities.size() + " "
+                    + entities.iterator().next().getClass().getSimpleName());
+        }
+    }
+
+}
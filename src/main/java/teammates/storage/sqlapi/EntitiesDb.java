@@ -1,6 +1,8 @@
 
 package teammates.storage.sqlapi;
 
+import jakarta.persistence.criteria.CriteriaQuery;
+
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.BaseEntity;
@@ -43,4 +45,27 @@ class EntitiesDb {
         HibernateUtil.remove(entity);
         log.info("Entity deleted: " + entity.toString());
     }
+
+    /**
+     * Returns true if {@code cq} matches at least one row.
+     *
+     * <p>The query should select a constant, e.g. {@code cb.literal(1)}, so that no entity is hydrated.
+     * At most one row is fetched.
+     */
+    protected boolean exists(CriteriaQuery<Integer> cq) {
+        assert cq != null;
+
+        return !HibernateUtil.createQuery(cq).setMaxResults(1).getResultList().isEmpty();
+    }
+
+    /**
+     * Returns the number of rows counted by {@code cq}.
+     *
+     * <p>The query should select a count projection, e.g. {@code cb.count(root)}.
+     */
+    protected long count(CriteriaQuery<Long> cq) {
+        assert cq != null;
+
+        return HibernateUtil.createQuery(cq).getSingleResult();
+    }
 }
@@ -137,16 +137,16 @@ public final class FeedbackQuestionsDb extends EntitiesDb {
     public boolean hasFeedbackQuestionsForGiverType(
             String feedbackSessionName, String courseId, FeedbackParticipantType giverType) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackQuestion> cq = cb.createQuery(FeedbackQuestion.class);
+        CriteriaQuery<Integer> cq = cb.createQuery(Integer.class);
         Root<FeedbackQuestion> root = cq.from(FeedbackQuestion.class);
         Join<FeedbackQuestion, FeedbackSession> fsJoin = root.join("feedbackSession");
         Join<FeedbackSession, Course> courseJoin = fsJoin.join("course");
 
-        cq.select(root)
+        cq.select(cb.literal(1))
                 .where(cb.and(
                         cb.equal(courseJoin.get("id"), courseId),
                         cb.equal(fsJoin.get("name"), feedbackSessionName),
                         cb.equal(root.get("giverType"), giverType)));
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return exists(cq);
     }
 }
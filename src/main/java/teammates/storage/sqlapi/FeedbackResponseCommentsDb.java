@@ -3,12 +3,16 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Root;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -98,6 +102,27 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets all feedback response comments for any of the given responses in a single query.
+     */
+    public List<FeedbackResponseComment> getFeedbackResponseCommentsForResponses(
+            Collection<UUID> feedbackResponseIds) {
+        assert feedbackResponseIds != null;
+
+        if (feedbackResponseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
+        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
+        cq.select(root)
+                .where(frJoin.get("id").in(feedbackResponseIds));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
     /**
      * Gets the comment associated with the feedback response.
      */
@@ -219,8 +244,9 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
         Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = fetchResponse(root);
+        fetchSection(root, "giverSection", JoinType.LEFT);
+        fetchSection(root, "recipientSection", JoinType.LEFT);
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
 
@@ -242,8 +268,9 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
         Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = fetchResponse(root);
+        fetchSection(root, "giverSection", JoinType.LEFT);
+        fetchSection(root, "recipientSection", JoinType.LEFT);
 
         cq.select(root)
                 .where(cb.and(
@@ -264,14 +291,13 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
         Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = fetchResponse(root);
+        // the comments are filtered by these sections, so they are fetched with inner joins
+        Join<FeedbackResponseComment, Section> giverJoin = fetchSection(root, "giverSection", JoinType.INNER);
+        Join<FeedbackResponseComment, Section> recipientJoin = fetchSection(root, "recipientSection", JoinType.INNER);
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
 
-        Join<FeedbackResponseComment, Section> giverJoin = root.join("giverSection");
-        Join<FeedbackResponseComment, Section> recipientJoin = root.join("recipientSection");
-
         cq.select(root)
                 .where(cb.and(
                     cb.equal(cJoin.get("id"), courseId),
@@ -295,11 +321,10 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
         Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
-
-        Join<FeedbackResponseComment, Section> giverJoin = root.join("giverSection");
-        Join<FeedbackResponseComment, Section> recipientJoin = root.join("recipientSection");
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = fetchResponse(root);
+        // the comments are filtered by these sections, so they are fetched with inner joins
+        Join<FeedbackResponseComment, Section> giverJoin = fetchSection(root, "giverSection", JoinType.INNER);
+        Join<FeedbackResponseComment, Section> recipientJoin = fetchSection(root, "recipientSection", JoinType.INNER);
 
         cq.select(root)
                 .where(cb.and(
@@ -312,4 +337,31 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Fetches the response (with its question and sections) of the comments in the same query,
+     * instead of loading it separately for each comment.
+     *
+     * @return the fetched question, which can also be used to filter the comments without joining it again
+     */
+    @SuppressWarnings("unchecked")
+    private Join<FeedbackResponse, FeedbackQuestion> fetchResponse(Root<FeedbackResponseComment> root) {
+        Fetch<FeedbackResponseComment, FeedbackResponse> frFetch = root.fetch("feedbackResponse");
+        Fetch<FeedbackResponse, FeedbackQuestion> fqFetch = frFetch.fetch("feedbackQuestion");
+        frFetch.fetch("giverSection", JoinType.LEFT);
+        frFetch.fetch("recipientSection", JoinType.LEFT);
+        // fetches are joins in Hibernate
+        return (Join<FeedbackResponse, FeedbackQuestion>) fqFetch;
+    }
+
+    /**
+     * Fetches the section {@code attributeName} of the comments in the same query.
+     *
+     * @return the fetched section, which can also be used to filter the comments without joining it again
+     */
+    @SuppressWarnings("unchecked")
+    private Join<FeedbackResponseComment, Section> fetchSection(
+            Root<FeedbackResponseComment> root, String attributeName, JoinType joinType) {
+        Fetch<FeedbackResponseComment, Section> sectionFetch = root.fetch(attributeName, joinType);
+        return (Join<FeedbackResponseComment, Section>) sectionFetch;
+    }
 }
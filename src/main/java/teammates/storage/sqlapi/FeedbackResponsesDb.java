@@ -3,13 +3,20 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
@@ -179,13 +186,13 @@ public final class FeedbackResponsesDb extends EntitiesDb {
      */
     public boolean areThereResponsesForQuestion(UUID questionId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<Integer> cq = cb.createQuery(Integer.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
 
-        cq.select(root)
+        cq.select(cb.literal(1))
                 .where(cb.equal(fqJoin.get("id"), questionId));
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return exists(cq);
     }
 
     /**
@@ -208,19 +215,19 @@ public final class FeedbackResponsesDb extends EntitiesDb {
     public boolean hasResponsesFromGiverInSession(
             String giver, String feedbackSessionName, String courseId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<Integer> cq = cb.createQuery(Integer.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> courseJoin = fsJoin.join("course");
 
-        cq.select(root)
+        cq.select(cb.literal(1))
                 .where(cb.and(
                         cb.equal(root.get("giver"), giver),
                         cb.equal(fsJoin.get("name"), feedbackSessionName),
                         cb.equal(courseJoin.get("id"), courseId)));
 
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return exists(cq);
     }
 
     /**
@@ -228,16 +235,68 @@ public final class FeedbackResponsesDb extends EntitiesDb {
      */
     public boolean hasResponsesForCourse(String courseId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        CriteriaQuery<Integer> cq = cb.createQuery(Integer.class);
         Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
         Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
         Join<FeedbackSession, Course> courseJoin = fsJoin.join("course");
 
-        cq.select(root)
+        cq.select(cb.literal(1))
                 .where(cb.equal(courseJoin.get("id"), courseId));
 
-        return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
+        return exists(cq);
+    }
+
+    /**
+     * Gets the number of feedback responses created within a specified time range.
+     */
+    public long getNumFeedbackResponsesByTimeRange(Instant startTime, Instant endTime) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<FeedbackResponse> root = cr.from(FeedbackResponse.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startTime),
+                cb.lessThan(root.get("createdAt"), endTime)));
+
+        return count(cr);
+    }
+
+    /**
+     * Gets the identifiers of all givers with at least one response in a session.
+     */
+    public Set<String> getGiversForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver"))
+                .distinct(true)
+                .where(cb.equal(fsJoin.get("id"), feedbackSession.getId()));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
+    }
+
+    /**
+     * Gets the number of distinct givers with at least one response in a session.
+     */
+    public long getNumGiversForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(cb.countDistinct(root.get("giver")))
+                .where(cb.equal(fsJoin.get("id"), feedbackSession.getId()));
+
+        return count(cq);
     }
 
     /**
@@ -283,6 +342,52 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the responses to the questions with {@code questionIds} which are given by or to any of
+     * {@code participants}, as well as all responses to the questions with {@code questionIdsWithAllResponses}.
+     *
+     * <p>The question and the giver/recipient sections of each response are fetched in the same query.
+     */
+    public List<FeedbackResponse> getFeedbackResponsesForQuestionsOfParticipants(
+            Collection<UUID> questionIds, Collection<String> participants,
+            Collection<UUID> questionIdsWithAllResponses) {
+        assert questionIds != null;
+        assert participants != null;
+        assert questionIdsWithAllResponses != null;
+
+        if (questionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        root.fetch("feedbackQuestion");
+        root.fetch("giverSection", JoinType.LEFT);
+        root.fetch("recipientSection", JoinType.LEFT);
+        Path<UUID> questionIdPath = root.get("feedbackQuestion").get("id");
+
+        List<Predicate> participantFilters = new ArrayList<>();
+        if (!participants.isEmpty()) {
+            participantFilters.add(root.get("giver").in(participants));
+            participantFilters.add(root.get("recipient").in(participants));
+        }
+        if (!questionIdsWithAllResponses.isEmpty()) {
+            participantFilters.add(questionIdPath.in(questionIdsWithAllResponses));
+        }
+        if (participantFilters.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        cq.select(root)
+                .where(cb.and(
+                    questionIdPath.in(questionIds),
+                    cb.or(participantFilters.toArray(new Predicate[0]))
+                    ));
+
+        return HibernateUtil.createQuery(cq).getResultList();
+    }
+
     /**
      * Gets all responses given to/from a section in a feedback session in a course.
      * Optionally, retrieves by either giver, receiver sections, or both.
@@ -73,6 +73,56 @@ public final class FeedbackSessionLogsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets a page of the feedback session logs as filtered by the given parameters ordered by
+     * ascending timestamp. Logs with the same timestamp will be ordered by their ID, so that
+     * the next page can be fetched from the timestamp and ID of the last log in the page.
+     *
+     * @param studentId        Can be null
+     * @param feedbackSessionId Can be null
+     * @param afterTimestamp   the timestamp of the last log in the previous page, or null for the first page
+     * @param afterId          the ID of the last log in the previous page, or null for the first page
+     */
+    public List<FeedbackSessionLog> getOrderedFeedbackSessionLogsPage(String courseId, UUID studentId,
+            UUID feedbackSessionId, Instant startTime, Instant endTime,
+            Instant afterTimestamp, UUID afterId, int pageSize) {
+
+        assert courseId != null;
+        assert startTime != null;
+        assert endTime != null;
+        assert (afterTimestamp == null) == (afterId == null);
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSessionLog> cr = cb.createQuery(FeedbackSessionLog.class);
+        Root<FeedbackSessionLog> root = cr.from(FeedbackSessionLog.class);
+        Join<FeedbackSessionLog, FeedbackSession> feedbackSessionJoin = root.join("feedbackSession");
+        Join<FeedbackSessionLog, Student> studentJoin = root.join("student");
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (studentId != null) {
+            predicates.add(cb.equal(studentJoin.get("id"), studentId));
+        }
+
+        if (feedbackSessionId != null) {
+            predicates.add(cb.equal(feedbackSessionJoin.get("id"), feedbackSessionId));
+        }
+
+        predicates.add(cb.equal(feedbackSessionJoin.get("course").get("id"), courseId));
+        predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), startTime));
+        predicates.add(cb.lessThan(root.get("timestamp"), endTime));
+
+        if (afterTimestamp != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(root.get("timestamp"), afterTimestamp),
+                    cb.and(cb.equal(root.get("timestamp"), afterTimestamp), cb.greaterThan(root.get("id"), afterId))));
+        }
+
+        cr.select(root).where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("timestamp")), cb.asc(root.get("id")));
+        return HibernateUtil.createQuery(cr).setMaxResults(pageSize).getResultList();
+    }
+
     /**
      * Creates feedback session logs.
      */
@@ -19,6 +19,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 
 /**
@@ -190,6 +191,8 @@ public final class FeedbackSessionsDb extends EntitiesDb {
     public void deleteFeedbackSession(FeedbackSession feedbackSession) {
         if (feedbackSession != null) {
             delete(feedbackSession);
+            // questions of the session are deleted by the database, bypassing the second-level cache
+            HibernateUtil.evictFromSecondLevelCache(FeedbackQuestion.class);
         }
     }
 
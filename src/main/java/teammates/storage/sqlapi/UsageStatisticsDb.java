@@ -42,6 +42,19 @@ public final class UsageStatisticsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the statistics object with the latest start time, or null if there is none.
+     */
+    public UsageStatistics getLatestUsageStatistics() {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<UsageStatistics> cr = cb.createQuery(UsageStatistics.class);
+        Root<UsageStatistics> root = cr.from(UsageStatistics.class);
+
+        cr.select(root).orderBy(cb.desc(root.get("startTime")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(1).getResultStream().findFirst().orElse(null);
+    }
+
     /**
      * Creates a usage statistics object.
      */
@@ -4,15 +4,20 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
+import teammates.common.datatransfer.CourseRosterSnapshot.InstructorInfo;
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -259,6 +264,34 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(studentsCr).getResultList();
     }
 
+    /**
+     * Checks whether there are instructors associated with {@code googleId}.
+     */
+    public boolean hasInstructorsByGoogleId(String googleId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Integer> cr = cb.createQuery(Integer.class);
+        Root<Instructor> instructorsRoot = cr.from(Instructor.class);
+        Join<Instructor, Account> accountsJoin = instructorsRoot.join("account");
+
+        cr.select(cb.literal(1)).where(cb.equal(accountsJoin.get("googleId"), googleId));
+
+        return exists(cr);
+    }
+
+    /**
+     * Checks whether there are students associated with {@code googleId}.
+     */
+    public boolean hasStudentsByGoogleId(String googleId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Integer> cr = cb.createQuery(Integer.class);
+        Root<Student> studentsRoot = cr.from(Student.class);
+        Join<Student, Account> accountsJoin = studentsRoot.join("account");
+
+        cr.select(cb.literal(1)).where(cb.equal(accountsJoin.get("googleId"), googleId));
+
+        return exists(cr);
+    }
+
     /**
      * Gets all instructors.
      */
@@ -335,7 +368,7 @@ public final class UsersDb extends EntitiesDb {
                 cb.greaterThanOrEqualTo(root.get("createdAt"), startTime),
                 cb.lessThan(root.get("createdAt"), endTime)));
 
-        return HibernateUtil.createQuery(cr).getSingleResult();
+        return count(cr);
     }
 
     /**
@@ -350,7 +383,7 @@ public final class UsersDb extends EntitiesDb {
                 cb.greaterThanOrEqualTo(root.get("createdAt"), startTime),
                 cb.lessThan(root.get("createdAt"), endTime)));
 
-        return HibernateUtil.createQuery(cr).getSingleResult();
+        return count(cr);
     }
 
     /**
@@ -362,12 +395,56 @@ public final class UsersDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<Instructor> cr = cb.createQuery(Instructor.class);
         Root<Instructor> root = cr.from(Instructor.class);
+        // fetched in the same query instead of one query per instructor
+        root.fetch("account", JoinType.LEFT);
 
         cr.select(root).where(cb.equal(root.get("courseId"), courseId));
 
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets a page of the instructors for the specified {@code courseId}, ordered by email.
+     *
+     * @param afterEmail the email of the last instructor in the previous page, or null for the first page
+     */
+    public List<Instructor> getInstructorsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Instructor> cr = cb.createQuery(Instructor.class);
+        Root<Instructor> root = cr.from(Instructor.class);
+        root.fetch("account", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseId"), courseId));
+        if (afterEmail != null) {
+            predicates.add(cb.greaterThan(root.get("email"), afterEmail));
+        }
+
+        cr.select(root).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(root.get("email")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(pageSize).getResultList();
+    }
+
+    /**
+     * Gets the roster details of the instructors for the specified {@code courseId},
+     * without loading the instructors themselves.
+     */
+    public List<InstructorInfo> getInstructorInfosForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<InstructorInfo> cr = cb.createQuery(InstructorInfo.class);
+        Root<Instructor> root = cr.from(Instructor.class);
+
+        cr.select(cb.construct(InstructorInfo.class,
+                        root.get("email"), root.get("name"), root.get("isDisplayedToStudents")))
+                .where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Gets the list of students for the specified {@code courseId}.
      */
@@ -377,12 +454,99 @@ public final class UsersDb extends EntitiesDb {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<Student> cr = cb.createQuery(Student.class);
         Root<Student> root = cr.from(Student.class);
+        // fetched in the same query instead of one query per student, team and section
+        root.fetch("account", JoinType.LEFT);
+        root.fetch("team", JoinType.LEFT).fetch("section", JoinType.LEFT);
 
         cr.select(root).where(cb.equal(root.get("courseId"), courseId));
 
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the roster details of the students for the specified {@code courseId},
+     * without loading the students themselves.
+     */
+    public List<StudentInfo> getStudentInfosForCourse(String courseId) {
+        assert courseId != null;
+
+        return getStudentInfos(courseId, null, null);
+    }
+
+    /**
+     * Gets the roster details of the students in the specified section of a course,
+     * without loading the students themselves.
+     */
+    public List<StudentInfo> getStudentInfosForSection(String sectionName, String courseId) {
+        assert sectionName != null;
+        assert courseId != null;
+
+        return getStudentInfos(courseId, sectionName, null);
+    }
+
+    /**
+     * Gets the roster details of the students in the specified team of a course,
+     * without loading the students themselves.
+     */
+    public List<StudentInfo> getStudentInfosForTeam(String teamName, String courseId) {
+        assert teamName != null;
+        assert courseId != null;
+
+        return getStudentInfos(courseId, null, teamName);
+    }
+
+    private List<StudentInfo> getStudentInfos(String courseId, String sectionName, String teamName) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<StudentInfo> cr = cb.createQuery(StudentInfo.class);
+        Root<Student> studentRoot = cr.from(Student.class);
+        Join<Student, Team> teamJoin = studentRoot.join("team");
+        Join<Team, Section> sectionJoin = teamJoin.join("section");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(studentRoot.get("courseId"), courseId));
+        if (sectionName != null) {
+            predicates.add(cb.equal(sectionJoin.get("name"), sectionName));
+        }
+        if (teamName != null) {
+            predicates.add(cb.equal(teamJoin.get("name"), teamName));
+        }
+
+        cr.select(cb.construct(StudentInfo.class,
+                        studentRoot.get("email"), studentRoot.get("name"), teamJoin.get("name"), sectionJoin.get("name")))
+                .where(predicates.toArray(new Predicate[0]));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Gets a page of the students for the specified {@code courseId}, ordered by email.
+     *
+     * <p>Unlike {@link #getStudentsForCourse(String, int)}, the next pages can be fetched by passing the email
+     * of the last student in the page; as the (course, email) pair is indexed, each page is read straight
+     * from where the previous page ended.
+     *
+     * @param afterEmail the email of the last student in the previous page, or null for the first page
+     */
+    public List<Student> getStudentsPageForCourse(String courseId, String afterEmail, int pageSize) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Student> cr = cb.createQuery(Student.class);
+        Root<Student> root = cr.from(Student.class);
+        root.fetch("account", JoinType.LEFT);
+        root.fetch("team", JoinType.LEFT).fetch("section", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseId"), courseId));
+        if (afterEmail != null) {
+            predicates.add(cb.greaterThan(root.get("email"), afterEmail));
+        }
+
+        cr.select(root).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(root.get("email")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(pageSize).getResultList();
+    }
+
     /**
      * Gets the list of students for the specified {@code courseId} in batches with {@code batchSize}.
      */
@@ -484,6 +648,66 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the instructors with the given emails in each of the given courses, together with their course,
+     * in a single query.
+     *
+     * @param courseIdToEmails the emails of the instructors to get, keyed by the ID of their course
+     */
+    public List<Instructor> getInstructorsForEmails(Map<String, ? extends Collection<String>> courseIdToEmails) {
+        assert courseIdToEmails != null;
+
+        if (courseIdToEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Instructor> cr = cb.createQuery(Instructor.class);
+        Root<Instructor> instructorRoot = cr.from(Instructor.class);
+        instructorRoot.fetch("course");
+        instructorRoot.fetch("account", JoinType.LEFT);
+
+        cr.select(instructorRoot)
+                .where(cb.or(getCourseIdAndEmailPredicates(cb, instructorRoot, courseIdToEmails)));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Gets the students with the given emails in each of the given courses, together with their course,
+     * team and section, in a single query.
+     *
+     * @param courseIdToEmails the emails of the students to get, keyed by the ID of their course
+     */
+    public List<Student> getStudentsForEmails(Map<String, ? extends Collection<String>> courseIdToEmails) {
+        assert courseIdToEmails != null;
+
+        if (courseIdToEmails.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Student> cr = cb.createQuery(Student.class);
+        Root<Student> studentRoot = cr.from(Student.class);
+        studentRoot.fetch("course");
+        studentRoot.fetch("account", JoinType.LEFT);
+        studentRoot.fetch("team", JoinType.LEFT).fetch("section", JoinType.LEFT);
+
+        cr.select(studentRoot)
+                .where(cb.or(getCourseIdAndEmailPredicates(cb, studentRoot, courseIdToEmails)));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    private Predicate[] getCourseIdAndEmailPredicates(CriteriaBuilder cb, Root<? extends User> userRoot,
+            Map<String, ? extends Collection<String>> courseIdToEmails) {
+        List<Predicate> predicates = new ArrayList<>();
+        courseIdToEmails.forEach((courseId, emails) -> predicates.add(cb.and(
+                cb.equal(userRoot.get("courseId"), courseId),
+                userRoot.get("email").in(emails))));
+        return predicates.toArray(new Predicate[0]);
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -577,7 +801,7 @@ public final class UsersDb extends EntitiesDb {
                         cb.equal(courseJoin.get("id"), courseId),
                         cb.equal(teamsJoin.get("name"), teamName)));
 
-        return HibernateUtil.createQuery(cr).getSingleResult();
+        return count(cr);
     }
 
     /**
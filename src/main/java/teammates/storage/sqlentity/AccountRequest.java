@@ -12,6 +12,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -31,6 +32,9 @@ import teammates.common.util.StringHelper;
 @Table(name = "AccountRequests",
         uniqueConstraints = {
                 @UniqueConstraint(name = "Unique registration key", columnNames = "registrationKey"),
+        },
+        indexes = {
+                @Index(name = "idx_account_requests_created_at", columnList = "createdAt"),
         })
 public class AccountRequest extends BaseEntity {
     @Id
@@ -1,5 +1,6 @@
 package teammates.storage.sqlentity;
 
+import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -92,36 +93,44 @@ public abstract class BaseEntity {
     /**
      * Converter for {@code FeedbackQuestionDetails} stored in JSON.
      *
+     * <p>Details are written in compact JSON. Rows written previously in pretty-printed JSON
+     * are still read correctly as the parser ignores insignificant whitespace.
      */
     @Converter
     public static class FeedbackQuestionDetailsConverter implements AttributeConverter<FeedbackQuestionDetails, String> {
+        private static final Type QUESTION_DETAILS_TYPE = new TypeToken<FeedbackQuestionDetails>() {
+        }.getType();
+
         @Override
         public String convertToDatabaseColumn(FeedbackQuestionDetails entity) {
-            return JsonUtils.toJson(entity);
+            return JsonUtils.toCompactJson(entity);
         }
 
         @Override
         public FeedbackQuestionDetails convertToEntityAttribute(String dbData) {
-            return JsonUtils.fromJson(dbData, new TypeToken<FeedbackQuestionDetails>() {
-            }.getType());
+            return JsonUtils.fromJson(dbData, QUESTION_DETAILS_TYPE);
         }
     }
 
     /**
      * Converter for {@code FeedbackResponseDetails} stored in JSON.
      *
+     * <p>Details are written in compact JSON. Rows written previously in pretty-printed JSON
+     * are still read correctly as the parser ignores insignificant whitespace.
      */
     @Converter
     public static class FeedbackResponseDetailsConverter implements AttributeConverter<FeedbackResponseDetails, String> {
+        private static final Type RESPONSE_DETAILS_TYPE = new TypeToken<FeedbackResponseDetails>() {
+        }.getType();
+
         @Override
         public String convertToDatabaseColumn(FeedbackResponseDetails entity) {
-            return JsonUtils.toJson(entity);
+            return JsonUtils.toCompactJson(entity);
         }
 
         @Override
         public FeedbackResponseDetails convertToEntityAttribute(String dbData) {
-            return JsonUtils.fromJson(dbData, new TypeToken<FeedbackResponseDetails>() {
-            }.getType());
+            return JsonUtils.fromJson(dbData, RESPONSE_DETAILS_TYPE);
         }
     }
 
@@ -10,6 +10,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -34,7 +35,13 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  * Represents a Feedback Response.
  */
 @Entity
-@Table(name = "FeedbackResponses")
+@Table(name = "FeedbackResponses", indexes = {
+        @Index(name = "idx_feedback_responses_question_id_giver", columnList = "questionId, giver"),
+        @Index(name = "idx_feedback_responses_question_id_recipient", columnList = "questionId, recipient"),
+        @Index(name = "idx_feedback_responses_giver_section_id", columnList = "giverSectionId"),
+        @Index(name = "idx_feedback_responses_recipient_section_id", columnList = "recipientSectionId"),
+        @Index(name = "idx_feedback_responses_created_at", columnList = "createdAt"),
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public abstract class FeedbackResponse extends BaseEntity {
     @Id
@@ -10,6 +10,7 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,9 @@ import teammates.common.util.SanitizationHelper;
  * Represents a feedback response comment.
  */
 @Entity
-@Table(name = "FeedbackResponseComments")
+@Table(name = "FeedbackResponseComments", indexes = {
+        @Index(name = "idx_feedback_response_comments_response_id", columnList = "responseId"),
+})
 public class FeedbackResponseComment extends BaseEntity {
     @Id
     @GeneratedValue
@@ -9,6 +9,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 /**
@@ -18,7 +19,7 @@ import jakarta.persistence.Table;
  * and number of actions, as opposed to system resources such as hardware and network.
  */
 @Entity
-@Table(name = "UsageStatistics")
+@Table(name = "UsageStatistics", indexes = @Index(name = "idx_usage_statistics_start_time", columnList = "startTime"))
 public class UsageStatistics extends BaseEntity {
     @Id
     private UUID id;
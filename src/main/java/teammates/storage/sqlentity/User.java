@@ -5,9 +5,11 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -15,6 +17,8 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import teammates.common.util.SanitizationHelper;
@@ -24,8 +28,14 @@ import teammates.common.util.StringHelper;
  * Represents a User.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "Users", uniqueConstraints = {
         @UniqueConstraint(name = "Unique email and courseId", columnNames = { "email", "courseId" })
+}, indexes = {
+        @Index(name = "idx_users_course_id_email", columnList = "courseId, email"),
+        @Index(name = "idx_users_account_id", columnList = "accountId"),
+        @Index(name = "idx_users_created_at", columnList = "createdAt"),
 })
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class User extends BaseEntity {
@@ -1,5 +1,6 @@
 package teammates.storage.sqlsearch;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -35,9 +36,16 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequest> {
     }
 
     @Override
-    AccountRequest getEntityFromDocument(SolrDocument document) {
-        UUID id = UUID.fromString((String) document.getFieldValue("id"));
-        return accountRequestsDb.getAccountRequest(id);
+    List<AccountRequest> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<AccountRequest> accountRequests = new ArrayList<>();
+        for (SolrDocument document : documents) {
+            UUID id = UUID.fromString((String) document.getFieldValue("id"));
+            AccountRequest accountRequest = accountRequestsDb.getAccountRequest(id);
+            if (accountRequest != null) {
+                accountRequests.add(accountRequest);
+            }
+        }
+        return accountRequests;
     }
 
     @Override
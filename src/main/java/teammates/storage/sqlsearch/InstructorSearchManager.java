@@ -8,9 +8,7 @@ import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
 
 import teammates.common.exception.SearchServiceException;
-import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.UsersDb;
-import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
 
 /**
@@ -18,7 +16,6 @@ import teammates.storage.sqlentity.Instructor;
  */
 public class InstructorSearchManager extends SearchManager<Instructor> {
 
-    private final CoursesDb coursesDb = CoursesDb.inst();
     private final UsersDb instructorsDb = UsersDb.inst();
 
     public InstructorSearchManager(String searchServiceHost, boolean isResetAllowed) {
@@ -32,15 +29,12 @@ public class InstructorSearchManager extends SearchManager<Instructor> {
 
     @Override
     InstructorSearchDocument createDocument(Instructor instructor) {
-        Course course = coursesDb.getCourse(instructor.getCourseId());
-        return new InstructorSearchDocument(instructor, course);
+        return new InstructorSearchDocument(instructor, instructor.getCourse());
     }
 
     @Override
-    Instructor getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorForEmail(courseId, email);
+    List<Instructor> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        return instructorsDb.getInstructorsForEmails(groupEmailsByCourseId(documents));
     }
 
     @Override
@@ -0,0 +1,103 @@
+package teammates.storage.sqlsearch;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+
+/**
+ * Coalesces the documents put into a search collection within a short window,
+ * so that they are sent to the search service in a single update request.
+ *
+ * <p>If a document with the same ID is put more than once within the window, only the latest one is sent.
+ * Each caller is notified of the outcome of the request containing its document, so that failures can
+ * still be retried by the caller.
+ */
+final class SearchDocumentBatcher {
+
+    // a single thread sends the batches of all collections, as each batch is small and sent quickly
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "search-indexing");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final BatchSender sender;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private Map<Object, SolrInputDocument> pendingDocuments = new LinkedHashMap<>();
+    private CompletableFuture<Void> pendingResult = new CompletableFuture<>();
+
+    SearchDocumentBatcher(BatchSender sender, long windowMillis, int maxBatchSize) {
+        this.sender = sender;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds the document with the given {@code id} to the next batch.
+     *
+     * @return a future which is completed once the batch containing the document has been sent
+     */
+    synchronized CompletableFuture<Void> add(Object id, SolrInputDocument document) {
+        boolean isNewBatch = pendingDocuments.isEmpty();
+        pendingDocuments.put(id, document);
+        CompletableFuture<Void> result = pendingResult;
+
+        if (pendingDocuments.size() >= maxBatchSize) {
+            SCHEDULER.execute(this::flush);
+        } else if (isNewBatch) {
+            SCHEDULER.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of documents waiting to be sent.
+     */
+    synchronized int getNumberOfPendingDocuments() {
+        return pendingDocuments.size();
+    }
+
+    /**
+     * Sends the documents waiting to be sent, if any.
+     */
+    void flush() {
+        Map<Object, SolrInputDocument> documents;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            if (pendingDocuments.isEmpty()) {
+                return;
+            }
+            documents = pendingDocuments;
+            result = pendingResult;
+            pendingDocuments = new LinkedHashMap<>();
+            pendingResult = new CompletableFuture<>();
+        }
+
+        try {
+            sender.send(documents.values());
+            result.complete(null);
+        } catch (SolrServerException | IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Sends a batch of documents to the search service.
+     */
+    @FunctionalInterface
+    interface BatchSender {
+        void send(Collection<SolrInputDocument> documents) throws SolrServerException, IOException;
+    }
+
+}
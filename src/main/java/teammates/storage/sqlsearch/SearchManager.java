@@ -3,9 +3,16 @@ package teammates.storage.sqlsearch;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
@@ -36,24 +43,38 @@ abstract class SearchManager<T extends BaseEntity> {
     private static final String ERROR_SEARCH_DOCUMENT = "Failed to search for document(s) %s from Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED = "Search service is not implemented";
     private static final String ERROR_PUT_DOCUMENT = "Failed to put document %s into Solr. Root cause: %s ";
+    private static final String ERROR_PUT_DOCUMENTS = "Failed to put %d documents into Solr. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION = "Failed to reset collections. Root cause: %s ";
 
     private static final int START_INDEX = 0;
     private static final int NUM_OF_RESULTS = Const.SEARCH_QUERY_SIZE_LIMIT;
 
+    // Documents are made searchable by Solr within this time instead of being committed on every update
+    private static final int COMMIT_WITHIN_MILLIS = 1000;
+    // Documents put within this window are sent to Solr together
+    private static final long BATCH_WINDOW_MILLIS = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long PUT_DOCUMENT_TIMEOUT_MILLIS = 10_000;
+
     private final HttpSolrClient client;
     private final boolean isResetAllowed;
+    private final boolean isCommitImmediate;
+    private final SearchDocumentBatcher batcher;
 
     SearchManager(String searchServiceHost, boolean isResetAllowed) {
         this.isResetAllowed = Config.IS_DEV_SERVER && isResetAllowed;
+        // component tests verify updates right away, so they are always committed immediately
+        this.isCommitImmediate = Config.SEARCH_SERVICE_COMMIT_IMMEDIATELY || this.isResetAllowed;
 
         if (StringHelper.isEmpty(searchServiceHost)) {
             this.client = null;
+            this.batcher = null;
         } else {
             this.client = new HttpSolrClient.Builder(searchServiceHost)
                     .withConnectionTimeout(2000) // timeout for connecting to Solr server
                     .withSocketTimeout(5000) // timeout for reading data
                     .build();
+            this.batcher = new SearchDocumentBatcher(this::sendDocuments, BATCH_WINDOW_MILLIS, MAX_BATCH_SIZE);
         }
     }
 
@@ -99,6 +120,9 @@ abstract class SearchManager<T extends BaseEntity> {
 
     /**
      * Creates or updates search document for the given entity.
+     *
+     * <p>The document is sent together with the other documents put into the same collection
+     * within a short window, and becomes searchable shortly after.
      */
     public void putDocument(T entity) throws SearchServiceException {
         if (client == null) {
@@ -110,22 +134,91 @@ abstract class SearchManager<T extends BaseEntity> {
             return;
         }
 
-        Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        SolrInputDocument document = createSolrDocument(entity);
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            batcher.add(document.getFieldValue("id"), document)
+                    .get(PUT_DOCUMENT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Throwable rootCause = cause instanceof SolrServerException
+                    ? ((SolrServerException) cause).getRootCause()
+                    : cause.getCause();
+            log.severe(String.format(ERROR_PUT_DOCUMENT, document, rootCause), cause);
+            throw new SearchServiceException(cause, HttpStatus.SC_BAD_GATEWAY);
+        } catch (TimeoutException e) {
+            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e), e);
+            throw new SearchServiceException(e, HttpStatus.SC_GATEWAY_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchServiceException(e, HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Creates or updates search documents for the given entities in a single request.
+     */
+    public void putDocuments(List<T> entities) throws SearchServiceException {
+        if (client == null) {
+            log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
+            return;
+        }
+
+        // only the latest document is kept if an entity appears more than once
+        Map<Object, SolrInputDocument> documents = new LinkedHashMap<>();
+        for (T entity : entities) {
+            if (entity != null) {
+                SolrInputDocument document = createSolrDocument(entity);
+                documents.put(document.getFieldValue("id"), document);
+            }
+        }
+
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        try {
+            sendDocuments(documents.values());
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENTS, documents.size(), e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENTS, documents.size(), e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    /**
+     * Gets the number of documents waiting to be sent to the search service.
+     */
+    public int getNumberOfPendingDocuments() {
+        return batcher == null ? 0 : batcher.getNumberOfPendingDocuments();
+    }
+
+    private SolrInputDocument createSolrDocument(T entity) {
+        Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
+        SolrInputDocument document = new SolrInputDocument();
+        searchableFields.forEach((key, value) -> document.addField(key, value));
+        return document;
+    }
+
+    private void sendDocuments(Collection<SolrInputDocument> documents) throws SolrServerException, IOException {
+        client.add(getCollectionName(), documents, COMMIT_WITHIN_MILLIS);
+        commitIfImmediate();
+        // reports the depth of the indexing queue, which grows if documents are put faster than they are sent
+        log.info(String.format("Sent %d documents to Solr collection %s, %d documents pending",
+                documents.size(), getCollectionName(), getNumberOfPendingDocuments()));
+    }
+
+    /**
+     * Commits the pending updates immediately if configured to, so that they can be searched right away.
+     */
+    private void commitIfImmediate() throws SolrServerException, IOException {
+        if (isCommitImmediate) {
+            client.commit(getCollectionName());
+        }
+    }
+
     /**
      * Removes search documents based on the given keys.
      */
@@ -140,8 +233,8 @@ abstract class SearchManager<T extends BaseEntity> {
         }
 
         try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            client.deleteById(getCollectionName(), keys, COMMIT_WITHIN_MILLIS);
+            commitIfImmediate();
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -205,35 +298,42 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
-    abstract T getEntityFromDocument(SolrDocument document);
+    /**
+     * Gets the entities corresponding to the given documents.
+     *
+     * <p>Documents without a corresponding entity are skipped.
+     */
+    abstract List<T> getEntitiesFromDocuments(List<SolrDocument> documents);
 
     abstract void sortResult(List<T> result);
 
+    /**
+     * Groups the emails stored in the given documents by the course ID stored in the same documents.
+     */
+    static Map<String, Set<String>> groupEmailsByCourseId(List<SolrDocument> documents) {
+        Map<String, Set<String>> courseIdToEmails = new HashMap<>();
+        for (SolrDocument document : documents) {
+            String courseId = (String) document.getFirstValue("courseId");
+            String email = (String) document.getFirstValue("email");
+            courseIdToEmails.computeIfAbsent(courseId, k -> new HashSet<>()).add(email);
+        }
+        return courseIdToEmails;
+    }
+
     List<T> convertDocumentToEntities(List<SolrDocument> documents) {
-        if (documents == null) {
+        if (documents == null || documents.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<T> result = new ArrayList<>();
+        // Entities are fetched for all documents at once instead of one by one.
+        // There will be no entity for documents which correspond to entities in datastore,
+        // or when the search engine is out of sync as SearchManager may fail to delete documents;
+        // the chance is low and it is generally not a big problem.
 
-        for (SolrDocument document : documents) {
-            T entity = getEntityFromDocument(document);
-
-            // Entity will be null if document corresponds to entity in datastore
-            if (entity == null) {
-                // search engine out of sync as SearchManager may fail to delete documents
-                // the chance is low and it is generally not a big problem
-
-                // these lines below are commented out as they interfere with the dual db search,
-                // and cause unwanted deletions, please refer to the following PR for more details
-                // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
-
-                // String id = (String) document.getFirstValue("id");
-                // deleteDocuments(Collections.singletonList(id));
-                continue;
-            }
-            result.add(entity);
-        }
+        // Such documents are not deleted here as it would interfere with the dual db search,
+        // and cause unwanted deletions, please refer to the following PR for more details
+        // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
+        List<T> result = getEntitiesFromDocuments(documents);
         sortResult(result);
 
         return result;
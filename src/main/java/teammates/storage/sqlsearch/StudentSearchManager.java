@@ -11,9 +11,7 @@ import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 
 import teammates.common.exception.SearchServiceException;
-import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.UsersDb;
-import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
 
@@ -22,7 +20,6 @@ import teammates.storage.sqlentity.Student;
  */
 public class StudentSearchManager extends SearchManager<Student> {
 
-    private final CoursesDb coursesDb = CoursesDb.inst();
     private final UsersDb studentsDb = UsersDb.inst();
 
     public StudentSearchManager(String searchServiceHost, boolean isResetAllowed) {
@@ -36,15 +33,12 @@ public class StudentSearchManager extends SearchManager<Student> {
 
     @Override
     StudentSearchDocument createDocument(Student student) {
-        Course course = coursesDb.getCourse(student.getCourseId());
-        return new StudentSearchDocument(student, course);
+        return new StudentSearchDocument(student, student.getCourse());
     }
 
     @Override
-    Student getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<Student> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        return studentsDb.getStudentsForEmails(groupEmailsByCourseId(documents));
     }
 
     @Override
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Nullable;
+
 /**
  * The API output format for logs on all feedback sessions in a course.
  */
@@ -11,6 +13,9 @@ public class FeedbackSessionLogsData extends ApiOutput {
 
     private final List<FeedbackSessionLogData> feedbackSessionLogs;
 
+    @Nullable
+    private String nextCursor;
+
     // Remove generic types after migration is done (i.e. can just use FeedbackSession and Student, FeedbackSessionLog)
     public <S, T, U> FeedbackSessionLogsData(Map<String, List<U>> groupedEntries,
             Map<String, S> studentsMap, Map<String, T> sessionsMap) {
@@ -26,4 +31,12 @@ public class FeedbackSessionLogsData extends ApiOutput {
     public List<FeedbackSessionLogData> getFeedbackSessionLogs() {
         return feedbackSessionLogs;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
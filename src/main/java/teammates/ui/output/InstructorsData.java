@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Nullable;
+
 import teammates.storage.sqlentity.Instructor;
 
 /**
@@ -13,6 +15,9 @@ public class InstructorsData extends ApiOutput {
 
     private List<InstructorData> instructors;
 
+    @Nullable
+    private String nextCursor;
+
     public InstructorsData() {
         this.instructors = new ArrayList<>();
     }
@@ -28,4 +33,12 @@ public class InstructorsData extends ApiOutput {
     public void setInstructors(List<InstructorData> instructors) {
         this.instructors = instructors;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
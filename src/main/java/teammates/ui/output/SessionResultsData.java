@@ -8,9 +8,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import jakarta.annotation.Nullable;
 
+import com.google.common.collect.Lists;
+
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
@@ -39,10 +42,15 @@ public class SessionResultsData extends ApiOutput {
 
     private static final String REGEX_ANONYMOUS_PARTICIPANT_HASH = "[0-9]{1,10}";
 
-    final List<QuestionOutput> questions = new ArrayList<>();
+    final List<QuestionOutput> questions;
 
     SessionResultsData() {
         // use factory method instead
+        this.questions = new ArrayList<>();
+    }
+
+    private SessionResultsData(List<QuestionOutput> questions) {
+        this.questions = questions;
     }
 
     /**
@@ -83,21 +91,43 @@ public class SessionResultsData extends ApiOutput {
                 bundle.getQuestionResponseMap();
 
         questionsWithResponses.forEach((question, responses) -> {
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
-            // put normal responses
-            List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
-            qnOutput.allResponses.addAll(allResponses);
+            sessionResultsData.questions.add(buildQuestionOutputForInstructor(question, responses, bundle));
+        });
 
-            // put missing responses
-            List<FeedbackResponse> missingResponses = bundle.getQuestionMissingResponseMap().get(question);
-            qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
+        return sessionResultsData;
+    }
 
-            sessionResultsData.questions.add(qnOutput);
+    /**
+     * Factory method to construct API output for instructor, where the output of each question
+     * is only built when it is accessed, e.g. when it is being serialized.
+     *
+     * <p>This allows the output of a large session to be written out question by question
+     * without holding the output of all questions in memory at once.
+     */
+    public static SessionResultsData initLazilyForInstructor(SqlSessionResultsBundle bundle) {
+        List<Supplier<QuestionOutput>> questionOutputSuppliers = new ArrayList<>();
+
+        bundle.getQuestionResponseMap().forEach((question, responses) -> {
+            questionOutputSuppliers.add(() -> buildQuestionOutputForInstructor(question, responses, bundle));
         });
 
-        return sessionResultsData;
+        return new SessionResultsData(Lists.transform(questionOutputSuppliers, Supplier::get));
+    }
+
+    private static QuestionOutput buildQuestionOutputForInstructor(
+            FeedbackQuestion question, List<FeedbackResponse> responses, SqlSessionResultsBundle bundle) {
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+        QuestionOutput qnOutput = new QuestionOutput(question,
+                questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
+        // put normal responses
+        List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
+        qnOutput.allResponses.addAll(allResponses);
+
+        // put missing responses
+        List<FeedbackResponse> missingResponses = bundle.getQuestionMissingResponseMap().get(question);
+        qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
+
+        return qnOutput;
     }
 
     /**
@@ -176,60 +206,85 @@ public class SessionResultsData extends ApiOutput {
                 bundle.getQuestionResponseMap();
 
         questionsWithResponses.forEach((question, responses) -> {
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            // check if question has comments (on any responses) not visible for preview
-            boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreviewSet()
-                    .contains(question);
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
-                    false, hasCommentNotVisibleForPreview);
-            Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
+            sessionResultsData.questions.add(buildQuestionOutputForStudent(question, responses, bundle, student));
+        });
 
-            qnOutput.getFeedbackQuestion().hideInformationForStudent();
+        Set<FeedbackQuestion> questionsWithResponsesNotVisibleForPreview =
+                bundle.getQuestionsNotVisibleForPreviewSet();
+        questionsWithResponsesNotVisibleForPreview.forEach(question -> {
+            QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
+            sessionResultsData.questions.add(qnOutput);
+        });
 
-            if (questionDetails.isIndividualResponsesShownToStudents()) {
-                for (FeedbackResponse response : responses) {
-                    boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeamName());
+        return sessionResultsData;
+    }
 
-                    boolean isUserGiver = student.getEmail().equals(response.getGiver())
-                            && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
-                    boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
-                            && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
-                    ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
+    /**
+     * Factory method to construct API output for student, where the output of each question
+     * is only built when it is accessed, e.g. when it is being serialized.
+     *
+     * @see #initLazilyForInstructor(SqlSessionResultsBundle)
+     */
+    public static SessionResultsData initLazilyForStudent(SqlSessionResultsBundle bundle, Student student) {
+        List<Supplier<QuestionOutput>> questionOutputSuppliers = new ArrayList<>();
 
-                    if (isUserRecipient) {
-                        qnOutput.responsesToSelf.add(responseOutput);
-                    }
+        bundle.getQuestionResponseMap().forEach((question, responses) -> {
+            questionOutputSuppliers.add(() -> buildQuestionOutputForStudent(question, responses, bundle, student));
+        });
 
-                    if (isUserGiver) {
-                        qnOutput.responsesFromSelf.add(responseOutput);
-                    }
+        bundle.getQuestionsNotVisibleForPreviewSet().forEach(question -> {
+            questionOutputSuppliers.add(() -> new QuestionOutput(question, "", true, false));
+        });
 
-                    if (!isUserRecipient && !isUserGiver) {
-                        // we don't need care about the keys of the map here
-                        // as only the values of the map will be used
-                        otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
-                                .add(responseOutput);
-                    }
+        return new SessionResultsData(Lists.transform(questionOutputSuppliers, Supplier::get));
+    }
 
-                    qnOutput.allResponses.add(responseOutput);
+    private static QuestionOutput buildQuestionOutputForStudent(FeedbackQuestion question,
+            List<FeedbackResponse> responses, SqlSessionResultsBundle bundle, Student student) {
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+        // check if question has comments (on any responses) not visible for preview
+        boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreviewSet()
+                .contains(question);
+        QuestionOutput qnOutput = new QuestionOutput(question,
+                questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
+                false, hasCommentNotVisibleForPreview);
+        Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
+
+        qnOutput.getFeedbackQuestion().hideInformationForStudent();
+
+        if (questionDetails.isIndividualResponsesShownToStudents()) {
+            for (FeedbackResponse response : responses) {
+                boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeamName());
+
+                boolean isUserGiver = student.getEmail().equals(response.getGiver())
+                        && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
+                boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
+                        && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
+                ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
+
+                if (isUserRecipient) {
+                    qnOutput.responsesToSelf.add(responseOutput);
                 }
-            }
-            qnOutput.otherResponses.addAll(otherResponsesMap.values());
 
-            sessionResultsData.questions.add(qnOutput);
-        });
+                if (isUserGiver) {
+                    qnOutput.responsesFromSelf.add(responseOutput);
+                }
 
-        Set<FeedbackQuestion> questionsWithResponsesNotVisibleForPreview =
-                bundle.getQuestionsNotVisibleForPreviewSet();
-        questionsWithResponsesNotVisibleForPreview.forEach(question -> {
-            QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
-            sessionResultsData.questions.add(qnOutput);
-        });
+                if (!isUserRecipient && !isUserGiver) {
+                    // we don't need care about the keys of the map here
+                    // as only the values of the map will be used
+                    otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
+                            .add(responseOutput);
+                }
 
-        return sessionResultsData;
+                qnOutput.allResponses.add(responseOutput);
+            }
+        }
+        qnOutput.otherResponses.addAll(otherResponsesMap.values());
+
+        return qnOutput;
     }
 
     private static ResponseOutput buildSingleResponseForStudent(
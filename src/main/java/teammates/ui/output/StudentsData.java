@@ -4,6 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Nullable;
+
+import com.google.common.collect.Lists;
+
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -13,6 +17,9 @@ public class StudentsData extends ApiOutput {
 
     private List<StudentData> students;
 
+    @Nullable
+    private String nextCursor;
+
     public StudentsData() {
         this.students = new ArrayList<>();
     }
@@ -21,6 +28,16 @@ public class StudentsData extends ApiOutput {
         this.students = students.stream().map(StudentData::new).collect(Collectors.toList());
     }
 
+    /**
+     * Creates StudentsData from a list of Student, where the output of each student
+     * is only built when it is accessed, e.g. when it is being serialized.
+     */
+    public static StudentsData createLazily(List<Student> students) {
+        StudentsData studentsData = new StudentsData();
+        studentsData.students = Lists.transform(students, StudentData::new);
+        return studentsData;
+    }
+
     public List<StudentData> getStudents() {
         return students;
     }
@@ -28,4 +45,12 @@ public class StudentsData extends ApiOutput {
     public void setStudents(List<StudentData> students) {
         this.students = students;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
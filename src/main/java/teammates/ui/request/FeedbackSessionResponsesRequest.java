@@ -0,0 +1,32 @@
+package teammates.ui.request;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The request of submitting the feedback responses to multiple questions of a feedback session.
+ */
+public class FeedbackSessionResponsesRequest extends BasicRequest {
+
+    // Maps the ID of each feedback question to the responses submitted to it
+    private Map<String, FeedbackResponsesRequest> questionResponses = new LinkedHashMap<>();
+
+    public Map<String, FeedbackResponsesRequest> getQuestionResponses() {
+        return questionResponses;
+    }
+
+    public void setQuestionResponses(Map<String, FeedbackResponsesRequest> questionResponses) {
+        this.questionResponses = questionResponses;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(questionResponses != null && !questionResponses.isEmpty(),
+                "Responses to at least one question must be submitted");
+        for (FeedbackResponsesRequest responsesRequest : questionResponses.values()) {
+            assertTrue(responsesRequest != null, "Responses to a question cannot be null");
+            responsesRequest.validate();
+        }
+    }
+
+}
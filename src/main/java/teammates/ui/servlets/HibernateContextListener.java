@@ -5,12 +5,15 @@ import jakarta.servlet.ServletContextListener;
 
 import teammates.common.util.Config;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.Logger;
 
 /**
  * Setup in web.xml to set up Hibernate Session Factory at application startup.
  */
 public class HibernateContextListener implements ServletContextListener {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
@@ -19,6 +22,9 @@ public class HibernateContextListener implements ServletContextListener {
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        HibernateUtil.getSecondLevelCacheStatistics().forEach((regionName, statistics) -> {
+            log.info(String.format("Second-level cache region %s: %d hits, %d misses, %d puts",
+                    regionName, statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount()));
+        });
     }
 }
@@ -0,0 +1,55 @@
+package teammates.ui.servlets;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+
+import com.googlecode.objectify.ObjectifyService;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.common.util.MigrationStatusCache;
+import teammates.logic.api.Logic;
+
+/**
+ * Setup in web.xml to load the IDs of migrated courses and accounts into {@link MigrationStatusCache}
+ * at application startup.
+ *
+ * <p>This is only done if enabled in the build properties; otherwise the cache is populated lazily.
+ */
+public class MigrationStatusPreloader implements ServletContextListener {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        if (!Config.MIGRATION_STATUS_PRELOAD) {
+            return;
+        }
+
+        Logic logic = Logic.inst();
+        try (Closeable ignored = ObjectifyService.begin()) {
+            List<String> courseIds = logic.getMigratedCourseIds();
+            MigrationStatusCache.markCoursesMigrated(courseIds);
+
+            List<String> googleIds = logic.getMigratedAccountGoogleIds();
+            MigrationStatusCache.markAccountsMigrated(googleIds);
+
+            log.info(String.format("Preloaded migration status of %d courses and %d accounts",
+                    courseIds.size(), googleIds.size()));
+        } catch (IOException | RuntimeException e) {
+            // the cache will still be populated lazily
+            log.severe("Failed to preload migration status", e);
+        }
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        // Nothing to do
+    }
+
+}
@@ -63,13 +63,15 @@ public class WebApiServlet extends HttpServlet {
             ActionResult result;
 
             if (action.isTransactionNeeded()) {
-                result = executeWithTransaction(action, req);
+                result = executeWithTransaction(action, req, resp);
             } else {
                 result = executeWithoutTransaction(action, req);
             }
 
             statusCode = result.getStatusCode();
-            result.send(resp);
+            if (!action.isTransactionNeeded() || !result.isSentWithinTransaction()) {
+                result.send(resp);
+            }
         } catch (ActionMappingException e) {
             statusCode = e.getStatusCode();
             throwErrorBasedOnRequester(req, resp, e, statusCode);
@@ -118,14 +120,17 @@ public class WebApiServlet extends HttpServlet {
         }
     }
 
-    private ActionResult executeWithTransaction(Action action, HttpServletRequest req)
-            throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException {
+    private ActionResult executeWithTransaction(Action action, HttpServletRequest req, HttpServletResponse resp)
+            throws InvalidOperationException, InvalidHttpRequestBodyException, UnauthorizedAccessException, IOException {
         try {
             HibernateUtil.beginTransaction();
             action.init(req);
             action.checkAccessControl();
 
             ActionResult result = action.execute();
+            if (result.isSentWithinTransaction()) {
+                result.send(resp);
+            }
             HibernateUtil.commitTransaction();
             return result;
         } catch (Exception e) {
@@ -163,6 +168,10 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        if (resp.isCommitted()) {
+            // part of a streamed result has already been sent; the error can only be logged
+            return;
+        }
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
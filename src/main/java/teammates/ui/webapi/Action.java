@@ -1,6 +1,7 @@
 package teammates.ui.webapi;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +16,12 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.util.BackgroundReader;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.MigrationStatusCache;
 import teammates.common.util.StringHelper;
 import teammates.logic.api.AuthProxy;
 import teammates.logic.api.EmailGenerator;
@@ -32,6 +35,7 @@ import teammates.sqllogic.api.SqlEmailGenerator;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.ui.output.ApiOutput;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 
@@ -53,6 +57,7 @@ public abstract class Action {
     RecaptchaVerifier recaptchaVerifier = RecaptchaVerifier.inst();
     LogsProcessor logsProcessor = LogsProcessor.inst();
     AuthProxy authProxy = AuthProxy.inst();
+    BackgroundReader backgroundReader = BackgroundReader.inst();
 
     HttpServletRequest req;
     UserInfo userInfo;
@@ -128,8 +133,14 @@ public abstract class Action {
      * Returns true if course has been migrated or does not exist in the datastore.
      */
     protected boolean isCourseMigrated(String courseId) {
+        if (isCourseMigrated == null && MigrationStatusCache.isCourseMigrated(courseId)) {
+            isCourseMigrated = true;
+        }
         if (isCourseMigrated == null) {
             CourseAttributes course = logic.getCourse(courseId);
+            if (course != null && course.isMigrated()) {
+                MigrationStatusCache.markCoursesMigrated(List.of(courseId));
+            }
             isCourseMigrated = course == null || course.isMigrated();
         }
         return isCourseMigrated;
@@ -139,8 +150,14 @@ public abstract class Action {
      * Returns true if course has been migrated or does not exist in the datastore.
      */
     protected boolean isAccountMigrated(String googleId) {
+        if (isAccountMigrated == null && MigrationStatusCache.isAccountMigrated(googleId)) {
+            isAccountMigrated = true;
+        }
         if (isAccountMigrated == null) {
             AccountAttributes account = logic.getAccount(googleId);
+            if (account != null && account.isMigrated()) {
+                MigrationStatusCache.markAccountsMigrated(List.of(googleId));
+            }
             isAccountMigrated = account == null || account.isMigrated();
         }
         return isAccountMigrated;
@@ -296,6 +313,51 @@ public abstract class Action {
         }
     }
 
+    /**
+     * Returns the page size requested through the {@code limit} parameter of a paginated listing,
+     * or 0 if the whole list is requested instead.
+     */
+    int getPageSizeRequestParamValue() {
+        String value = getRequestParamValue(Const.ParamsNames.LIMIT);
+        if (value == null) {
+            return 0;
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidHttpParameterException(
+                    "Expected integer value for " + Const.ParamsNames.LIMIT + " parameter, but found: [" + value + "]", e);
+        }
+        if (pageSize < 1 || pageSize > Const.PAGE_SIZE_LIMIT) {
+            throw new InvalidHttpParameterException(
+                    "The page size must be between 1 and " + Const.PAGE_SIZE_LIMIT + ", but found: [" + value + "]");
+        }
+        return pageSize;
+    }
+
+    /**
+     * Returns the sort keys held by the {@code cursor} parameter of a paginated listing,
+     * or null if the first page is requested.
+     *
+     * @see PageCursor
+     */
+    String[] getCursorRequestParamValue(int numberOfKeys) {
+        String value = getRequestParamValue(Const.ParamsNames.CURSOR);
+        return value == null ? null : PageCursor.decode(value, numberOfKeys);
+    }
+
+    /**
+     * Returns a result which writes the output to the client incrementally.
+     *
+     * @see StreamingJsonResult
+     */
+    StreamingJsonResult createStreamingJsonResult(ApiOutput output) {
+        String acceptEncoding = req.getHeader(Const.HeaderNames.ACCEPT_ENCODING);
+        boolean isGzipAccepted = acceptEncoding != null && acceptEncoding.contains("gzip");
+        return new StreamingJsonResult(output, isGzipAccepted);
+    }
+
     /**
      * Returns the request body payload.
      */
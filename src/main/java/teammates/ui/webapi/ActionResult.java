@@ -20,6 +20,16 @@ public abstract class ActionResult {
      */
     public abstract void send(HttpServletResponse resp) throws IOException;
 
+    /**
+     * Returns true if the result has to be sent before the transaction of the request is committed.
+     *
+     * <p>This is the case when the content of the result is only produced while it is being sent,
+     * as producing it may still require access to the database.
+     */
+    public boolean isSentWithinTransaction() {
+        return false;
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
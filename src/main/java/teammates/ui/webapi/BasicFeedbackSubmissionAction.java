@@ -1,26 +1,45 @@
 package teammates.ui.webapi;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.Nullable;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.User;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.InvalidHttpRequestBodyException;
 
 /**
  * The basic action for feedback submission.
  */
 abstract class BasicFeedbackSubmissionAction extends Action {
 
+    private static final Logger log = Logger.getLogger();
+
     /**
      * Checks whether instructors can see the question.
      */
@@ -424,10 +443,21 @@ abstract class BasicFeedbackSubmissionAction extends Action {
     /**
      * Gets the section of a recipient.
      */
-    @SuppressWarnings("PMD.ImplicitSwitchFallThrough") // false positive
     Section getRecipientSection(
             String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
             String recipientIdentifier) {
+        return getRecipientSection(courseId, giverType, recipientType, recipientIdentifier, null);
+    }
+
+    /**
+     * Gets the section of a recipient.
+     *
+     * <p>If {@code courseRoster} is given, students and teams are looked up in it instead of the database.
+     */
+    @SuppressWarnings("PMD.ImplicitSwitchFallThrough") // false positive
+    Section getRecipientSection(
+            String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
+            String recipientIdentifier, @Nullable SqlCourseRoster courseRoster) {
 
         switch (recipientType) {
         case SELF:
@@ -437,12 +467,10 @@ abstract class BasicFeedbackSubmissionAction extends Action {
                 return sqlLogic.getDefaultSectionOrCreate(courseId);
             case TEAMS:
             case TEAMS_IN_SAME_SECTION:
-                Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-                return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
+                return getSectionOfTeam(courseId, recipientIdentifier, courseRoster);
             case STUDENTS:
             case STUDENTS_IN_SAME_SECTION:
-                Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
+                return getSectionOfStudent(courseId, recipientIdentifier, courseRoster);
             default:
                 assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
                 return null;
@@ -454,21 +482,196 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
         case OWN_TEAM:
-            Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-            return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
+            return getSectionOfTeam(courseId, recipientIdentifier, courseRoster);
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
+            return getSectionOfStudent(courseId, recipientIdentifier, courseRoster);
         default:
             assert false : "Unknown recipient type " + recipientType;
             return null;
         }
     }
 
+    private Section getSectionOfTeam(String courseId, String teamName, @Nullable SqlCourseRoster courseRoster) {
+        Section section;
+        if (courseRoster == null) {
+            section = sqlLogic.getSectionByCourseIdAndTeam(courseId, teamName);
+        } else {
+            List<Student> teamMembers = courseRoster.getTeamToMembersTable().get(teamName);
+            section = teamMembers == null || teamMembers.isEmpty() ? null : teamMembers.get(0).getSection();
+        }
+        return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
+    }
+
+    private Section getSectionOfStudent(String courseId, String studentEmail, @Nullable SqlCourseRoster courseRoster) {
+        Student student = courseRoster == null
+                ? sqlLogic.getStudentForEmail(courseId, studentEmail)
+                : courseRoster.getStudentForEmail(studentEmail);
+        return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
+    }
+
+    /**
+     * Validates the responses submitted by a student or an instructor to a feedback question, and works out
+     * the responses to delete, add and update so that the submitted responses completely overwrite
+     * the giver's existing responses to the question.
+     *
+     * <p>Nothing is persisted by this method; see {@link #saveFeedbackResponsesChanges(List)}.
+     *
+     * @param student the giver if the submission is made by a student, otherwise null
+     * @param instructor the giver if the submission is made by an instructor, otherwise null
+     * @param courseRoster if given, used to look up the recipients of the question and their sections
+     */
+    FeedbackResponsesChange prepareFeedbackResponsesChange(
+            FeedbackQuestion feedbackQuestion, @Nullable Student student, @Nullable Instructor instructor,
+            FeedbackResponsesRequest submitRequest, @Nullable SqlCourseRoster courseRoster)
+            throws InvalidHttpRequestBodyException, InvalidOperationException {
+        assert student != null || instructor != null;
+
+        String courseId = feedbackQuestion.getCourseId();
+        List<FeedbackResponse> existingResponses;
+        Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion;
+        String giverIdentifier;
+        Section giverSection;
+        if (student != null) {
+            giverIdentifier =
+                    feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
+                            ? student.getTeamName() : student.getEmail();
+            giverSection = student.getSection();
+            existingResponses = sqlLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(feedbackQuestion, student);
+            recipientsOfTheQuestion = courseRoster == null
+                    ? sqlLogic.getRecipientsOfQuestion(feedbackQuestion, null, student)
+                    : sqlLogic.getRecipientsOfQuestion(feedbackQuestion, null, student, courseRoster);
+            sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    courseId, student.getEmail(), student.getTeamName());
+        } else {
+            giverIdentifier = instructor.getEmail();
+            giverSection = sqlLogic.getDefaultSectionOrCreate(courseId);
+            existingResponses = sqlLogic.getFeedbackResponsesFromInstructorForQuestion(feedbackQuestion, instructor);
+            recipientsOfTheQuestion = courseRoster == null
+                    ? sqlLogic.getRecipientsOfQuestion(feedbackQuestion, instructor, null)
+                    : sqlLogic.getRecipientsOfQuestion(feedbackQuestion, instructor, null, courseRoster);
+            sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
+                    courseId, instructor.getEmail(), null);
+        }
+
+        Map<String, FeedbackResponse> existingResponsesPerRecipient = new HashMap<>();
+        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
+
+        for (String recipient : submitRequest.getRecipients()) {
+            if (!recipientsOfTheQuestion.containsKey(recipient)) {
+                throw new InvalidOperationException(
+                        "The recipient " + recipient + " is not a valid recipient of the question");
+            }
+        }
+
+        FeedbackResponsesChange change = new FeedbackResponsesChange();
+        List<FeedbackResponse> feedbackResponsesToValidate = new ArrayList<>();
+
+        submitRequest.getResponses().forEach(responseRequest -> {
+            String recipient = responseRequest.getRecipient();
+            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
+            Section recipientSection = getRecipientSection(courseId, feedbackQuestion.getGiverType(),
+                    feedbackQuestion.getRecipientType(), recipient, courseRoster);
+
+            if (existingResponsesPerRecipient.containsKey(recipient)) {
+                FeedbackResponse existingFeedbackResponse = existingResponsesPerRecipient.get(recipient);
+                FeedbackResponse updatedFeedbackResponse = FeedbackResponse.updateResponse(
+                        existingFeedbackResponse,
+                        feedbackQuestion,
+                        giverIdentifier,
+                        giverSection,
+                        recipient,
+                        recipientSection,
+                        responseDetails);
+
+                feedbackResponsesToValidate.add(updatedFeedbackResponse);
+                change.responsesToUpdate.add(updatedFeedbackResponse);
+            } else {
+                FeedbackResponse feedbackResponse = FeedbackResponse.makeResponse(
+                        feedbackQuestion,
+                        giverIdentifier,
+                        giverSection,
+                        recipient,
+                        recipientSection,
+                        responseDetails);
+
+                feedbackResponsesToValidate.add(feedbackResponse);
+                change.responsesToAdd.add(feedbackResponse);
+            }
+        });
+
+        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
+                .map(FeedbackResponse::getFeedbackResponseDetailsCopy)
+                .collect(Collectors.toList());
+
+        int numRecipients = feedbackQuestion.getNumOfEntitiesToGiveFeedbackTo();
+        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
+                || numRecipients > recipientsOfTheQuestion.size()) {
+            numRecipients = recipientsOfTheQuestion.size();
+        }
+
+        List<String> questionSpecificErrors =
+                feedbackQuestion.getQuestionDetailsCopy()
+                        .validateResponsesDetails(responseDetails, numRecipients);
+
+        if (!questionSpecificErrors.isEmpty()) {
+            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
+        }
+
+        List<String> recipients = submitRequest.getRecipients();
+        existingResponsesPerRecipient.entrySet().stream()
+                .filter(entry -> !recipients.contains(entry.getKey()))
+                .map(entry -> entry.getValue())
+                .forEach(change.responsesToDelete::add);
+
+        return change;
+    }
+
+    /**
+     * Persists the given changes to feedback responses.
+     *
+     * <p>The responses to delete of all changes are deleted first, followed by the responses to add
+     * and then the responses to update, so that writes of the same kind can be batched together.
+     *
+     * @return the added and updated responses
+     */
+    List<FeedbackResponse> saveFeedbackResponsesChanges(List<FeedbackResponsesChange> changes) {
+        for (FeedbackResponsesChange change : changes) {
+            for (FeedbackResponse feedbackResponse : change.responsesToDelete) {
+                sqlLogic.deleteFeedbackResponsesAndCommentsCascade(feedbackResponse);
+            }
+        }
+
+        List<FeedbackResponse> output = new ArrayList<>();
+
+        for (FeedbackResponsesChange change : changes) {
+            for (FeedbackResponse feedbackResponse : change.responsesToAdd) {
+                try {
+                    output.add(sqlLogic.createFeedbackResponse(feedbackResponse));
+                } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+                    // None of the exceptions should be happening as the responses have been pre-validated
+                    log.severe("Encountered exception when creating response: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        for (FeedbackResponsesChange change : changes) {
+            for (FeedbackResponse feedbackResponse : change.responsesToUpdate) {
+                try {
+                    output.add(sqlLogic.updateFeedbackResponseCascade(feedbackResponse));
+                } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                    // None of the exceptions should be happening as the responses have been pre-validated
+                    log.severe("Encountered exception when updating response: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        return output;
+    }
+
     /**
      * Gets the section of a recipient.
      */
@@ -514,4 +717,17 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         }
     }
 
+    /**
+     * The responses to delete, add and update when overwriting the responses of a giver to a feedback question.
+     */
+    static final class FeedbackResponsesChange {
+        private final List<FeedbackResponse> responsesToDelete = new ArrayList<>();
+        private final List<FeedbackResponse> responsesToAdd = new ArrayList<>();
+        private final List<FeedbackResponse> responsesToUpdate = new ArrayList<>();
+
+        int getNumberOfResponses() {
+            return responsesToAdd.size() + responsesToUpdate.size();
+        }
+    }
+
 }
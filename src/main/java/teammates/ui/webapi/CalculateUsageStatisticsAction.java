@@ -13,17 +13,44 @@ import teammates.storage.sqlentity.UsageStatistics;
 
 /**
  * Gathers usage-related statistics (e.g. new created entities) in the past defined time period and store in the database.'
+ *
+ * <p>The stored statistics also serve as the checkpoint of the collection: each run gathers the statistics of
+ * the time periods after the latest stored one, so that periods missed by earlier runs are caught up and
+ * no period is gathered twice.
  */
 public class CalculateUsageStatisticsAction extends AdminOnlyAction {
 
     static final int COLLECTION_TIME_PERIOD = 60; // represents one hour
+    static final int MAX_COLLECTION_PERIODS_PER_RUN = 24; // periods beyond this are left to the next runs
     private static final Logger log = Logger.getLogger();
 
     @Override
     public JsonResult execute() {
-        Instant endTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
-        Instant startTime = endTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
+        Instant latestEndTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
+        Instant startTime = getCollectionStartTime(latestEndTime);
 
+        for (int i = 0; i < MAX_COLLECTION_PERIODS_PER_RUN && startTime.isBefore(latestEndTime); i++) {
+            Instant endTime = startTime.plus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
+            calculateUsageStatistics(startTime, endTime);
+            startTime = endTime;
+        }
+
+        return new JsonResult("Successful");
+    }
+
+    /**
+     * Gets the start time of the first time period which has not been gathered,
+     * or of the latest period if no statistics have been gathered before.
+     */
+    private Instant getCollectionStartTime(Instant latestEndTime) {
+        UsageStatistics latestUsageStats = sqlLogic.getLatestUsageStatistics();
+        if (latestUsageStats == null) {
+            return latestEndTime.minus(COLLECTION_TIME_PERIOD, ChronoUnit.MINUTES);
+        }
+        return latestUsageStats.getStartTime().plus(latestUsageStats.getTimePeriod(), ChronoUnit.MINUTES);
+    }
+
+    private void calculateUsageStatistics(Instant startTime, Instant endTime) {
         UsageStatisticsAttributes entitiesStats = logic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
         UsageStatistics sqlEntitiesStats = sqlLogic.calculateEntitiesStatisticsForTimeRange(startTime, endTime);
 
@@ -45,8 +72,6 @@ public class CalculateUsageStatisticsAction extends AdminOnlyAction {
         } catch (InvalidParametersException | EntityAlreadyExistsException e) {
             log.severe("Unexpected error", e);
         }
-
-        return new JsonResult("Successful");
     }
 
 }
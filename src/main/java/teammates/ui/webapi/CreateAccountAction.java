@@ -6,6 +6,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.http.HttpStatus;
 
@@ -172,13 +173,10 @@ public class CreateAccountAction extends Action {
         List<StudentAttributes> students = logic.getStudentsForCourse(courseId);
         List<InstructorAttributes> instructors = logic.getInstructorsForCourse(courseId);
 
-        for (StudentAttributes student : students) {
-            taskQueuer.scheduleStudentForSearchIndexing(student.getCourse(), student.getEmail());
-        }
-
-        for (InstructorAttributes instructor : instructors) {
-            taskQueuer.scheduleInstructorForSearchIndexing(instructor.getCourseId(), instructor.getEmail());
-        }
+        taskQueuer.scheduleStudentsForSearchIndexing(courseId,
+                students.stream().map(StudentAttributes::getEmail).collect(Collectors.toList()));
+        taskQueuer.scheduleInstructorsForSearchIndexing(courseId,
+                instructors.stream().map(InstructorAttributes::getEmail).collect(Collectors.toList()));
 
         return courseId;
     }
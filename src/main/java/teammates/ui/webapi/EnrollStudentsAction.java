@@ -1,8 +1,11 @@
 package teammates.ui.webapi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -11,7 +14,9 @@ import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
@@ -86,26 +91,30 @@ public class EnrollStudentsAction extends Action {
 
             List<Student> enrolledStudents = new ArrayList<>();
             List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
-            Set<String> existingStudentsEmail;
+            Map<String, Student> existingStudentsByEmail;
 
             List<Student> existingStudents = sqlLogic.getStudentsForCourse(courseId);
-            existingStudentsEmail =
-                    existingStudents.stream().map(Student::getEmail).collect(Collectors.toSet());
+            existingStudentsByEmail =
+                    existingStudents.stream().collect(Collectors.toMap(Student::getEmail, Function.identity()));
+
+            // Sections and teams are looked up once per enrollment so that no query is issued
+            // between the insertions of new students, allowing them to be written in JDBC batches.
+            HibernateUtil.setJdbcBatchSize(Config.POSTGRES_BULK_BATCH_SIZE);
+            Map<String, Section> sections = new HashMap<>();
+            Map<String, Map<String, Team>> teams = new HashMap<>();
 
             for (StudentsEnrollRequest.StudentEnrollRequest enrollRequest : studentEnrollRequests) {
                 RequestTracer.checkRemainingTime();
-                if (existingStudentsEmail.contains(enrollRequest.getEmail())) {
+                if (existingStudentsByEmail.containsKey(enrollRequest.getEmail())) {
                     // The student has been enrolled in the course.
                     try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
+                        Section section = getSectionOrCreate(sections, courseId, enrollRequest.getSection());
+                        Team team = getTeamOrCreate(teams, section, enrollRequest.getTeam());
                         Student newStudent = new Student(
                                 course, enrollRequest.getName(),
                                 enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent.setId(sqlLogic.getStudentForEmail(courseId, enrollRequest.getEmail()).getId());
+                        newStudent.setId(existingStudentsByEmail.get(enrollRequest.getEmail()).getId());
                         Student updatedStudent = sqlLogic.updateStudentCascade(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourseId(), updatedStudent.getEmail());
                         enrolledStudents.add(updatedStudent);
                     } catch (InvalidParametersException | EntityDoesNotExistException
                             | EntityAlreadyExistsException exception) {
@@ -116,14 +125,12 @@ public class EnrollStudentsAction extends Action {
                 } else {
                     // The student is new.
                     try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
+                        Section section = getSectionOrCreate(sections, courseId, enrollRequest.getSection());
+                        Team team = getTeamOrCreate(teams, section, enrollRequest.getTeam());
                         Student newStudent = new Student(
                                 course, enrollRequest.getName(),
                                 enrollRequest.getEmail(), enrollRequest.getComments(), team);
                         newStudent = sqlLogic.createStudent(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                newStudent.getCourseId(), newStudent.getEmail());
                         enrolledStudents.add(newStudent);
                     } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
                         // Unsuccessfully enrolled students will not be returned.
@@ -133,6 +140,9 @@ public class EnrollStudentsAction extends Action {
                 }
             }
 
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId,
+                    enrolledStudents.stream().map(Student::getEmail).collect(Collectors.toList()));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
@@ -181,8 +191,6 @@ public class EnrollStudentsAction extends Action {
                                 .withComment(student.getComments())
                                 .build();
                         StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourse(), updatedStudent.getEmail());
                         enrolledStudents.add(updatedStudent);
                     } catch (InvalidParametersException | EntityDoesNotExistException
                             | EntityAlreadyExistsException exception) {
@@ -200,7 +208,6 @@ public class EnrollStudentsAction extends Action {
                                 .withComment(student.getComments())
                                 .build();
                         StudentAttributes newStudent = logic.createStudent(studentAttributes);
-                        taskQueuer.scheduleStudentForSearchIndexing(newStudent.getCourse(), newStudent.getEmail());
                         enrolledStudents.add(newStudent);
                     } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
                         // Unsuccessfully enrolled students will not be returned.
@@ -210,6 +217,9 @@ public class EnrollStudentsAction extends Action {
                 }
             }
 
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId,
+                    enrolledStudents.stream().map(StudentAttributes::getEmail).collect(Collectors.toList()));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
@@ -222,4 +232,13 @@ public class EnrollStudentsAction extends Action {
 
         }
     }
+
+    private Section getSectionOrCreate(Map<String, Section> sections, String courseId, String sectionName) {
+        return sections.computeIfAbsent(sectionName, name -> sqlLogic.getSectionOrCreate(courseId, name));
+    }
+
+    private Team getTeamOrCreate(Map<String, Map<String, Team>> teams, Section section, String teamName) {
+        return teams.computeIfAbsent(section.getName(), name -> new HashMap<>())
+                .computeIfAbsent(teamName, name -> sqlLogic.getTeamOrCreate(section, name));
+    }
 }
@@ -58,16 +58,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
             Instructor instructorToNotify = sqlLogic.getInstructorByGoogleId(courseId, instructorId);
 
-            List<Student> studentsToRemindList = studentList
-                    .stream()
-                    .filter(student -> !sqlLogic.isFeedbackSessionAttemptedByStudent(
-                            session, student.getEmail(), student.getTeamName()))
-                    .collect(Collectors.toList());
-
-            List<Instructor> instructorsToRemindList = instructorList
-                    .stream()
-                    .filter(instructor -> !sqlLogic.isFeedbackSessionAttemptedByInstructor(session, instructor.getEmail()))
-                    .collect(Collectors.toList());
+            // the givers who have responded are retrieved once for the whole course
+            List<Student> studentsToRemindList =
+                    sqlLogic.getStudentsYetToAttemptFeedbackSession(session, studentList);
+            List<Instructor> instructorsToRemindList =
+                    sqlLogic.getInstructorsYetToAttemptFeedbackSession(session, instructorList);
 
             List<EmailWrapper> emails = sqlEmailGenerator.generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
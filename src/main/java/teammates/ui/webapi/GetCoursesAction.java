@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.InstructorPermissionSet;
@@ -54,10 +55,12 @@ public class GetCoursesAction extends Action {
     }
 
     private JsonResult getStudentCourses() {
+        // the datastore is read in the background while Postgres is read in the current thread
+        Supplier<List<CourseAttributes>> coursesRead =
+                backgroundReader.start(() -> logic.getCoursesForStudentAccount(userInfo.id));
         List<Course> sqlCourses = sqlLogic.getCoursesForStudentAccount(userInfo.id);
 
-        List<CourseAttributes> courses = logic
-                .getCoursesForStudentAccount(userInfo.id)
+        List<CourseAttributes> courses = coursesRead.get()
                 .stream()
                 .filter(course -> !course.isMigrated())
                 .collect(Collectors.toList());
@@ -93,11 +96,17 @@ public class GetCoursesAction extends Action {
 
         switch (courseStatus) {
         case Const.CourseStatus.ACTIVE:
-            instructors = logic.getInstructorsForGoogleId(userInfo.id, true);
-            courses = getCourse(instructors);
-
+            // the datastore is read in the background while Postgres is read in the current thread
+            Supplier<List<InstructorAttributes>> instructorsRead =
+                    backgroundReader.start(() -> logic.getInstructorsForGoogleId(userInfo.id, true));
             sqlInstructors = sqlLogic.getInstructorsForGoogleId(userInfo.id);
+            List<InstructorAttributes> activeInstructors = instructorsRead.get();
+            instructors = activeInstructors;
+
+            Supplier<List<CourseAttributes>> coursesRead =
+                    backgroundReader.start(() -> getCourse(activeInstructors));
             sqlCourses = sqlLogic.getCoursesForInstructors(sqlInstructors);
+            courses = coursesRead.get();
 
             break;
         case Const.CourseStatus.ARCHIVED:
@@ -109,11 +118,17 @@ public class GetCoursesAction extends Action {
 
             break;
         case Const.CourseStatus.SOFT_DELETED:
-            instructors = logic.getInstructorsForGoogleId(userInfo.id);
-            courses = getSoftDeletedCourse(instructors);
-
+            // the datastore is read in the background while Postgres is read in the current thread
+            Supplier<List<InstructorAttributes>> allInstructorsRead =
+                    backgroundReader.start(() -> logic.getInstructorsForGoogleId(userInfo.id));
             sqlInstructors = sqlLogic.getInstructorsForGoogleId(userInfo.id);
+            List<InstructorAttributes> allInstructors = allInstructorsRead.get();
+            instructors = allInstructors;
+
+            Supplier<List<CourseAttributes>> softDeletedCoursesRead =
+                    backgroundReader.start(() -> getSoftDeletedCourse(allInstructors));
             sqlCourses = sqlLogic.getSoftDeletedCoursesForInstructors(sqlInstructors);
+            courses = softDeletedCoursesRead.get();
 
             break;
         default:
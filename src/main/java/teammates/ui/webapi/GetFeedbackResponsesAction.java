@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -184,8 +185,7 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        List<FeedbackResponseData> responsesData = new LinkedList<>();
-        responses.forEach(response -> {
+        List<FeedbackResponseData> responsesData = responses.stream().map(response -> {
             FeedbackResponseData data = new FeedbackResponseData(response);
             // Only MCQ and MSQ questions can have participant comment
             FeedbackResponseComment comment =
@@ -193,14 +193,14 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             if (comment != null) {
                 data.setGiverComment(new FeedbackResponseCommentData(comment));
             }
-            responsesData.add(data);
-        });
+            return data;
+        }).collect(Collectors.toList());
         FeedbackResponsesData result = new FeedbackResponsesData();
         if (!responsesData.isEmpty()) {
             result.setResponses(responsesData);
         }
 
-        return new JsonResult(result);
+        return createStreamingJsonResult(result);
     }
 
 }
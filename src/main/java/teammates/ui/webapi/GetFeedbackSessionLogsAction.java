@@ -1,6 +1,7 @@
 package teammates.ui.webapi;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -136,8 +137,31 @@ public class GetFeedbackSessionLogsAction extends Action {
                 throw new EntityNotFoundException("Feedback session not found");
             }
 
-            List<FeedbackSessionLog> fsLogEntries = sqlLogic.getOrderedFeedbackSessionLogs(courseId, studentId,
-                    feedbackSessionId, Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime));
+            int pageSize = getPageSizeRequestParamValue();
+            String nextCursor = null;
+            List<FeedbackSessionLog> fsLogEntries;
+            if (pageSize > 0) {
+                Instant afterTimestamp = null;
+                UUID afterId = null;
+                String[] cursor = getCursorRequestParamValue(2);
+                if (cursor != null) {
+                    afterTimestamp = getInstantFromCursor(cursor[0]);
+                    afterId = getUuidFromString(Const.ParamsNames.CURSOR, cursor[1]);
+                }
+                // one more log is fetched to find out whether there is a next page
+                fsLogEntries = sqlLogic.getOrderedFeedbackSessionLogsPage(courseId, studentId, feedbackSessionId,
+                        Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime), afterTimestamp, afterId,
+                        pageSize + 1);
+                if (fsLogEntries.size() > pageSize) {
+                    fsLogEntries = fsLogEntries.subList(0, pageSize);
+                    FeedbackSessionLog lastLogEntry = fsLogEntries.get(pageSize - 1);
+                    nextCursor = PageCursor.encode(
+                            lastLogEntry.getTimestamp().toString(), lastLogEntry.getId().toString());
+                }
+            } else {
+                fsLogEntries = sqlLogic.getOrderedFeedbackSessionLogs(courseId, studentId,
+                        feedbackSessionId, Instant.ofEpochMilli(startTime), Instant.ofEpochMilli(endTime));
+            }
             Map<String, Student> studentsMap = new HashMap<>();
             Map<String, FeedbackSession> sessionsMap = new HashMap<>();
             List<FeedbackSession> feedbackSessions = sqlLogic.getFeedbackSessionsForCourse(courseId);
@@ -167,6 +191,7 @@ public class GetFeedbackSessionLogsAction extends Action {
             feedbackSessions.forEach(fs -> groupedEntries.putIfAbsent(fs.getName(), new ArrayList<>()));
 
             FeedbackSessionLogsData fslData = new FeedbackSessionLogsData(groupedEntries, studentsMap, sessionsMap);
+            fslData.setNextCursor(nextCursor);
             return new JsonResult(fslData);
         } else {
             if (logic.getCourse(courseId) == null) {
@@ -220,6 +245,14 @@ public class GetFeedbackSessionLogsAction extends Action {
         }
     }
 
+    private Instant getInstantFromCursor(String timestamp) {
+        try {
+            return Instant.parse(timestamp);
+        } catch (DateTimeParseException e) {
+            throw new InvalidHttpParameterException("Invalid cursor: [" + timestamp + "]");
+        }
+    }
+
     private Map<String, List<FeedbackSessionLogEntry>> groupFeedbackSessionLogEntries(
             List<FeedbackSessionLogEntry> fsLogEntries) {
         Map<String, List<FeedbackSessionLogEntry>> groupedEntries = new LinkedHashMap<>();
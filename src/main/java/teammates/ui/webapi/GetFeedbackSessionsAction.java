@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.InstructorPermissionSet;
@@ -91,7 +92,14 @@ public class GetFeedbackSessionsAction extends Action {
 
         if (courseId == null) {
             if (Const.EntityType.STUDENT.equals(entityType)) {
+                // the datastore is read in the background while Postgres is read in the current thread
+                Supplier<List<StudentAttributes>> dataStoreStudentsRead =
+                        backgroundReader.start(() -> logic.getStudentsForGoogleId(userInfo.getId()));
                 List<Student> students = sqlLogic.getStudentsByGoogleId(userInfo.getId());
+                List<StudentAttributes> dataStoreStudents = dataStoreStudentsRead.get();
+
+                Supplier<List<FeedbackSessionAttributes>> dataStoreSessionsRead =
+                        backgroundReader.start(() -> getFeedbackSessionsForStudents(dataStoreStudents));
                 for (Student student : students) {
                     String studentCourseId = student.getCourse().getId();
                     String emailAddress = student.getEmail();
@@ -100,37 +108,30 @@ public class GetFeedbackSessionsAction extends Action {
                     List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsForCourse(studentCourseId);
                     feedbackSessions.addAll(sessions);
                 }
-                List<StudentAttributes> dataStoreStudents = logic.getStudentsForGoogleId(userInfo.getId());
                 for (StudentAttributes student : dataStoreStudents) {
-                    String studentCourseId = student.getCourse();
-                    String emailAddress = student.getEmail();
-
-                    studentEmails.add(emailAddress);
-                    List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForCourse(studentCourseId);
-                    sessions = sessions.stream()
-                            .map(session -> session.getCopyForStudent(emailAddress))
-                            .collect(Collectors.toList());
-
-                    feedbackSessionAttributes.addAll(sessions);
+                    studentEmails.add(student.getEmail());
                 }
+                feedbackSessionAttributes = dataStoreSessionsRead.get();
             } else if (Const.EntityType.INSTRUCTOR.equals(entityType)) {
                 boolean isInRecycleBin = getBooleanRequestParamValue(Const.ParamsNames.IS_IN_RECYCLE_BIN);
 
+                // the datastore is read in the background while Postgres is read in the current thread
+                Supplier<List<InstructorAttributes>> dataStoreInstructorsRead =
+                        backgroundReader.start(() -> logic.getInstructorsForGoogleId(userInfo.getId(), true));
                 instructors = sqlLogic.getInstructorsForGoogleId(userInfo.getId());
+                List<InstructorAttributes> activeDataStoreInstructors = dataStoreInstructorsRead.get();
+                dataStoreInstructors = activeDataStoreInstructors;
 
+                Supplier<List<FeedbackSessionAttributes>> dataStoreSessionsRead = backgroundReader.start(
+                        () -> isInRecycleBin
+                                ? logic.getSoftDeletedFeedbackSessionsListForInstructors(activeDataStoreInstructors)
+                                : logic.getFeedbackSessionsListForInstructor(activeDataStoreInstructors));
                 if (isInRecycleBin) {
                     feedbackSessions = sqlLogic.getSoftDeletedFeedbackSessionsForInstructors(instructors);
                 } else {
                     feedbackSessions = sqlLogic.getFeedbackSessionsForInstructors(instructors);
                 }
-
-                dataStoreInstructors = logic.getInstructorsForGoogleId(userInfo.getId(), true);
-
-                if (isInRecycleBin) {
-                    feedbackSessionAttributes = logic.getSoftDeletedFeedbackSessionsListForInstructors(dataStoreInstructors);
-                } else {
-                    feedbackSessionAttributes = logic.getFeedbackSessionsListForInstructor(dataStoreInstructors);
-                }
+                feedbackSessionAttributes = dataStoreSessionsRead.get();
             }
         } else {
             if (isCourseMigrated(courseId)) {
@@ -206,4 +207,16 @@ public class GetFeedbackSessionsAction extends Action {
         }
         return new JsonResult(responseData);
     }
+
+    private List<FeedbackSessionAttributes> getFeedbackSessionsForStudents(List<StudentAttributes> students) {
+        List<FeedbackSessionAttributes> feedbackSessions = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            String emailAddress = student.getEmail();
+            logic.getFeedbackSessionsForCourse(student.getCourse()).stream()
+                    .map(session -> session.getCopyForStudent(emailAddress))
+                    .forEach(feedbackSessions::add);
+        }
+        return feedbackSessions;
+    }
+
 }
@@ -138,7 +138,21 @@ public class GetInstructorsAction extends Action {
             return new JsonResult(data);
         }
 
-        List<Instructor> instructorsOfCourse = sqlLogic.getInstructorsByCourse(courseId);
+        int pageSize = getPageSizeRequestParamValue();
+        String nextCursor = null;
+        List<Instructor> instructorsOfCourse;
+        if (pageSize > 0) {
+            String[] cursor = getCursorRequestParamValue(1);
+            String afterEmail = cursor == null ? null : cursor[0];
+            // one more instructor is fetched to find out whether there is a next page
+            instructorsOfCourse = sqlLogic.getInstructorsPageForCourse(courseId, afterEmail, pageSize + 1);
+            if (instructorsOfCourse.size() > pageSize) {
+                instructorsOfCourse = instructorsOfCourse.subList(0, pageSize);
+                nextCursor = PageCursor.encode(instructorsOfCourse.get(pageSize - 1).getEmail());
+            }
+        } else {
+            instructorsOfCourse = sqlLogic.getInstructorsByCourse(courseId);
+        }
 
         if (intentStr == null) {
             instructorsOfCourse = instructorsOfCourse
@@ -175,6 +189,7 @@ public class GetInstructorsAction extends Action {
         } else {
             throw new InvalidHttpParameterException("unknown intent");
         }
+        data.setNextCursor(nextCursor);
 
         return new JsonResult(data);
     }
@@ -193,7 +193,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
             bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId, instructor.getEmail(),
                     questionUuid, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            return createStreamingJsonResult(SessionResultsData.initLazilyForInstructor(bundle));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getSqlInstructorOfCourseFromRequest(courseId);
@@ -205,7 +205,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             student = new Student(instructor.getCourse(), instructor.getName(), instructor.getEmail(), "");
             student.setTeam(new Team(null, Const.USER_TEAM_FOR_INSTRUCTOR));
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return createStreamingJsonResult(SessionResultsData.initLazilyForStudent(bundle, student));
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getSqlStudentOfCourseFromRequest(courseId);
@@ -213,7 +213,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             bundle = sqlLogic.getSessionResultsForUser(feedbackSession, courseId, student.getEmail(),
                     false, questionUuid, isPreviewResults);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return createStreamingJsonResult(SessionResultsData.initLazilyForStudent(bundle, student));
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
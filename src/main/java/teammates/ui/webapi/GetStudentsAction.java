@@ -70,17 +70,25 @@ public class GetStudentsAction extends Action {
             boolean hasSectionPrivilege = instructor != null
                     && !instructor.getSectionsWithPrivilege(privilegeName).isEmpty();
 
+            int pageSize = getPageSizeRequestParamValue();
+
             if (teamName == null && hasCoursePrivilege) {
                 // request to get all course students by instructor with course privilege
+                if (pageSize > 0) {
+                    return createStreamingJsonResult(getStudentsPage(courseId, pageSize, null));
+                }
                 List<Student> studentsForCourse = sqlLogic.getStudentsForCourse(courseId);
 
-                return new JsonResult(new StudentsData(studentsForCourse));
+                return createStreamingJsonResult(StudentsData.createLazily(studentsForCourse));
             } else if (teamName == null && hasSectionPrivilege) {
                 // request to get students by instructor with section privilege
-                List<Student> studentsForCourse = sqlLogic.getStudentsForCourse(courseId);
-                List<Student> studentsToReturn = new LinkedList<>();
                 Set<String> sectionsWithViewPrivileges = instructor
                         .getSectionsWithPrivilege(privilegeName).keySet();
+                if (pageSize > 0) {
+                    return createStreamingJsonResult(getStudentsPage(courseId, pageSize, sectionsWithViewPrivileges));
+                }
+                List<Student> studentsForCourse = sqlLogic.getStudentsForCourse(courseId);
+                List<Student> studentsToReturn = new LinkedList<>();
 
                 studentsForCourse.forEach(student -> {
                     if (sectionsWithViewPrivileges.contains(student.getSectionName())) {
@@ -88,7 +96,7 @@ public class GetStudentsAction extends Action {
                     }
                 });
 
-                return new JsonResult(new StudentsData(studentsToReturn));
+                return createStreamingJsonResult(StudentsData.createLazily(studentsToReturn));
             } else {
                 // request to get team members by current student
                 List<Student> studentsForTeam = sqlLogic.getStudentsByTeamName(teamName, courseId);
@@ -154,4 +162,32 @@ public class GetStudentsAction extends Action {
             }
         }
     }
+
+    /**
+     * Gets the page of the students of the course requested through the cursor, ordered by email.
+     *
+     * <p>If only the students of some sections are to be returned, the other students are left out of the page,
+     * so the page can have fewer students than the page size even if there is a next page.
+     */
+    private StudentsData getStudentsPage(String courseId, int pageSize, Set<String> sectionNames) {
+        String[] cursor = getCursorRequestParamValue(1);
+        String afterEmail = cursor == null ? null : cursor[0];
+        // one more student is fetched to find out whether there is a next page
+        List<Student> students = sqlLogic.getStudentsPageForCourse(courseId, afterEmail, pageSize + 1);
+
+        String nextCursor = null;
+        if (students.size() > pageSize) {
+            students = students.subList(0, pageSize);
+            nextCursor = PageCursor.encode(students.get(pageSize - 1).getEmail());
+        }
+        if (sectionNames != null) {
+            students = students.stream()
+                    .filter(student -> sectionNames.contains(student.getSectionName()))
+                    .collect(Collectors.toList());
+        }
+
+        StudentsData data = StudentsData.createLazily(students);
+        data.setNextCursor(nextCursor);
+        return data;
+    }
 }
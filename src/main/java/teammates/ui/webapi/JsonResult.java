@@ -53,6 +53,15 @@ public class JsonResult extends ActionResult {
 
     @Override
     public void send(HttpServletResponse resp) throws IOException {
+        prepareResponse(resp);
+        PrintWriter pw = resp.getWriter();
+        JsonUtils.toCompactJson(output, pw);
+    }
+
+    /**
+     * Sets the request ID, cookies, status code and content type of the response.
+     */
+    void prepareResponse(HttpServletResponse resp) {
         output.setRequestId(RequestTracer.getTraceId());
         for (Cookie cookie : cookies) {
             cookie.setSecure(!Config.IS_DEV_SERVER);
@@ -60,8 +69,6 @@ public class JsonResult extends ActionResult {
         }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
     }
 
     List<Cookie> getCookies() {
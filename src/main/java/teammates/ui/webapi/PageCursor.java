@@ -0,0 +1,52 @@
+package teammates.ui.webapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.google.gson.JsonParseException;
+
+import teammates.common.util.JsonUtils;
+
+/**
+ * Opaque token marking the end of a page of a keyset-paginated listing, from which the next page continues.
+ *
+ * <p>The token holds the sort keys of the last item in the page, so that the next page is read
+ * straight from where the previous page ended instead of skipping over all the previous pages.
+ * Clients are expected to pass the token back as it is.
+ */
+final class PageCursor {
+
+    private PageCursor() {
+        // utility class
+    }
+
+    /**
+     * Encodes the sort keys of the last item in a page into a cursor.
+     */
+    static String encode(String... keys) {
+        byte[] json = JsonUtils.toCompactJson(keys).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    /**
+     * Decodes the sort keys held by a cursor.
+     *
+     * @throws InvalidHttpParameterException if the cursor is not one with the expected number of keys
+     */
+    static String[] decode(String cursor, int numberOfKeys) {
+        String[] keys;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            keys = JsonUtils.fromJson(json, String[].class);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidHttpParameterException("Invalid cursor: [" + cursor + "]", e);
+        } catch (JsonParseException e) {
+            throw new InvalidHttpParameterException("Invalid cursor: [" + cursor + "]");
+        }
+        if (keys == null || keys.length != numberOfKeys) {
+            throw new InvalidHttpParameterException("Invalid cursor: [" + cursor + "]");
+        }
+        return keys;
+    }
+
+}
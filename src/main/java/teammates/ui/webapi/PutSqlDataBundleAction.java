@@ -5,11 +5,15 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Config;
+import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 
 /**
  * Persists a data bundle into the DB.
+ *
+ * <p>If {@link Const.ParamsNames#IS_BULK_LOAD} is {@code true}, the data bundle is persisted in bulk,
+ * which is only suitable for entities which are not in the DB yet.
  */
 class PutSqlDataBundleAction extends Action {
 
@@ -28,9 +32,17 @@ class PutSqlDataBundleAction extends Action {
     @Override
     public JsonResult execute() throws InvalidHttpRequestBodyException, InvalidOperationException {
         SqlDataBundle dataBundle = JsonUtils.fromJson(getRequestBody(), SqlDataBundle.class);
+        boolean isBulkLoad = false;
+        if (getRequestParamValue(Const.ParamsNames.IS_BULK_LOAD) != null) {
+            isBulkLoad = getBooleanRequestParamValue(Const.ParamsNames.IS_BULK_LOAD);
+        }
 
         try {
-            dataBundle = sqlLogic.persistDataBundle(dataBundle);
+            if (isBulkLoad) {
+                dataBundle = sqlLogic.persistDataBundleInBulk(dataBundle);
+            } else {
+                dataBundle = sqlLogic.persistDataBundle(dataBundle);
+            }
         } catch (InvalidParametersException e) {
             throw new InvalidHttpRequestBodyException(e);
         } catch (EntityAlreadyExistsException e) {
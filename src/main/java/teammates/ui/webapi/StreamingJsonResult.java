@@ -0,0 +1,64 @@
+package teammates.ui.webapi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.ApiOutput;
+
+/**
+ * Action result in form of JSON object which is written to the client incrementally.
+ *
+ * <p>This is meant for large outputs whose elements are only built as they are serialized
+ * (e.g. {@link teammates.ui.output.SessionResultsData#initLazilyForInstructor}), so that the full output
+ * never needs to be held in memory at once and the client starts receiving data before all of it is built.
+ * The JSON is gzip-compressed on the fly if the client accepts it.
+ */
+public class StreamingJsonResult extends JsonResult {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean isGzipAccepted;
+
+    StreamingJsonResult(ApiOutput output, boolean isGzipAccepted) {
+        super(output);
+        this.isGzipAccepted = isGzipAccepted;
+    }
+
+    @Override
+    public boolean isSentWithinTransaction() {
+        // the elements of the output may still need to be loaded from the database while being written
+        return true;
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        prepareResponse(resp);
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.addHeader("Vary", "Accept-Encoding");
+
+        OutputStream out = resp.getOutputStream();
+        if (isGzipAccepted) {
+            resp.setHeader("Content-Encoding", "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        // No content length is set, so the servlet container sends the response in chunks
+        // as soon as its buffer is filled instead of waiting for the whole output to be serialized.
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            JsonUtils.toCompactJson(getOutput(), writer);
+        }
+    }
+
+    boolean isGzipAccepted() {
+        return isGzipAccepted;
+    }
+
+}
@@ -19,13 +19,11 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
-import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.ui.output.FeedbackResponsesData;
 import teammates.ui.request.FeedbackResponsesRequest;
@@ -183,140 +181,27 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
             return handleDataStoreExecute(feedbackQuestionAttributes);
         }
 
-        final FeedbackQuestion feedbackQuestion = feedbackQuestionSql;
-        List<FeedbackResponse> existingResponses;
-        Map<String, FeedbackQuestionRecipient> recipientsOfTheQuestion;
-
-        String giverIdentifier;
-        Section giverSection;
+        Student student = null;
+        Instructor instructor = null;
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
         switch (intent) {
         case STUDENT_SUBMISSION:
-            Student student = getSqlStudentOfCourseFromRequest(feedbackQuestion.getCourseId());
-            giverIdentifier =
-                    feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                            ? student.getTeamName() : student.getEmail();
-            giverSection = student.getSection();
-            existingResponses = sqlLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(feedbackQuestion, student);
-            recipientsOfTheQuestion = sqlLogic.getRecipientsOfQuestion(feedbackQuestion, null, student);
-            sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
-                    feedbackQuestion.getCourseId(), student.getEmail(), student.getTeamName());
+            student = getSqlStudentOfCourseFromRequest(feedbackQuestionSql.getCourseId());
             break;
         case INSTRUCTOR_SUBMISSION:
-            Instructor instructor = getSqlInstructorOfCourseFromRequest(feedbackQuestion.getCourseId());
-            giverIdentifier = instructor.getEmail();
-            giverSection = sqlLogic.getDefaultSectionOrCreate(courseId);
-            existingResponses = sqlLogic.getFeedbackResponsesFromInstructorForQuestion(feedbackQuestion, instructor);
-            recipientsOfTheQuestion = sqlLogic.getRecipientsOfQuestion(feedbackQuestion, instructor, null);
-            sqlLogic.populateFieldsToGenerateInQuestion(feedbackQuestion,
-                    feedbackQuestion.getCourseId(), instructor.getEmail(), null);
+            instructor = getSqlInstructorOfCourseFromRequest(feedbackQuestionSql.getCourseId());
             break;
         default:
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        Map<String, FeedbackResponse> existingResponsesPerRecipient = new HashMap<>();
-        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
-
         FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
-        log.info(JsonUtils.toCompactJson(submitRequest));
-
-        for (String recipient : submitRequest.getRecipients()) {
-            if (!recipientsOfTheQuestion.containsKey(recipient)) {
-                throw new InvalidOperationException(
-                        "The recipient " + recipient + " is not a valid recipient of the question");
-            }
-        }
-
-        List<FeedbackResponse> feedbackResponsesToValidate = new ArrayList<>();
-        List<FeedbackResponse> feedbackResponsesToAdd = new ArrayList<>();
-        List<FeedbackResponse> feedbackResponsesToUpdate = new ArrayList<>();
-
-        submitRequest.getResponses().forEach(responseRequest -> {
-            String recipient = responseRequest.getRecipient();
-            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
-
-            if (existingResponsesPerRecipient.containsKey(recipient)) {
-                Section recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-
-                FeedbackResponse existingFeedbackResponse = existingResponsesPerRecipient.get(recipient);
-                FeedbackResponse updatedFeedbackResponse = FeedbackResponse.updateResponse(
-                        existingFeedbackResponse,
-                        feedbackQuestion,
-                        giverIdentifier,
-                        giverSection,
-                        recipient,
-                        recipientSection,
-                        responseDetails);
-
-                feedbackResponsesToValidate.add(updatedFeedbackResponse);
-                feedbackResponsesToUpdate.add(updatedFeedbackResponse);
-            } else {
-                FeedbackResponse feedbackResponse = FeedbackResponse.makeResponse(
-                        feedbackQuestion,
-                        giverIdentifier,
-                        giverSection,
-                        recipient,
-                        getRecipientSection(feedbackQuestion.getCourseId(),
-                            feedbackQuestion.getGiverType(),
-                            feedbackQuestion.getRecipientType(), recipient),
-                        responseDetails
-                    );
-
-                feedbackResponsesToValidate.add(feedbackResponse);
-                feedbackResponsesToAdd.add(feedbackResponse);
-            }
-        });
-
-        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
-                .map(FeedbackResponse::getFeedbackResponseDetailsCopy)
-                .collect(Collectors.toList());
-
-        int numRecipients = feedbackQuestion.getNumOfEntitiesToGiveFeedbackTo();
-        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
-                || numRecipients > recipientsOfTheQuestion.size()) {
-            numRecipients = recipientsOfTheQuestion.size();
-        }
-
-        List<String> questionSpecificErrors =
-                feedbackQuestion.getQuestionDetailsCopy()
-                        .validateResponsesDetails(responseDetails, numRecipients);
-
-        if (!questionSpecificErrors.isEmpty()) {
-            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
-        }
-
-        List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponse> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
-                .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
-                .collect(Collectors.toList());
-
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToDelete) {
-            sqlLogic.deleteFeedbackResponsesAndCommentsCascade(feedbackResponse);
-        }
-
-        List<FeedbackResponse> output = new ArrayList<>();
+        log.info(String.format("Submitting responses to %d recipients of question %s",
+                submitRequest.getRecipients().size(), feedbackQuestionSql.getId()));
 
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(sqlLogic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
-
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(sqlLogic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
-        }
+        FeedbackResponsesChange change =
+                prepareFeedbackResponsesChange(feedbackQuestionSql, student, instructor, submitRequest, null);
+        List<FeedbackResponse> output = saveFeedbackResponsesChanges(List.of(change));
 
         return new JsonResult(FeedbackResponsesData.createFromEntity(output));
     }
@@ -358,7 +243,8 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
 
         FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
-        log.info(JsonUtils.toCompactJson(submitRequest));
+        log.info(String.format("Submitting responses to %d recipients of question %s",
+                submitRequest.getRecipients().size(), feedbackQuestion.getId()));
 
         for (String recipient : submitRequest.getRecipients()) {
             if (!recipientsOfTheQuestion.containsKey(recipient)) {
@@ -0,0 +1,170 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.Intent;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Submits the feedback responses to multiple questions of a feedback session at once.
+ *
+ * <p>For each question in the request, this action completely overwrites the feedback responses that are
+ * previously attached to the question, in the same way as {@link SubmitFeedbackResponsesAction}.
+ * All questions are validated before any response is saved.
+ *
+ * <p>This action is only available for courses which have been migrated to the SQL database.
+ */
+public class SubmitFeedbackSessionResponsesAction extends BasicFeedbackSubmissionAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        if (!isCourseMigrated(courseId)) {
+            throw new InvalidHttpParameterException("Submitting responses to a whole session is not supported "
+                    + "for courses which have not been migrated");
+        }
+
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+        verifyNotPreview();
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            Student student = getSqlStudentOfCourseFromRequest(courseId);
+            if (student == null) {
+                throw new UnauthorizedAccessException("Trying to access system using a non-existent student entity");
+            }
+            feedbackSession = feedbackSession.getCopyForUser(student.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession, student);
+            checkAccessControlForStudentFeedbackSubmission(student, feedbackSession);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            Instructor instructor = getSqlInstructorOfCourseFromRequest(courseId);
+            if (instructor == null) {
+                throw new UnauthorizedAccessException("Trying to access system using a non-existent instructor entity");
+            }
+            feedbackSession = feedbackSession.getCopyForUser(instructor.getEmail());
+            verifySessionOpenExceptForModeration(feedbackSession, instructor);
+            checkAccessControlForInstructorFeedbackSubmission(instructor, feedbackSession);
+            break;
+        case INSTRUCTOR_RESULT:
+        case STUDENT_RESULT:
+            throw new InvalidHttpParameterException("Invalid intent for this action");
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        // a missing or malformed request body is rejected when the action is executed
+        FeedbackSessionResponsesRequest submitRequest =
+                JsonUtils.fromJson(getRequestBody(), FeedbackSessionResponsesRequest.class);
+        if (submitRequest == null || submitRequest.getQuestionResponses() == null) {
+            return;
+        }
+
+        for (FeedbackQuestion feedbackQuestion : getResponsesPerQuestion(feedbackSession, submitRequest).keySet()) {
+            verifyInstructorCanSeeQuestionIfInModeration(feedbackQuestion);
+            if (intent == Intent.STUDENT_SUBMISSION) {
+                gateKeeper.verifyAnswerableForStudent(feedbackQuestion);
+            } else {
+                gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
+            }
+        }
+    }
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException, InvalidOperationException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
+
+        Student student = null;
+        Instructor instructor = null;
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            student = getSqlStudentOfCourseFromRequest(courseId);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            instructor = getSqlInstructorOfCourseFromRequest(courseId);
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        FeedbackSessionResponsesRequest submitRequest =
+                getAndValidateRequestBody(FeedbackSessionResponsesRequest.class);
+        Map<FeedbackQuestion, FeedbackResponsesRequest> responsesPerQuestion =
+                getResponsesPerQuestion(feedbackSession, submitRequest);
+
+        // the same roster is used to work out the recipients of every question
+        SqlCourseRoster courseRoster = new SqlCourseRoster(
+                sqlLogic.getStudentsForCourse(courseId), sqlLogic.getInstructorsByCourse(courseId));
+
+        List<FeedbackResponsesChange> changes = new ArrayList<>();
+        for (Map.Entry<FeedbackQuestion, FeedbackResponsesRequest> entry : responsesPerQuestion.entrySet()) {
+            changes.add(prepareFeedbackResponsesChange(
+                    entry.getKey(), student, instructor, entry.getValue(), courseRoster));
+        }
+
+        HibernateUtil.setJdbcBatchSize(Config.POSTGRES_BULK_BATCH_SIZE);
+        List<FeedbackResponse> output = saveFeedbackResponsesChanges(changes);
+
+        log.info(String.format("Saved %d responses to %d questions of session %s in course %s",
+                changes.stream().mapToInt(FeedbackResponsesChange::getNumberOfResponses).sum(),
+                changes.size(), feedbackSessionName, courseId));
+
+        return new JsonResult(FeedbackResponsesData.createFromEntity(output));
+    }
+
+    /**
+     * Pairs each question in the request with the responses submitted to it.
+     *
+     * @throws EntityNotFoundException if any of the questions does not exist in the feedback session
+     */
+    private Map<FeedbackQuestion, FeedbackResponsesRequest> getResponsesPerQuestion(
+            FeedbackSession feedbackSession, FeedbackSessionResponsesRequest submitRequest) {
+        Map<UUID, FeedbackQuestion> questionsOfSession = sqlLogic.getFeedbackQuestionsForSession(feedbackSession)
+                .stream()
+                .collect(Collectors.toMap(FeedbackQuestion::getId, Function.identity()));
+
+        Map<FeedbackQuestion, FeedbackResponsesRequest> responsesPerQuestion = new LinkedHashMap<>();
+        for (Map.Entry<String, FeedbackResponsesRequest> entry : submitRequest.getQuestionResponses().entrySet()) {
+            UUID feedbackQuestionId = getUuidFromString(Const.ParamsNames.FEEDBACK_QUESTION_ID, entry.getKey());
+            FeedbackQuestion feedbackQuestion = questionsOfSession.get(feedbackQuestionId);
+            if (feedbackQuestion == null) {
+                throw new EntityNotFoundException("The feedback question does not exist.");
+            }
+            responsesPerQuestion.put(feedbackQuestion, entry.getValue());
+        }
+        return responsesPerQuestion;
+    }
+
+}
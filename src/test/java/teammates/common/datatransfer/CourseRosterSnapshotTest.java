@@ -0,0 +1,84 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CourseRosterSnapshot}.
+ */
+public class CourseRosterSnapshotTest extends BaseTestCase {
+
+    @Test
+    public void testOf_noStudentsOrInstructors_emptyIndexes() {
+        CourseRosterSnapshot snapshot = CourseRosterSnapshot.of(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(snapshot.getStudents().isEmpty());
+        assertTrue(snapshot.getInstructors().isEmpty());
+        assertTrue(snapshot.getStudentsInSection("section 1").isEmpty());
+        assertTrue(snapshot.getTeamMembers("team 1").isEmpty());
+        assertTrue(snapshot.getTeamToMembersTable().isEmpty());
+        assertTrue(snapshot.getTeamToMembersTableInSection("section 1").isEmpty());
+    }
+
+    @Test
+    public void testOf_multipleSectionsAndTeams_indexedBySectionAndTeam() {
+        Course course = getTypicalCourse();
+        Section section1 = new Section(course, "section 1");
+        Section section2 = new Section(course, "section 2");
+        Team team1 = new Team(section1, "team 1");
+        Team team2 = new Team(section1, "team 2");
+        Team team3 = new Team(section2, "team 3");
+
+        Instructor instructor = getTypicalInstructor();
+        CourseRosterSnapshot snapshot = CourseRosterSnapshot.of(
+                List.of(new Student(course, "s1", "s1@teammates.tmt", "", team1),
+                        new Student(course, "s2", "s2@teammates.tmt", "", team1),
+                        new Student(course, "s3", "s3@teammates.tmt", "", team2),
+                        new Student(course, "s4", "s4@teammates.tmt", "", team3)),
+                List.of(instructor));
+
+        assertEquals(List.of("s1@teammates.tmt", "s2@teammates.tmt", "s3@teammates.tmt", "s4@teammates.tmt"),
+                getEmails(snapshot.getStudents()));
+        assertEquals(1, snapshot.getInstructors().size());
+        assertEquals(instructor.getEmail(), snapshot.getInstructors().get(0).getEmail());
+        assertEquals(instructor.isDisplayedToStudents(), snapshot.getInstructors().get(0).isDisplayedToStudents());
+
+        assertEquals(List.of("s1@teammates.tmt", "s2@teammates.tmt", "s3@teammates.tmt"),
+                getEmails(snapshot.getStudentsInSection("section 1")));
+        assertEquals(List.of("s4@teammates.tmt"), getEmails(snapshot.getStudentsInSection("section 2")));
+
+        assertEquals(List.of("s1@teammates.tmt", "s2@teammates.tmt"), getEmails(snapshot.getTeamMembers("team 1")));
+        assertTrue(snapshot.getTeamMembers("non-existent team").isEmpty());
+
+        assertEquals(3, snapshot.getTeamToMembersTable().size());
+        Map<String, List<StudentInfo>> teamsInSection1 = snapshot.getTeamToMembersTableInSection("section 1");
+        assertEquals(2, teamsInSection1.size());
+        assertEquals(List.of("s3@teammates.tmt"), getEmails(teamsInSection1.get("team 2")));
+        assertFalse(teamsInSection1.containsKey("team 3"));
+
+        StudentInfo studentInfo = snapshot.getTeamMembers("team 3").get(0);
+        assertEquals("s4", studentInfo.getName());
+        assertEquals("team 3", studentInfo.getTeamName());
+        assertEquals("section 2", studentInfo.getSectionName());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getStudents().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getTeamMembers("team 1").clear());
+    }
+
+    private List<String> getEmails(List<StudentInfo> students) {
+        return students.stream().map(StudentInfo::getEmail).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,124 @@
+package teammates.common.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest extends BaseTestCase {
+
+    @Test
+    public void testPublish_noQueue_publishedInCurrentThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 0, false, n -> n + " dropped");
+
+        handler.publish(new LogRecord(Level.INFO, "log line"));
+
+        assertEquals(List.of("log line"), target.messages);
+        assertEquals(List.of(Thread.currentThread().getName()), target.threadNames);
+    }
+
+    @Test
+    public void testPublish_withQueue_publishedInBackgroundThread() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 10, false, n -> n + " dropped");
+
+        handler.publish(new LogRecord(Level.INFO, "log line"));
+
+        assertTrue(target.isPublished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("log line"), target.messages);
+        assertEquals(List.of("async-log"), target.threadNames);
+        handler.close();
+    }
+
+    @Test
+    public void testPublish_queueFull_recordsDroppedAndReported() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        CountDownLatch canPublish = new CountDownLatch(1);
+        target.canPublish = canPublish;
+        AsyncLogHandler handler = new AsyncLogHandler(target, 1, false, n -> n + " dropped");
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        // the first record is being published, so the queue only has space for the second one
+        assertTrue(target.isPublishing.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        handler.publish(new LogRecord(Level.INFO, "fourth"));
+
+        assertEquals(2, handler.getNumDroppedRecords());
+        assertEquals(1, handler.getNumQueuedRecords());
+
+        canPublish.countDown();
+        handler.close();
+
+        assertEquals(List.of("first", "second", "2 dropped"), target.messages);
+        assertEquals(Level.WARNING, target.levels.get(2));
+    }
+
+    @Test
+    public void testClose_recordsQueued_recordsPublishedBeforeClosing() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        CountDownLatch canPublish = new CountDownLatch(1);
+        target.canPublish = canPublish;
+        AsyncLogHandler handler = new AsyncLogHandler(target, 10, true, n -> n + " dropped");
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.isPublishing.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+
+        canPublish.countDown();
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("first", "second", "third", "after close"), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    private static final class RecordingHandler extends Handler {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final List<Level> levels = new CopyOnWriteArrayList<>();
+        private final List<String> threadNames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isPublishing = new CountDownLatch(1);
+        private final CountDownLatch isPublished = new CountDownLatch(1);
+        private CountDownLatch canPublish = new CountDownLatch(0);
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isPublishing.countDown();
+            try {
+                canPublish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            levels.add(record.getLevel());
+            threadNames.add(Thread.currentThread().getName());
+            isPublished.countDown();
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+    }
+
+}
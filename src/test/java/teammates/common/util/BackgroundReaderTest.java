@@ -0,0 +1,121 @@
+package teammates.common.util;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link BackgroundReader}.
+ */
+public class BackgroundReaderTest extends BaseTestCase {
+
+    @Test
+    public void testStart_noThreads_readInCurrentThread() {
+        BackgroundReader backgroundReader = new BackgroundReader(0);
+        Thread currentThread = Thread.currentThread();
+
+        Supplier<Thread> result = backgroundReader.start(Thread::currentThread);
+
+        assertSame(currentThread, result.get());
+        assertFalse(backgroundReader.isRunningInBackground());
+    }
+
+    @Test
+    public void testStart_withThreads_readWhileCurrentThreadContinues() throws Exception {
+        BackgroundReader backgroundReader = new BackgroundReader(1);
+        CountDownLatch isCurrentThreadDone = new CountDownLatch(1);
+
+        Supplier<String> result = backgroundReader.start(() -> {
+            try {
+                // the read can only finish after the current thread has done its own work
+                assertTrue(isCurrentThreadDone.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return Thread.currentThread().getName();
+        });
+        isCurrentThreadDone.countDown();
+
+        assertEquals("background-read", result.get());
+        assertTrue(backgroundReader.isRunningInBackground());
+    }
+
+    @Test
+    public void testStart_withThreads_requestTracePropagated() throws Exception {
+        BackgroundReader backgroundReader = new BackgroundReader(1);
+
+        String traceId = serveRequest(60, () -> backgroundReader.start(RequestTracer::getTraceId).get());
+
+        assertEquals("trace-id", traceId);
+    }
+
+    @Test
+    public void testStart_withThreads_requestDeadlineExceeded() throws Exception {
+        BackgroundReader backgroundReader = new BackgroundReader(1);
+
+        boolean isDeadlineExceeded = serveRequest(-1, () -> {
+            Supplier<String> result = backgroundReader.start(() -> "result");
+            assertThrows(DeadlineExceededException.class, result::get);
+            return true;
+        });
+
+        assertTrue(isDeadlineExceeded);
+    }
+
+    @Test
+    public void testStart_withThreads_exceptionRethrown() {
+        BackgroundReader backgroundReader = new BackgroundReader(1);
+        IllegalStateException exception = new IllegalStateException("read failed");
+
+        Supplier<String> result = backgroundReader.start(() -> {
+            throw exception;
+        });
+
+        assertSame(exception, assertThrows(IllegalStateException.class, result::get));
+    }
+
+    @Test
+    public void testStart_withThreadContexts_contextsOpenedAroundRead() {
+        BackgroundReader backgroundReader = new BackgroundReader(1);
+        List<String> events = new ArrayList<>();
+        backgroundReader.addThreadContext(() -> {
+            events.add("open first");
+            return (Closeable) () -> events.add("close first");
+        });
+        backgroundReader.addThreadContext(() -> {
+            events.add("open second");
+            return (Closeable) () -> events.add("close second");
+        });
+
+        backgroundReader.start(() -> events.add("read")).get();
+
+        assertEquals(List.of("open first", "open second", "read", "close second", "close first"), events);
+    }
+
+    /**
+     * Serves a request in a separate thread, so that the request trace does not leak into other tests.
+     */
+    private <T> T serveRequest(int timeoutInSeconds, Callable<T> request) throws Exception {
+        ExecutorService requestThread = Executors.newSingleThreadExecutor();
+        try {
+            return requestThread.submit(() -> {
+                RequestTracer.init("trace-id", "span-id", timeoutInSeconds);
+                return request.call();
+            }).get();
+        } finally {
+            requestThread.shutdown();
+        }
+    }
+
+}
@@ -8,8 +8,11 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.storage.sqlentity.BaseEntity;
 import teammates.test.BaseTestCase;
 
 /**
@@ -104,4 +107,35 @@ public class JsonUtilsTest extends BaseTestCase {
                 + "\"recipientSection\":\"recipientSection\"}",
                 JsonUtils.toCompactJson(fra));
     }
+
+    @Test
+    public void testFeedbackQuestionDetailsConverter_compactAndPrettyRows_shouldDeserializeEqually() {
+        BaseEntity.FeedbackQuestionDetailsConverter converter = new BaseEntity.FeedbackQuestionDetailsConverter();
+        FeedbackTextQuestionDetails questionDetails = new FeedbackTextQuestionDetails("Question text.");
+
+        String compactRow = converter.convertToDatabaseColumn(questionDetails);
+        assertEquals(JsonUtils.toCompactJson(questionDetails), compactRow);
+
+        String prettyRow = JsonUtils.toJson(questionDetails);
+        FeedbackQuestionDetails fromCompact = converter.convertToEntityAttribute(compactRow);
+        FeedbackQuestionDetails fromPretty = converter.convertToEntityAttribute(prettyRow);
+
+        assertTrue(fromCompact instanceof FeedbackTextQuestionDetails);
+        assertEquals(JsonUtils.toCompactJson(fromCompact), JsonUtils.toCompactJson(fromPretty));
+    }
+
+    @Test
+    public void testFeedbackResponseDetailsConverter_compactAndPrettyRows_shouldDeserializeEqually() {
+        BaseEntity.FeedbackResponseDetailsConverter converter = new BaseEntity.FeedbackResponseDetailsConverter();
+        FeedbackTextResponseDetails responseDetails = new FeedbackTextResponseDetails("My answer");
+
+        String compactRow = converter.convertToDatabaseColumn(responseDetails);
+        assertEquals("{\"answer\":\"My answer\",\"questionType\":\"TEXT\"}", compactRow);
+
+        FeedbackResponseDetails fromCompact = converter.convertToEntityAttribute(compactRow);
+        FeedbackResponseDetails fromPretty = converter.convertToEntityAttribute(JsonUtils.toJson(responseDetails));
+
+        assertEquals("My answer", fromCompact.getAnswerString());
+        assertEquals(fromCompact.getAnswerString(), fromPretty.getAnswerString());
+    }
 }
@@ -121,7 +121,7 @@ public class StringHelperTest extends BaseTestCase {
     }
 
     @Test
-    public void testDecryptingInvalidCiphertextThrowsException() {
+    public void testDecryptingInvalidCiphertextThrowsException() throws Exception {
         // The decrypt function converts a hex string into an array of bytes before decryption.
         // E.g AF is the byte 10101111
         // Hence, non-hex strings should fail to decrypt.
@@ -136,6 +136,10 @@ public class StringHelperTest extends BaseTestCase {
         for (String invalidCiphertext : invalidCiphertexts) {
             assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(invalidCiphertext));
         }
+
+        // Failed decryptions should not affect subsequent decryptions
+        String msg = "Test decryption after failure";
+        assertEquals(msg, StringHelper.decrypt(StringHelper.encrypt(msg)));
     }
 
     @Test
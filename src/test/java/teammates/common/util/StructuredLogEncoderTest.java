@@ -0,0 +1,80 @@
+package teammates.common.util;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.logs.LogSeverity;
+import teammates.common.datatransfer.logs.RequestLogDetails;
+import teammates.common.datatransfer.logs.RequestLogUser;
+import teammates.common.datatransfer.logs.SourceLocation;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link StructuredLogEncoder}.
+ */
+public class StructuredLogEncoderTest extends BaseTestCase {
+
+    @Test
+    public void testEncode_withDetails_detailsMergedIntoPayload() {
+        RequestLogUser userInfo = new RequestLogUser();
+        userInfo.setGoogleId("user-id");
+        RequestLogDetails details = new RequestLogDetails();
+        details.setResponseStatus(200);
+        details.setRequestMethod("GET");
+        details.setRequestParams(Map.of("courseid", "course-id"));
+        details.setUserInfo(userInfo);
+
+        JsonObject payload = JsonUtils.parse(StructuredLogEncoder.encode("[200] GET /webapi/course", LogSeverity.INFO,
+                new SourceLocation("teammates.ui.webapi.Action", 10L, "execute"),
+                "projects/app-id/traces/trace-id", "span-id", details)).getAsJsonObject();
+
+        assertEquals("[200] GET /webapi/course", payload.get("message").getAsString());
+        assertEquals("INFO", payload.get("severity").getAsString());
+        JsonObject sourceLocation = payload.getAsJsonObject("logging.googleapis.com/sourceLocation");
+        assertEquals("teammates.ui.webapi.Action", sourceLocation.get("file").getAsString());
+        assertEquals(10, sourceLocation.get("line").getAsInt());
+        assertEquals("execute", sourceLocation.get("function").getAsString());
+        assertEquals("projects/app-id/traces/trace-id", payload.get("logging.googleapis.com/trace").getAsString());
+        assertEquals("span-id", payload.get("logging.googleapis.com/spanId").getAsString());
+
+        assertEquals("REQUEST_LOG", payload.get("event").getAsString());
+        assertEquals(200, payload.get("responseStatus").getAsInt());
+        assertEquals("GET", payload.get("requestMethod").getAsString());
+        assertEquals("course-id", payload.getAsJsonObject("requestParams").get("courseid").getAsString());
+        assertEquals("user-id", payload.getAsJsonObject("userInfo").get("googleId").getAsString());
+        assertFalse(payload.getAsJsonObject("userInfo").has("email"));
+        assertFalse(payload.has("requestUrl"));
+    }
+
+    @Test
+    public void testEncode_detailsWithMessage_messageOfDetailsUsed() {
+        RequestLogDetails details = new RequestLogDetails();
+        details.setMessage("details message");
+
+        JsonObject payload = JsonUtils.parse(StructuredLogEncoder.encode(
+                "log message", LogSeverity.INFO, null, null, null, details)).getAsJsonObject();
+
+        assertEquals("details message", payload.get("message").getAsString());
+    }
+
+    @Test
+    public void testEncode_withoutOptionalParts_onlyMessageAndSeverityWritten() {
+        String payload = StructuredLogEncoder.encode("log \"message\"", LogSeverity.WARNING, null, null, null, null);
+
+        assertEquals("{\"message\":\"log \\\"message\\\"\",\"severity\":\"WARNING\"}", payload);
+    }
+
+    @Test
+    public void testEncode_consecutiveLogLines_bufferReused() {
+        String largePayload = StructuredLogEncoder.encode(
+                "a".repeat(100 * 1024), LogSeverity.INFO, null, null, null, null);
+        String payload = StructuredLogEncoder.encode("message", LogSeverity.INFO, null, null, null, null);
+
+        assertTrue(largePayload.length() > 100 * 1024);
+        assertEquals("{\"message\":\"message\",\"severity\":\"INFO\"}", payload);
+    }
+
+}
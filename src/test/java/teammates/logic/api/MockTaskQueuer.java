@@ -25,6 +25,13 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    List<TaskWrapper> addDeferredTasks(List<TaskWrapper> tasks, long intervalTime) {
+        // interval time not tested
+        tasksAdded.addAll(tasks);
+        return new ArrayList<>();
+    }
+
     /**
      * Gets the tasks added to the queue.
      */
@@ -10,6 +10,7 @@ import java.util.UUID;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRosterSnapshot.StudentInfo;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -266,7 +267,8 @@ public class FeedbackQuestionsLogicTest extends BaseTestCase {
 
         SqlCourseRoster courseRoster = new SqlCourseRoster(studentsInCourse, null);
 
-        when(usersLogic.getStudentsForCourse("course-1")).thenReturn(studentsInCourse);
+        when(usersLogic.getStudentInfosForCourse("course-1"))
+                .thenReturn(List.of(StudentInfo.of(s1), StudentInfo.of(s2)));
 
         ______TS("response to students except self");
         assertEquals(fqLogic.getRecipientsOfQuestion(fq, null, s2, null).size(), studentsInCourse.size() - 1);
@@ -0,0 +1,122 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.UsageStatisticsAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.sqlentity.UsageStatistics;
+import teammates.ui.webapi.CalculateUsageStatisticsAction;
+
+/**
+ * SUT: {@link CalculateUsageStatisticsAction}.
+ */
+public class CalculateUsageStatisticsActionTest extends BaseActionTest<CalculateUsageStatisticsAction> {
+
+    private Instant latestEndTime;
+
+    @Override
+    String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_USAGE_STATISTICS_COLLECTION;
+    }
+
+    @Override
+    String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    void setUp() throws Exception {
+        reset(mockLogic, mockDatastoreLogic);
+        latestEndTime = TimeHelper.getInstantNearestHourBefore(Instant.now());
+
+        when(mockDatastoreLogic.calculateEntitiesStatisticsForTimeRange(any(), any()))
+                .thenReturn(UsageStatisticsAttributes.builder(latestEndTime, 1).withNumCourses(1).build());
+        when(mockLogic.calculateEntitiesStatisticsForTimeRange(any(), any()))
+                .thenReturn(new UsageStatistics(latestEndTime, 1, 0, 2, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void testExecute_noPreviousStatistics_latestPeriodGathered() throws Exception {
+        when(mockLogic.getLatestUsageStatistics()).thenReturn(null);
+
+        getAction().execute();
+
+        List<UsageStatistics> createdStats = getCreatedUsageStatistics(1);
+        assertEquals(latestEndTime.minus(1, ChronoUnit.HOURS), createdStats.get(0).getStartTime());
+        assertEquals(60, createdStats.get(0).getTimePeriod());
+        assertEquals(3, createdStats.get(0).getNumCourses());
+    }
+
+    @Test
+    void testExecute_periodsMissed_gatheredFromLatestStatistics() throws Exception {
+        Instant latestStartTime = latestEndTime.minus(4, ChronoUnit.HOURS);
+        when(mockLogic.getLatestUsageStatistics())
+                .thenReturn(new UsageStatistics(latestStartTime, 60, 0, 0, 0, 0, 0, 0, 0));
+
+        getAction().execute();
+
+        List<UsageStatistics> createdStats = getCreatedUsageStatistics(3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(latestStartTime.plus(i + 1, ChronoUnit.HOURS), createdStats.get(i).getStartTime());
+        }
+        verify(mockLogic).calculateEntitiesStatisticsForTimeRange(
+                latestEndTime.minus(1, ChronoUnit.HOURS), latestEndTime);
+    }
+
+    @Test
+    void testExecute_manyPeriodsMissed_gatheredUpToLimit() throws Exception {
+        Instant latestStartTime = latestEndTime.minus(100, ChronoUnit.HOURS);
+        when(mockLogic.getLatestUsageStatistics())
+                .thenReturn(new UsageStatistics(latestStartTime, 60, 0, 0, 0, 0, 0, 0, 0));
+
+        getAction().execute();
+
+        List<UsageStatistics> createdStats = getCreatedUsageStatistics(24);
+        assertEquals(latestStartTime.plus(1, ChronoUnit.HOURS), createdStats.get(0).getStartTime());
+        assertEquals(latestStartTime.plus(24, ChronoUnit.HOURS), createdStats.get(23).getStartTime());
+    }
+
+    @Test
+    void testExecute_latestPeriodAlreadyGathered_nothingGathered() throws Exception {
+        when(mockLogic.getLatestUsageStatistics())
+                .thenReturn(new UsageStatistics(latestEndTime.minus(1, ChronoUnit.HOURS), 60, 0, 0, 0, 0, 0, 0, 0));
+
+        getAction().execute();
+
+        verify(mockLogic, never()).calculateEntitiesStatisticsForTimeRange(any(), any());
+        verify(mockLogic, never()).createUsageStatistics(any());
+    }
+
+    @Test
+    void testAccessControl_onlyAdminCanAccess() {
+        loginAsAdmin();
+        verifyCanAccess();
+
+        loginAsInstructor("instructor-googleId");
+        verifyCannotAccess();
+
+        logoutUser();
+        verifyCannotAccess();
+    }
+
+    private List<UsageStatistics> getCreatedUsageStatistics(int expectedCount) throws Exception {
+        ArgumentCaptor<UsageStatistics> captor = ArgumentCaptor.forClass(UsageStatistics.class);
+        verify(mockLogic, times(expectedCount)).createUsageStatistics(captor.capture());
+        return captor.getAllValues();
+    }
+
+}
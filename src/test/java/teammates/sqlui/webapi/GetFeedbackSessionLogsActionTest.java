@@ -35,6 +35,8 @@ public class GetFeedbackSessionLogsActionTest extends BaseActionTest<GetFeedback
 
     private FeedbackSession fs1;
 
+    private List<FeedbackSessionLog> allLogsInCourse;
+
     private long startTime;
     private long endTime;
 
@@ -95,7 +97,7 @@ public class GetFeedbackSessionLogsActionTest extends BaseActionTest<GetFeedback
         FeedbackSessionLog student2Session1Log2 = new FeedbackSessionLog(student2, fs1,
                 FeedbackSessionLogType.SUBMISSION, Instant.ofEpochMilli(startTime + 4000));
 
-        List<FeedbackSessionLog> allLogsInCourse = new ArrayList<>();
+        allLogsInCourse = new ArrayList<>();
         allLogsInCourse.add(student1Session1Log1);
         allLogsInCourse.add(student1Session2Log1);
         allLogsInCourse.add(student1Session2Log2);
@@ -279,6 +281,62 @@ public class GetFeedbackSessionLogsActionTest extends BaseActionTest<GetFeedback
         // here as well
     }
 
+    @Test
+    void testExecute_pageRequested_pagesLinkedByCursor() {
+        Instant start = Instant.ofEpochMilli(startTime);
+        Instant end = Instant.ofEpochMilli(endTime);
+        FeedbackSessionLog lastLogOfFirstPage = allLogsInCourse.get(1);
+        when(mockLogic.getOrderedFeedbackSessionLogsPage(course.getId(), null, null, start, end, null, null, 3))
+                .thenReturn(allLogsInCourse.subList(0, 3));
+        when(mockLogic.getOrderedFeedbackSessionLogsPage(course.getId(), null, null, start, end,
+                lastLogOfFirstPage.getTimestamp(), lastLogOfFirstPage.getId(), 3))
+                .thenReturn(allLogsInCourse.subList(2, 4));
+
+        ______TS("Success case: first page has a cursor to the next page");
+        String[] paramsFirstPage = {
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+                Const.ParamsNames.LIMIT, "2",
+        };
+        FeedbackSessionLogsData fslData = (FeedbackSessionLogsData) getJsonResult(getAction(paramsFirstPage)).getOutput();
+
+        assertEquals(2, countLogEntries(fslData));
+        assertNotNull(fslData.getNextCursor());
+
+        ______TS("Success case: last page continues from the cursor and has no cursor");
+        String[] paramsLastPage = {
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+                Const.ParamsNames.LIMIT, "2",
+                Const.ParamsNames.CURSOR, fslData.getNextCursor(),
+        };
+        fslData = (FeedbackSessionLogsData) getJsonResult(getAction(paramsLastPage)).getOutput();
+
+        assertEquals(2, countLogEntries(fslData));
+        assertNull(fslData.getNextCursor());
+
+        ______TS("Failure case: invalid page size or cursor");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+                Const.ParamsNames.LIMIT, "0");
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_STARTTIME, String.valueOf(startTime),
+                Const.ParamsNames.FEEDBACK_SESSION_LOG_ENDTIME, String.valueOf(endTime),
+                Const.ParamsNames.LIMIT, "2",
+                Const.ParamsNames.CURSOR, "not-a-cursor");
+    }
+
+    private int countLogEntries(FeedbackSessionLogsData fslData) {
+        return fslData.getFeedbackSessionLogs().stream()
+                .mapToInt(fsLog -> fsLog.getFeedbackSessionLogEntries().size())
+                .sum();
+    }
+
     @Test
     void testSpecificAccessControl_instructorWithInvalidPermission_cannotAccess() {
 
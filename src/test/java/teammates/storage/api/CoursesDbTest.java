@@ -136,6 +136,23 @@ public class CoursesDbTest extends BaseTestCaseWithLocalDatabaseAccess {
 
     }
 
+    @Test
+    public void testGetMigratedCourseIds() throws Exception {
+        CourseAttributes c = createNewCourse();
+
+        ______TS("course not migrated yet");
+
+        assertFalse(coursesDb.getMigratedCourseIds().contains(c.getId()));
+
+        ______TS("course migrated");
+
+        coursesDb.updateCourse(
+                CourseAttributes.updateOptionsBuilder(c.getId())
+                        .withMigrate(true)
+                        .build());
+        assertTrue(coursesDb.getMigratedCourseIds().contains(c.getId()));
+    }
+
     @Test
     public void testUpdateCourse_noChangeToCourse_shouldNotIssueSaveRequest() throws Exception {
         CourseAttributes c = createNewCourse();
@@ -0,0 +1,105 @@
+package teammates.storage.sqlsearch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SearchDocumentBatcher}.
+ */
+public class SearchDocumentBatcherTest extends BaseTestCase {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private SolrInputDocument createDocument(String id, String text) {
+        SolrInputDocument document = new SolrInputDocument();
+        document.addField("id", id);
+        document.addField("_text_", text);
+        return document;
+    }
+
+    private SearchDocumentBatcher.BatchSender recordTo(List<List<SolrInputDocument>> sentBatches) {
+        return documents -> {
+            synchronized (sentBatches) {
+                sentBatches.add(new ArrayList<>(documents));
+            }
+        };
+    }
+
+    @Test
+    public void testAdd_documentsWithinWindow_sentInOneBatch() throws Exception {
+        List<List<SolrInputDocument>> sentBatches = new ArrayList<>();
+        SearchDocumentBatcher batcher = new SearchDocumentBatcher(recordTo(sentBatches), 60_000, 100);
+
+        CompletableFuture<Void> result1 = batcher.add("1", createDocument("1", "first"));
+        CompletableFuture<Void> result2 = batcher.add("2", createDocument("2", "second"));
+        CompletableFuture<Void> result3 = batcher.add("1", createDocument("1", "first updated"));
+
+        assertEquals(2, batcher.getNumberOfPendingDocuments());
+        assertFalse(result1.isDone());
+
+        batcher.flush();
+        result1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        result2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        result3.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(0, batcher.getNumberOfPendingDocuments());
+        assertEquals(1, sentBatches.size());
+        List<SolrInputDocument> batch = sentBatches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals("first updated", batch.get(0).getFieldValue("_text_"));
+        assertEquals("second", batch.get(1).getFieldValue("_text_"));
+    }
+
+    @Test
+    public void testAdd_windowElapsed_sentWithoutExplicitFlush() throws Exception {
+        List<List<SolrInputDocument>> sentBatches = new ArrayList<>();
+        SearchDocumentBatcher batcher = new SearchDocumentBatcher(recordTo(sentBatches), 10, 100);
+
+        batcher.add("1", createDocument("1", "first")).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(1, sentBatches.size());
+        assertEquals(0, batcher.getNumberOfPendingDocuments());
+    }
+
+    @Test
+    public void testAdd_maxBatchSizeReached_sentWithoutWaitingForWindow() throws Exception {
+        List<List<SolrInputDocument>> sentBatches = new ArrayList<>();
+        SearchDocumentBatcher batcher = new SearchDocumentBatcher(recordTo(sentBatches), 60_000, 2);
+
+        CompletableFuture<Void> result1 = batcher.add("1", createDocument("1", "first"));
+        CompletableFuture<Void> result2 = batcher.add("2", createDocument("2", "second"));
+        result1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        result2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(1, sentBatches.size());
+        assertEquals(2, sentBatches.get(0).size());
+    }
+
+    @Test
+    public void testAdd_sendingFails_failureReportedToAllCallers() {
+        IOException error = new IOException("Solr is down");
+        SearchDocumentBatcher batcher = new SearchDocumentBatcher(documents -> {
+            throw error;
+        }, 60_000, 100);
+
+        CompletableFuture<Void> result1 = batcher.add("1", createDocument("1", "first"));
+        CompletableFuture<Void> result2 = batcher.add("2", createDocument("2", "second"));
+        batcher.flush();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> result1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertSame(error, e.getCause());
+        e = assertThrows(ExecutionException.class, () -> result2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertSame(error, e.getCause());
+    }
+
+}
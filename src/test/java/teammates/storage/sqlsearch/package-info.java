@@ -0,0 +1,4 @@
+/**
+ * Contains test cases for {@link teammates.storage.sqlsearch} package.
+ */
+package teammates.storage.sqlsearch;
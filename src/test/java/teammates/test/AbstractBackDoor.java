@@ -273,9 +273,21 @@ public abstract class AbstractBackDoor {
      * Removes and restores given data in the database. This method is to be called on test startup.
      */
     public SqlDataBundle removeAndRestoreSqlDataBundle(SqlDataBundle dataBundle) throws HttpRequestFailedException {
+        return removeAndRestoreSqlDataBundle(dataBundle, false);
+    }
+
+    /**
+     * Removes and restores given data in the database. This method is to be called on test startup.
+     *
+     * <p>If {@code isBulkLoad} is true, the data is restored in bulk, which is faster for large data bundles.
+     */
+    public SqlDataBundle removeAndRestoreSqlDataBundle(SqlDataBundle dataBundle, boolean isBulkLoad)
+            throws HttpRequestFailedException {
         removeSqlDataBundle(dataBundle);
+        Map<String, String> params = new HashMap<>();
+        params.put(Const.ParamsNames.IS_BULK_LOAD, String.valueOf(isBulkLoad));
         ResponseBodyAndCode putRequestOutput =
-                executePostRequest(Const.ResourceURIs.SQL_DATABUNDLE, null, JsonUtils.toJson(dataBundle));
+                executePostRequest(Const.ResourceURIs.SQL_DATABUNDLE, params, JsonUtils.toJson(dataBundle));
         if (putRequestOutput.responseCode != HttpStatus.SC_OK) {
             throw new HttpRequestFailedException("Request failed: [" + putRequestOutput.responseCode + "] "
                     + putRequestOutput.responseBody);
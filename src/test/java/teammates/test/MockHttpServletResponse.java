@@ -1,13 +1,17 @@
 package teammates.test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -25,6 +29,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private Map<String, String> headers = new HashMap<>();
+    private ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -87,12 +93,12 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        this.headers.put(name, value);
     }
 
     @Override
     public void addHeader(String name, String value) {
-        // not used
+        this.headers.put(name, value);
     }
 
     @Override
@@ -122,7 +128,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        return this.headers.get(s);
     }
 
     @Override
@@ -147,7 +153,29 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public ServletOutputStream getOutputStream() {
-        return null;
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // not used
+            }
+
+            @Override
+            public void write(int b) {
+                outputStream.write(b);
+            }
+        };
+    }
+
+    /**
+     * Returns the bytes written to the output stream of the response.
+     */
+    public byte[] getOutputStreamContent() {
+        return this.outputStream.toByteArray();
     }
 
     @Override
@@ -0,0 +1,54 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link StreamingJsonResult}.
+ */
+public class StreamingJsonResultTest extends BaseTestCase {
+
+    @Test
+    public void testSend_gzipNotAccepted_shouldWritePlainJson() throws Exception {
+        StreamingJsonResult result = new StreamingJsonResult(new MessageOutput("output message"), false);
+
+        assertTrue(result.isSentWithinTransaction());
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+
+        assertNull(resp.getHeader("Content-Encoding"));
+        String json = new String(resp.getOutputStreamContent(), StandardCharsets.UTF_8);
+        MessageOutput output = JsonUtils.fromJson(json, MessageOutput.class);
+        assertEquals("output message", output.getMessage());
+    }
+
+    @Test
+    public void testSend_gzipAccepted_shouldWriteCompressedJson() throws Exception {
+        StreamingJsonResult result = new StreamingJsonResult(new MessageOutput("output message"), true);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+
+        assertEquals("gzip", resp.getHeader("Content-Encoding"));
+        String json = decompress(resp.getOutputStreamContent());
+        MessageOutput output = JsonUtils.fromJson(json, MessageOutput.class);
+        assertEquals("output message", output.getMessage());
+    }
+
+    private String decompress(byte[] content) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}